@@ -0,0 +1,85 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.dispatch.VehicleBatchProcessor;
+import org.javalearning.core.oop.inheritance.dispatch.VehicleHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per-element dispatch, as done by {@code VehiclePolymorphismDemo},
+ * with type-grouped dispatch through {@link VehicleBatchProcessor}.
+ *
+ * <p>Both variants do the same work per vehicle: render it with
+ * {@code toString()} and read one subtype attribute. The batched variant
+ * includes the cost of partitioning the fleet on every invocation.
+ * Results are reported as throughput in vehicles per microsecond.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BatchDispatchBenchmark {
+    static final int FLEET_SIZE = 4096;
+
+    @Param
+    private VehicleMix mix;
+
+    private Vehicle[] fleet;
+    private VehicleBatchProcessor processor;
+    private VehicleHandler handler;
+    private long checksum;
+
+    @Setup
+    public void setUp() {
+        fleet = mix.createFleet(FLEET_SIZE, 42L);
+        processor = new VehicleBatchProcessor();
+        handler = VehicleHandler.of(
+                vehicle -> checksum += vehicle.toString().length(),
+                car -> checksum += car.toString().length() + car.getNumDoors(),
+                motorcycle -> checksum += motorcycle.toString().length() + (motorcycle.getHasSideCar() ? 1 : 0));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLEET_SIZE)
+    public long perElementDispatch() {
+        long sum = 0;
+        for (Vehicle vehicle : fleet) {
+            sum += vehicle.toString().length();
+            if (vehicle instanceof Car) {
+                sum += ((Car) vehicle).getNumDoors();
+            } else if (vehicle instanceof Motorcycle) {
+                sum += ((Motorcycle) vehicle).getHasSideCar() ? 1 : 0;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLEET_SIZE)
+    public long typeGroupedDispatch() {
+        checksum = 0;
+        processor.process(fleet, handler);
+        return checksum;
+    }
+}
@@ -0,0 +1,50 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the shaded {@code benchmarks.jar}.
+ * Behaves like the stock JMH launcher but always attaches the {@link GCProfiler},
+ * so every run reports allocation rate ({@code gc.alloc.rate.norm}) next to the
+ * timing results.
+ *
+ * <p><strong>Usage:</strong>
+ * <pre>
+ * java -jar oop/benchmarks/target/benchmarks.jar                          # run everything
+ * java -jar oop/benchmarks/target/benchmarks.jar VehicleDispatchBenchmark # regex filter
+ * java -jar oop/benchmarks/target/benchmarks.jar -f 1 -wi 3 -i 5           # any JMH option
+ * </pre>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Parses standard JMH command line options and runs the selected benchmarks
+     * with the GC profiler enabled. Listing and help requests are handed to the
+     * stock JMH launcher unchanged.
+     *
+     * @param args JMH command line options
+     * @throws Exception if the options cannot be parsed or the benchmark run fails
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,111 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.validation.BulkVehicleValidator;
+import org.javalearning.core.oop.inheritance.validation.RawVehicleBatch;
+import org.javalearning.core.oop.inheritance.validation.ValidationReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a dirty feed through the throwing constructors with the
+ * non-throwing {@link BulkVehicleValidator}.
+ *
+ * <p>The feed mixes vehicles, cars and motorcycles. A configurable share of
+ * records (10% by default) has a blank brand, a negative year or a
+ * non-positive door count. Results are normalized per record.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BulkValidationBenchmark {
+    static final int FEED_SIZE = 10_000;
+
+    @Param({"10"})
+    private int errorPercent;
+
+    private RawVehicleBatch batch;
+    private ValidationReport report;
+    private BulkVehicleValidator validator;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7L);
+        String[] brands = VehicleMix.brands();
+        batch = new RawVehicleBatch(FEED_SIZE);
+        report = new ValidationReport(FEED_SIZE);
+        validator = new BulkVehicleValidator();
+        for (int i = 0; i < FEED_SIZE; i++) {
+            boolean dirty = random.nextInt(100) < errorPercent;
+            int fault = dirty ? random.nextInt(3) : -1;
+            String brand = fault == 0 ? "   " : brands[random.nextInt(brands.length)];
+            int year = fault == 1 ? -2020 : 1990 + random.nextInt(35);
+            switch (fault == 2 ? 0 : random.nextInt(3)) {
+                case 0:
+                    batch.addCar(brand, year, fault == 2 ? 0 : 2 + random.nextInt(4));
+                    break;
+                case 1:
+                    batch.addMotorcycle(brand, year, random.nextBoolean());
+                    break;
+                default:
+                    batch.addVehicle(brand, year);
+                    break;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FEED_SIZE)
+    public int constructorsWithExceptions(Blackhole blackhole) {
+        int rejected = 0;
+        for (int i = 0; i < FEED_SIZE; i++) {
+            try {
+                switch (batch.getType(i)) {
+                    case CAR:
+                        blackhole.consume(new Car(batch.getBrand(i), batch.getYear(i), batch.getNumDoors(i)));
+                        break;
+                    case MOTORCYCLE:
+                        blackhole.consume(new Motorcycle(batch.getBrand(i), batch.getYear(i), batch.getHasSideCar(i)));
+                        break;
+                    default:
+                        blackhole.consume(new Vehicle(batch.getBrand(i), batch.getYear(i)));
+                        break;
+                }
+            } catch (IllegalArgumentException e) {
+                blackhole.consume(e);
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FEED_SIZE)
+    public int bulkValidator(Blackhole blackhole) {
+        validator.process(batch, report, blackhole::consume);
+        return report.getInvalidCount();
+    }
+}
@@ -0,0 +1,151 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.changelog.FleetChangeLog;
+import org.javalearning.core.oop.inheritance.changelog.SyncPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Measures the write throughput and the recovery time of {@link FleetChangeLog}.
+ *
+ * <ul>
+ *   <li>{@link #insert} - eight threads inserting vehicles, once per {@link SyncPolicy};
+ *       concurrent writers share group commits</li>
+ *   <li>{@link #recoverFromLog} - opening a log of {@code recoverySize} inserts
+ *       without a snapshot, so every change is replayed</li>
+ *   <li>{@link #recoverFromSnapshot} - opening the same fleet after a compaction,
+ *       with 1% of the changes left in the log tail</li>
+ * </ul>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@Fork(1)
+public class ChangeLogBenchmark {
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Threads(8)
+    public long insert(WriteState state) throws IOException {
+        long id = state.nextId.getAndIncrement();
+        return state.log.insert(id, state.vehicles[(int) (id % state.vehicles.length)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public int recoverFromLog(RecoveryState state) throws IOException {
+        try (FleetChangeLog log = FleetChangeLog.open(state.logOnly, SyncPolicy.NEVER)) {
+            return log.size();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public int recoverFromSnapshot(RecoveryState state) throws IOException {
+        try (FleetChangeLog log = FleetChangeLog.open(state.compacted, SyncPolicy.NEVER)) {
+            return log.size();
+        }
+    }
+
+    /**
+     * An open log that the writer threads share.
+     */
+    @State(Scope.Benchmark)
+    public static class WriteState {
+        @Param({"ALWAYS", "PERIODIC", "NEVER"})
+        private SyncPolicy policy;
+
+        private final AtomicLong nextId = new AtomicLong();
+        private Path directory;
+        private FleetChangeLog log;
+        private Vehicle[] vehicles;
+
+        @Setup
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("change-log-benchmark");
+            log = FleetChangeLog.open(directory, policy);
+            vehicles = VehicleMix.MEGAMORPHIC.createFleet(1024, 42L);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            log.close();
+            deleteRecursively(directory);
+        }
+    }
+
+    /**
+     * Two log directories describing the same fleet, one without and one with a snapshot.
+     */
+    @State(Scope.Benchmark)
+    public static class RecoveryState {
+        @Param({"10000000"})
+        private int recoverySize;
+
+        private Path logOnly;
+        private Path compacted;
+
+        @Setup
+        public void setUp() throws Exception {
+            Vehicle[] vehicles = VehicleMix.MEGAMORPHIC.createFleet(1024, 42L);
+            logOnly = Files.createTempDirectory("change-log-benchmark");
+            compacted = Files.createTempDirectory("change-log-benchmark");
+            int tail = recoverySize / 100;
+            try (FleetChangeLog plain = FleetChangeLog.open(logOnly, SyncPolicy.NEVER);
+                 FleetChangeLog snapshotted = FleetChangeLog.open(compacted, SyncPolicy.NEVER)) {
+                for (int id = 0; id < recoverySize; id++) {
+                    Vehicle vehicle = vehicles[id % vehicles.length];
+                    plain.insert(id, vehicle);
+                    snapshotted.insert(id, vehicle);
+                    if (id == recoverySize - tail) {
+                        snapshotted.compact().get();
+                    }
+                }
+            }
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            deleteRecursively(logOnly);
+            deleteRecursively(compacted);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
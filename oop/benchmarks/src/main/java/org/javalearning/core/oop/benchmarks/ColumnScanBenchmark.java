@@ -0,0 +1,87 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.javalearning.core.oop.inheritance.scan.FleetScanner;
+import org.javalearning.core.oop.inheritance.scan.ScanAggregate;
+import org.javalearning.core.oop.inheritance.scan.ScanKernel;
+import org.javalearning.core.oop.inheritance.scan.ScanPredicate;
+import org.javalearning.core.oop.inheritance.scan.Selection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the predicate {@code year >= 2020 && numDoors == 4} evaluated per
+ * object over a {@code Vehicle[]} with the same predicate evaluated by
+ * {@link FleetScanner} over primitive columns, once per {@link ScanKernel}.
+ *
+ * <p>Every fork starts with {@code --add-modules jdk.incubator.vector}, so both
+ * kernels can run; the {@code kernel} parameter selects which one the scanner uses.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class ColumnScanBenchmark {
+    private static final ScanPredicate RECENT_FOUR_DOORS = ScanPredicate.all().yearAtLeast(2020).doors(4);
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"SCALAR", "VECTOR"})
+    private ScanKernel kernel;
+
+    private Vehicle[] objects;
+    private FleetScanner scanner;
+
+    @Setup
+    public void setUp() {
+        objects = VehicleMix.MEGAMORPHIC.createFleet(size, 42L);
+        VehicleFleet fleet = VehicleMix.MEGAMORPHIC.createColumnarFleet(size, 42L);
+        scanner = new FleetScanner(fleet, kernel);
+    }
+
+    @Benchmark
+    public int objectCount() {
+        int count = 0;
+        for (Vehicle vehicle : objects) {
+            if (vehicle.getYear() >= 2020 && vehicle instanceof Car && ((Car) vehicle).getNumDoors() == 4) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int scanCount() {
+        return scanner.count(RECENT_FOUR_DOORS);
+    }
+
+    @Benchmark
+    public Selection scanSelect() {
+        return scanner.select(RECENT_FOUR_DOORS);
+    }
+
+    @Benchmark
+    public ScanAggregate scanAggregate() {
+        return scanner.aggregate(RECENT_FOUR_DOORS);
+    }
+}
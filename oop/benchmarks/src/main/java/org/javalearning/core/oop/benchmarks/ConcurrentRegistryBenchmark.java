@@ -0,0 +1,141 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.registry.ConcurrentFleetRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ConcurrentFleetRegistry} under concurrent readers and writers,
+ * with {@link ConcurrentHashMap} as the baseline.
+ *
+ * <p><strong>Groups:</strong>
+ * <ul>
+ *   <li>{@code readWrite} - three threads doing point reads and one thread
+ *       alternating inserts and removals on random ids</li>
+ *   <li>{@code scanWhileWriting} - one thread scanning the whole fleet while
+ *       another writes. The registry scans a consistent snapshot; the map's
+ *       iterator is only weakly consistent and may see some writes but not others</li>
+ * </ul>
+ * Thread counts are fixed by the group layout; on machines with fewer cores the
+ * threads time-share and the results show overhead rather than scalability.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Group)
+public class ConcurrentRegistryBenchmark {
+
+    /**
+     * The registry implementation under test.
+     */
+    public enum Implementation {
+        REGISTRY,
+        CONCURRENT_HASH_MAP
+    }
+
+    @Param({"REGISTRY", "CONCURRENT_HASH_MAP"})
+    private Implementation implementation;
+
+    @Param({"1000000"})
+    private int size;
+
+    private Vehicle[] vehicles;
+    private ConcurrentFleetRegistry registry;
+    private ConcurrentHashMap<Long, Vehicle> map;
+
+    @Setup
+    public void setUp() {
+        vehicles = VehicleMix.MEGAMORPHIC.createFleet(size, 42L);
+        registry = new ConcurrentFleetRegistry();
+        map = new ConcurrentHashMap<>(size);
+        for (int id = 0; id < size; id++) {
+            if (implementation == Implementation.REGISTRY) {
+                registry.put(id, vehicles[id]);
+            } else {
+                map.put((long) id, vehicles[id]);
+            }
+        }
+    }
+
+    /**
+     * Per-thread random id source.
+     */
+    @State(Scope.Thread)
+    public static class Ids {
+        private final SplittableRandom random = new SplittableRandom();
+        private boolean insert;
+
+        int next(int bound) {
+            return random.nextInt(bound);
+        }
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public Vehicle read(Ids ids) {
+        return get(ids.next(size));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public Vehicle write(Ids ids) {
+        return update(ids);
+    }
+
+    @Benchmark
+    @Group("scanWhileWriting")
+    @GroupThreads(1)
+    public long scan() {
+        long[] years = new long[1];
+        if (implementation == Implementation.REGISTRY) {
+            registry.snapshot().forEach((id, vehicle) -> years[0] += vehicle.getYear());
+        } else {
+            map.forEach((id, vehicle) -> years[0] += vehicle.getYear());
+        }
+        return years[0];
+    }
+
+    @Benchmark
+    @Group("scanWhileWriting")
+    @GroupThreads(1)
+    public Vehicle scanWriter(Ids ids) {
+        return update(ids);
+    }
+
+    private Vehicle get(int id) {
+        return implementation == Implementation.REGISTRY ? registry.get(id) : map.get((long) id);
+    }
+
+    private Vehicle update(Ids ids) {
+        int id = ids.next(size);
+        ids.insert = !ids.insert;
+        if (implementation == Implementation.REGISTRY) {
+            return ids.insert ? registry.put(id, vehicles[id]) : registry.remove(id);
+        }
+        return ids.insert ? map.put((long) id, vehicles[id]) : map.remove((long) id);
+    }
+}
@@ -0,0 +1,69 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.analytics.FleetAnalytics;
+import org.javalearning.core.oop.inheritance.analytics.FleetStatistics;
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link FleetAnalytics} scales with the number of worker threads.
+ *
+ * <p>Each configuration runs the full aggregation (brand counts, year
+ * histogram, average car doors, sidecar ratio) on a dedicated
+ * {@link ForkJoinPool} of the given parallelism. The default fleet size is
+ * 50 million records. Use {@code -p size=...} for smaller machines and
+ * {@code -p parallelism=...} to match the core count.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class FleetAnalyticsBenchmark {
+
+    @Param({"50000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private VehicleFleet fleet;
+    private ForkJoinPool pool;
+    private FleetAnalytics analytics;
+
+    @Setup
+    public void setUp() {
+        fleet = VehicleMix.MEGAMORPHIC.createColumnarFleet(size, 42L);
+        pool = new ForkJoinPool(parallelism);
+        analytics = new FleetAnalytics(pool, 1 << 16);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public FleetStatistics analyze() {
+        return analytics.analyze(fleet);
+    }
+}
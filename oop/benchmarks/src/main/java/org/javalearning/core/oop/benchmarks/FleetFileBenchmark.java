@@ -0,0 +1,87 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.javalearning.core.oop.inheritance.storage.FleetFile;
+import org.javalearning.core.oop.inheritance.storage.MappedFleet;
+import org.javalearning.core.oop.inheritance.storage.VehicleView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the startup work of a job that needs a fleet from disk.
+ *
+ * <ul>
+ *   <li>{@link #openAndScanViews} - map the file and read every year through a flyweight</li>
+ *   <li>{@link #openAndMaterialize} - map the file and re-instantiate every vehicle,
+ *       as a job that rebuilds its object graph at startup would</li>
+ * </ul>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FleetFileBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        VehicleFleet fleet = new VehicleFleet(size);
+        for (Vehicle vehicle : VehicleMix.MEGAMORPHIC.createFleet(size, 42L)) {
+            fleet.add(vehicle);
+        }
+        file = Files.createTempFile("fleet-benchmark", ".vflt");
+        FleetFile.save(fleet, file);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long openAndScanViews() throws IOException {
+        MappedFleet fleet = FleetFile.open(file);
+        VehicleView view = fleet.view();
+        long sum = 0;
+        for (long i = 0, n = fleet.size(); i < n; i++) {
+            sum += view.moveTo(i).getYear();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Vehicle[] openAndMaterialize() throws IOException {
+        MappedFleet fleet = FleetFile.open(file);
+        Vehicle[] vehicles = new Vehicle[(int) fleet.size()];
+        for (int i = 0; i < vehicles.length; i++) {
+            vehicles[i] = fleet.get(i);
+        }
+        return vehicles;
+    }
+}
@@ -0,0 +1,94 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.index.FleetIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares filtering a columnar {@link VehicleFleet} by full scan with the same
+ * filters answered by a {@link FleetIndex}.
+ *
+ * <p>Both variants visit every matching row and sum the row indexes, so the
+ * index is charged for producing its result, not just for counting it:
+ * <ul>
+ *   <li>{@code recentToyotas} - brand AND year range, about 1.5% of the fleet</li>
+ *   <li>{@code twoDoorCarsOrSideCars} - car door count OR motorcycle type, about 42% of the fleet</li>
+ * </ul>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FleetIndexBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private VehicleFleet fleet;
+    private FleetIndex index;
+    private int toyota;
+
+    @Setup
+    public void setUp() {
+        fleet = VehicleMix.MEGAMORPHIC.createColumnarFleet(size, 42L);
+        index = new FleetIndex(fleet);
+        toyota = fleet.getBrands().idOf("Toyota");
+    }
+
+    @Benchmark
+    public long scanRecentToyotas() {
+        long sum = 0;
+        for (int i = 0, n = fleet.size(); i < n; i++) {
+            int year = fleet.getYear(i);
+            if (fleet.getBrandId(i) == toyota && year >= 2020 && year <= 2023) {
+                sum += i;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long indexRecentToyotas() {
+        long[] sum = new long[1];
+        index.brand("Toyota").and(index.yearRange(2020, 2023)).forEach(row -> sum[0] += row);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long scanTwoDoorCarsOrMotorcycles() {
+        long sum = 0;
+        for (int i = 0, n = fleet.size(); i < n; i++) {
+            VehicleType type = fleet.getType(i);
+            if (type == VehicleType.MOTORCYCLE || (type == VehicleType.CAR && fleet.getNumDoors(i) == 2)) {
+                sum += i;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long indexTwoDoorCarsOrMotorcycles() {
+        long[] sum = new long[1];
+        index.carsWithDoors(2).or(index.type(VehicleType.MOTORCYCLE)).forEach(row -> sum[0] += row);
+        return sum[0];
+    }
+}
@@ -0,0 +1,94 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares attribute scans over an object array ({@code Vehicle[]}) with the
+ * same scans over the columnar {@link VehicleFleet}.
+ *
+ * <p>Each object array access loads a reference and then dereferences it into a
+ * separate heap object, while the fleet reads its primitive columns sequentially.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FleetScanBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Vehicle[] objects;
+    private VehicleFleet fleet;
+
+    @Setup
+    public void setUp() {
+        objects = VehicleMix.MEGAMORPHIC.createFleet(size, 42L);
+        fleet = new VehicleFleet(size);
+        for (Vehicle vehicle : objects) {
+            fleet.add(vehicle);
+        }
+    }
+
+    @Benchmark
+    public long objectYearSum() {
+        long sum = 0;
+        for (Vehicle vehicle : objects) {
+            sum += vehicle.getYear();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fleetYearSum() {
+        long sum = 0;
+        for (int i = 0, n = fleet.size(); i < n; i++) {
+            sum += fleet.getYear(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long objectCarDoors() {
+        long doors = 0;
+        for (Vehicle vehicle : objects) {
+            if (vehicle instanceof Car) {
+                doors += ((Car) vehicle).getNumDoors();
+            }
+        }
+        return doors;
+    }
+
+    @Benchmark
+    public long fleetCarDoors() {
+        long doors = 0;
+        for (int i = 0, n = fleet.size(); i < n; i++) {
+            if (fleet.getType(i) == VehicleType.CAR) {
+                doors += fleet.getNumDoors(i);
+            }
+        }
+        return doors;
+    }
+}
@@ -0,0 +1,130 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.index.FleetIndex;
+import org.javalearning.core.oop.inheritance.sort.FleetSortOrder;
+import org.javalearning.core.oop.inheritance.sort.FleetSorter;
+import org.javalearning.core.oop.inheritance.sort.SortField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code Arrays.sort} with comparators over {@link Vehicle} objects to
+ * the packed-key radix sort and heap top-K of {@link FleetSorter}.
+ *
+ * <p><strong>Benchmarks:</strong>
+ * <ul>
+ *   <li>{@code ...ByYear} and {@code ...ByBrandThenYear} - sort a copy of the
+ *       fleet with a comparator, with {@link FleetSorter} on the same
+ *       {@code Vehicle[]}, and with {@link FleetSorter} on the columnar fleet</li>
+ *   <li>{@code ...NewestToyotaCars} - the 1000 newest Toyota cars, by filtering
+ *       and sorting the candidates with a comparator versus a bounded heap over
+ *       {@link FleetIndex} rows</li>
+ * </ul>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FleetSortBenchmark {
+    private static final int TOP_K = 1000;
+
+    private static final Comparator<Vehicle> BY_YEAR = Comparator.comparingInt(Vehicle::getYear);
+    private static final Comparator<Vehicle> BY_BRAND_THEN_YEAR =
+            Comparator.comparing(Vehicle::getBrand).thenComparingInt(Vehicle::getYear);
+    private static final Comparator<Vehicle> NEWEST_FIRST = BY_YEAR.reversed();
+
+    private static final FleetSortOrder YEAR = FleetSortOrder.by(SortField.YEAR);
+    private static final FleetSortOrder BRAND_THEN_YEAR = FleetSortOrder.by(SortField.BRAND).then(SortField.YEAR);
+    private static final FleetSortOrder NEWEST = FleetSortOrder.byDescending(SortField.YEAR);
+
+    @Param({"1000000"})
+    private int size;
+
+    private Vehicle[] vehicles;
+    private VehicleFleet fleet;
+    private FleetIndex index;
+    private FleetSorter sorter;
+
+    @Setup
+    public void setUp() {
+        vehicles = VehicleMix.MEGAMORPHIC.createFleet(size, 42L);
+        fleet = VehicleMix.MEGAMORPHIC.createColumnarFleet(size, 42L);
+        index = new FleetIndex(fleet);
+        sorter = new FleetSorter();
+    }
+
+    @Benchmark
+    public Vehicle[] comparatorByYear() {
+        Vehicle[] copy = vehicles.clone();
+        Arrays.sort(copy, BY_YEAR);
+        return copy;
+    }
+
+    @Benchmark
+    public Vehicle[] radixVehiclesByYear() {
+        Vehicle[] copy = vehicles.clone();
+        sorter.sort(copy, YEAR);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] radixFleetByYear() {
+        return sorter.sort(fleet, YEAR);
+    }
+
+    @Benchmark
+    public Vehicle[] comparatorByBrandThenYear() {
+        Vehicle[] copy = vehicles.clone();
+        Arrays.sort(copy, BY_BRAND_THEN_YEAR);
+        return copy;
+    }
+
+    @Benchmark
+    public Vehicle[] radixVehiclesByBrandThenYear() {
+        Vehicle[] copy = vehicles.clone();
+        sorter.sort(copy, BRAND_THEN_YEAR);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] radixFleetByBrandThenYear() {
+        return sorter.sort(fleet, BRAND_THEN_YEAR);
+    }
+
+    @Benchmark
+    public Vehicle[] comparatorNewestToyotaCars() {
+        return Arrays.stream(vehicles)
+                .filter(vehicle -> vehicle instanceof Car && vehicle.getBrand().equals("Toyota"))
+                .sorted(NEWEST_FIRST)
+                .limit(TOP_K)
+                .toArray(Vehicle[]::new);
+    }
+
+    @Benchmark
+    public int[] heapNewestToyotaCars() {
+        return sorter.topK(fleet, index.brand("Toyota").and(index.type(VehicleType.CAR)), NEWEST, TOP_K);
+    }
+}
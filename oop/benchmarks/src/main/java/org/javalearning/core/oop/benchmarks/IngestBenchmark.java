@@ -0,0 +1,120 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.ingest.IngestStats;
+import org.javalearning.core.oop.inheritance.ingest.RecordFormat;
+import org.javalearning.core.oop.inheritance.ingest.VehicleIngestor;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link VehicleIngestor} throughput on generated CSV and NDJSON files.
+ *
+ * <p>Besides the time per file, the benchmark reports two auxiliary counters,
+ * normalized per second by JMH:
+ * <ul>
+ *   <li>{@code records} - input records processed per second</li>
+ *   <li>{@code megabytes} - input megabytes (10^6 bytes) read per second</li>
+ * </ul>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IngestBenchmark {
+
+    @Param({"CSV", "NDJSON"})
+    private RecordFormat format;
+
+    @Param({"1000000"})
+    private int records;
+
+    private Path file;
+    private VehicleIngestor ingestor;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+        public long records;
+        public double megabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            records = 0;
+            megabytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("ingest-benchmark", format == RecordFormat.CSV ? ".csv" : ".ndjson");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (Vehicle vehicle : VehicleMix.MEGAMORPHIC.createFleet(records, 42L)) {
+                writer.write(format == RecordFormat.CSV ? toCsv(vehicle) : toNdjson(vehicle));
+                writer.newLine();
+            }
+        }
+        ingestor = new VehicleIngestor(format, new BrandRegistry(), 1 << 20);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public IngestStats ingestFile(Throughput throughput, Blackhole blackhole) throws IOException {
+        IngestStats stats = ingestor.ingest(file, blackhole::consume);
+        throughput.records += stats.getAcceptedCount() + stats.getRejectedCount();
+        throughput.megabytes += stats.getBytesRead() / 1e6;
+        return stats;
+    }
+
+    private static String toCsv(Vehicle vehicle) {
+        if (vehicle instanceof Car car) {
+            return "Car," + car.getBrand() + "," + car.getYear() + "," + car.getNumDoors() + ",";
+        } else if (vehicle instanceof Motorcycle motorcycle) {
+            return "Motorcycle," + motorcycle.getBrand() + "," + motorcycle.getYear() + ",," + motorcycle.getHasSideCar();
+        }
+        return "Vehicle," + vehicle.getBrand() + "," + vehicle.getYear() + ",,";
+    }
+
+    private static String toNdjson(Vehicle vehicle) {
+        String common = "\"brand\":\"" + vehicle.getBrand() + "\",\"year\":" + vehicle.getYear();
+        if (vehicle instanceof Car car) {
+            return "{\"type\":\"Car\"," + common + ",\"numDoors\":" + car.getNumDoors() + "}";
+        } else if (vehicle instanceof Motorcycle motorcycle) {
+            return "{\"type\":\"Motorcycle\"," + common + ",\"hasSideCar\":" + motorcycle.getHasSideCar() + "}";
+        }
+        return "{\"type\":\"Vehicle\"," + common + "}";
+    }
+}
@@ -0,0 +1,150 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.metrics.VehicleMetrics;
+import org.javalearning.core.oop.inheritance.validation.BulkVehicleValidator;
+import org.javalearning.core.oop.inheritance.validation.RawVehicleBatch;
+import org.javalearning.core.oop.inheritance.validation.ValidationReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the {@link VehicleMetrics} counters and the JFR events
+ * on the two instrumented hot paths: vehicle construction and bulk validation.
+ *
+ * <p>Each path runs in three JVM configurations, selected per method through
+ * {@link Fork#jvmArgsAppend()}:
+ * <ul>
+ *   <li>{@code ...MetricsDisabled} - counters compiled away, no recording (the baseline)</li>
+ *   <li>no suffix - the default: counters on, no recording</li>
+ *   <li>{@code ...JfrRecording} - counters on and a flight recording capturing all events</li>
+ * </ul>
+ * The construction feed is valid; the validation feed has 10% bad records,
+ * counted per batch and reported through one bulk event per call.
+ * Results are normalized per record.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class InstrumentationBenchmark {
+    static final int FEED_SIZE = 10_000;
+
+    private static final String METRICS_DISABLED = "-D" + VehicleMetrics.DISABLED_PROPERTY + "=true";
+    private static final String JFR_RECORDING = "-XX:StartFlightRecording";
+
+    private RawVehicleBatch validFeed;
+    private RawVehicleBatch dirtyFeed;
+    private ValidationReport report;
+    private BulkVehicleValidator validator;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7L);
+        String[] brands = VehicleMix.brands();
+        validFeed = new RawVehicleBatch(FEED_SIZE);
+        dirtyFeed = new RawVehicleBatch(FEED_SIZE);
+        report = new ValidationReport(FEED_SIZE);
+        validator = new BulkVehicleValidator();
+        for (int i = 0; i < FEED_SIZE; i++) {
+            String brand = brands[random.nextInt(brands.length)];
+            int year = 1990 + random.nextInt(35);
+            boolean dirty = random.nextInt(100) < 10;
+            switch (random.nextInt(3)) {
+                case 0:
+                    int doors = 2 + random.nextInt(4);
+                    validFeed.addCar(brand, year, doors);
+                    dirtyFeed.addCar(brand, year, dirty ? 0 : doors);
+                    break;
+                case 1:
+                    validFeed.addMotorcycle(brand, year, random.nextBoolean());
+                    dirtyFeed.addMotorcycle(dirty ? " " : brand, year, false);
+                    break;
+                default:
+                    validFeed.addVehicle(brand, year);
+                    dirtyFeed.addVehicle(brand, dirty ? -year : year);
+                    break;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FEED_SIZE)
+    public void construct(Blackhole blackhole) {
+        constructAll(blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FEED_SIZE)
+    @Fork(value = 2, jvmArgsAppend = METRICS_DISABLED)
+    public void constructMetricsDisabled(Blackhole blackhole) {
+        constructAll(blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FEED_SIZE)
+    @Fork(value = 2, jvmArgsAppend = JFR_RECORDING)
+    public void constructJfrRecording(Blackhole blackhole) {
+        constructAll(blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FEED_SIZE)
+    public int validate() {
+        validator.validate(dirtyFeed, report);
+        return report.getInvalidCount();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FEED_SIZE)
+    @Fork(value = 2, jvmArgsAppend = METRICS_DISABLED)
+    public int validateMetricsDisabled() {
+        validator.validate(dirtyFeed, report);
+        return report.getInvalidCount();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FEED_SIZE)
+    @Fork(value = 2, jvmArgsAppend = JFR_RECORDING)
+    public int validateJfrRecording() {
+        validator.validate(dirtyFeed, report);
+        return report.getInvalidCount();
+    }
+
+    private void constructAll(Blackhole blackhole) {
+        for (int i = 0; i < FEED_SIZE; i++) {
+            switch (validFeed.getType(i)) {
+                case CAR:
+                    blackhole.consume(new Car(validFeed.getBrand(i), validFeed.getYear(i), validFeed.getNumDoors(i)));
+                    break;
+                case MOTORCYCLE:
+                    blackhole.consume(new Motorcycle(validFeed.getBrand(i), validFeed.getYear(i), validFeed.getHasSideCar(i)));
+                    break;
+                default:
+                    blackhole.consume(new Vehicle(validFeed.getBrand(i), validFeed.getYear(i)));
+                    break;
+            }
+        }
+    }
+}
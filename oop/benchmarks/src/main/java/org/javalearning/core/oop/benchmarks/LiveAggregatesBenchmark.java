@@ -0,0 +1,104 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.analytics.AggregateSnapshot;
+import org.javalearning.core.oop.inheritance.analytics.FleetAnalytics;
+import org.javalearning.core.oop.inheritance.analytics.FleetStatistics;
+import org.javalearning.core.oop.inheritance.analytics.LiveFleetAggregates;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of refreshing fleet aggregates after a batch of arrivals:
+ * recomputing everything with {@link FleetAnalytics} versus updating
+ * {@link LiveFleetAggregates} incrementally.
+ *
+ * <p><strong>Benchmarks:</strong>
+ * <ul>
+ *   <li>{@code recomputeAfterBatch} - one full aggregation over the fleet</li>
+ *   <li>{@code incrementalBatch} - adding, then removing, one batch of vehicles</li>
+ *   <li>{@code readWrite} - a thread taking snapshots while another thread
+ *       adds and removes vehicles, to show that readers do not stall writers</li>
+ * </ul>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class LiveAggregatesBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"1000"})
+    private int batchSize;
+
+    private VehicleFleet fleet;
+    private FleetAnalytics analytics;
+    private LiveFleetAggregates live;
+    private Vehicle[] batch;
+    private long time;
+
+    @Setup
+    public void setUp() {
+        fleet = VehicleMix.MEGAMORPHIC.createColumnarFleet(size, 42L);
+        analytics = new FleetAnalytics();
+        live = new LiveFleetAggregates(Duration.ofMinutes(1), 60);
+        for (Vehicle vehicle : VehicleMix.MEGAMORPHIC.createFleet(size, 42L)) {
+            live.add(vehicle, 0L);
+        }
+        batch = VehicleMix.MEGAMORPHIC.createFleet(batchSize, 7L);
+    }
+
+    @Benchmark
+    public FleetStatistics recomputeAfterBatch() {
+        return analytics.analyze(fleet);
+    }
+
+    @Benchmark
+    public LiveFleetAggregates incrementalBatch() {
+        long now = time += 1000L;
+        for (Vehicle vehicle : batch) {
+            live.add(vehicle, now);
+        }
+        for (Vehicle vehicle : batch) {
+            live.remove(vehicle, now);
+        }
+        return live;
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public LiveFleetAggregates writer() {
+        return incrementalBatch();
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public AggregateSnapshot reader() {
+        return live.snapshot();
+    }
+}
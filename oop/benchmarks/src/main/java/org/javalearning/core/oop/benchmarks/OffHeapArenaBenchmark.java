@@ -0,0 +1,119 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.storage.VehicleArena;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares keeping a large fleet alive as an on-heap {@code Vehicle[]} with
+ * keeping it in an off-heap {@link VehicleArena}.
+ *
+ * <p><strong>Measurements:</strong>
+ * <ul>
+ *   <li>{@code fullGc} - one {@code System.gc()} with the fleet live, a proxy
+ *       for the old-generation tracing work the fleet adds to every major collection</li>
+ *   <li>{@code sumYears} - a full attribute scan, to show the access cost of each layout</li>
+ * </ul>
+ * The setup prints the retained heap and the direct memory of each storage to
+ * the fork's output, as lines starting with {@code # Footprint}.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xmx2g", "-XX:+UseG1GC"})
+@State(Scope.Benchmark)
+public class OffHeapArenaBenchmark {
+
+    /**
+     * Where the fleet is kept.
+     */
+    public enum Storage {
+        HEAP,
+        OFF_HEAP
+    }
+
+    @Param({"10000000"})
+    private int size;
+
+    @Param({"HEAP", "OFF_HEAP"})
+    private Storage storage;
+
+    private Vehicle[] objects;
+    private VehicleArena arena;
+
+    @Setup
+    public void setUp() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        if (storage == Storage.HEAP) {
+            objects = VehicleMix.MEGAMORPHIC.createFleet(size, 42L);
+        } else {
+            arena = new VehicleArena();
+            for (Vehicle vehicle : VehicleMix.MEGAMORPHIC.createFleet(size, 42L)) {
+                arena.add(vehicle);
+            }
+        }
+        System.gc();
+        long heapAfter = memory.getHeapMemoryUsage().getUsed();
+        long direct = 0;
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) {
+                direct = pool.getMemoryUsed();
+            }
+        }
+        System.out.printf("%n# Footprint %s, %d vehicles: heap %d MB, direct %d MB%n",
+                storage, size, (heapAfter - heapBefore) >> 20, direct >> 20);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (arena != null) {
+            arena.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public void fullGc() {
+        System.gc();
+    }
+
+    @Benchmark
+    public long sumYears() {
+        long sum = 0;
+        if (storage == Storage.HEAP) {
+            for (Vehicle vehicle : objects) {
+                sum += vehicle.getYear();
+            }
+        } else {
+            for (long i = 0, n = arena.size(); i < n; i++) {
+                sum += arena.getYear(i);
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,71 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.report.FleetReportWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering a fleet report line by line through an auto-flushing
+ * {@link PrintStream}, the way the demos use {@code System.out}, with
+ * {@link FleetReportWriter}.
+ *
+ * <p>Both variants write to a discarding sink so the benchmark measures
+ * rendering, locking and flushing rather than terminal or disk speed.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ReportRenderingBenchmark {
+    static final int FLEET_SIZE = 10_000;
+
+    private Vehicle[] fleet;
+    private PrintStream printStream;
+    private FleetReportWriter reportWriter;
+
+    @Setup
+    public void setUp() {
+        fleet = VehicleMix.MEGAMORPHIC.createFleet(FLEET_SIZE, 42L);
+        printStream = new PrintStream(new BufferedOutputStream(OutputStream.nullOutputStream()), true);
+        reportWriter = new FleetReportWriter(Channels.newChannel(OutputStream.nullOutputStream()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLEET_SIZE)
+    public void printlnPerVehicle() {
+        for (Vehicle vehicle : fleet) {
+            printStream.println("► " + vehicle);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLEET_SIZE)
+    public long fleetReportWriter() throws IOException {
+        long written = reportWriter.writeLines("► ", fleet);
+        reportWriter.flush();
+        return written;
+    }
+}
@@ -0,0 +1,101 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.scan.ScanPredicate;
+import org.javalearning.core.oop.inheritance.shard.FleetShard;
+import org.javalearning.core.oop.inheritance.shard.LocalFleetShard;
+import org.javalearning.core.oop.inheritance.shard.RemoteFleetShard;
+import org.javalearning.core.oop.inheritance.shard.ShardPartitioner;
+import org.javalearning.core.oop.inheritance.shard.ShardServer;
+import org.javalearning.core.oop.inheritance.shard.ShardTransport;
+import org.javalearning.core.oop.inheritance.shard.ShardedFleetStore;
+import org.javalearning.core.oop.inheritance.sort.FleetSortOrder;
+import org.javalearning.core.oop.inheritance.sort.SortField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scatter-gather query throughput of {@link ShardedFleetStore} as the
+ * number of shards grows, with in-process shards and with shards behind the
+ * loopback {@link ShardTransport}.
+ *
+ * <p>Every query scans each shard on its own thread, so on a machine with at
+ * least as many cores as shards, throughput should grow roughly linearly with
+ * the shard count. The remote variant adds the cost of encoding and decoding
+ * every request and result.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ShardedStoreBenchmark {
+
+    private static final ScanPredicate RECENT_CARS = ScanPredicate.all().yearAtLeast(2015).types(VehicleType.CAR);
+    private static final FleetSortOrder NEWEST_FIRST = FleetSortOrder.byDescending(SortField.YEAR).then(SortField.BRAND);
+
+    @Param({"1", "2", "4", "8"})
+    private int shards;
+
+    @Param({"false", "true"})
+    private boolean remote;
+
+    @Param({"2000000"})
+    private int size;
+
+    private ExecutorService executor;
+    private ShardedFleetStore store;
+
+    @Setup
+    public void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<FleetShard> shardList = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            LocalFleetShard shard = new LocalFleetShard();
+            shardList.add(remote ? new RemoteFleetShard(ShardTransport.loopback(new ShardServer(shard))) : shard);
+        }
+        store = new ShardedFleetStore(ShardPartitioner.byBrandHash(shards), shardList, executor);
+        Vehicle[] vehicles = VehicleMix.MEGAMORPHIC.createFleet(size, 42L);
+        store.addAll(Arrays.asList(vehicles));
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public long count() {
+        return store.count(RECENT_CARS);
+    }
+
+    @Benchmark
+    public List<Vehicle> topK() {
+        return store.topK(RECENT_CARS, NEWEST_FIRST, 10);
+    }
+}
@@ -0,0 +1,127 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the wall-clock time of a complete launcher JVM, from process start
+ * to exit, with and without class-data sharing.
+ *
+ * <p>Each invocation starts a fresh {@code java} process running the
+ * {@code org.javalearning.core.oop.inheritance.basic.Main} launcher on the
+ * benchmark's own class path with {@code --add-modules jdk.incubator.vector},
+ * as the {@code appcds} training run does, so it includes JVM boot, class
+ * loading and the program itself:
+ * <ul>
+ *   <li>{@code OFF} - {@code -Xshare:off}, every class is loaded and verified from its jar</li>
+ *   <li>{@code DEFAULT} - the JDK's built-in archive of core library classes</li>
+ *   <li>{@code APP} - an AppCDS archive of the launcher's classes, dumped in setup the
+ *       same way as the {@code appcds} profile of the examples module</li>
+ * </ul>
+ *
+ * <p>The archive can only be dumped from jars; when the class path contains
+ * directories, e.g. inside an IDE, setup fails. Run it from the benchmarks jar.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    private static final String LAUNCHER = "org.javalearning.core.oop.inheritance.basic.Main";
+    private static final String WORKLOAD_SIZE = "--size=10000";
+    private static final String VECTOR_MODULE = "--add-modules=jdk.incubator.vector";
+
+    /**
+     * The class-data sharing setup of the launched JVM.
+     */
+    public enum Sharing {
+        OFF,
+        DEFAULT,
+        APP
+    }
+
+    @Param({"OFF", "DEFAULT", "APP"})
+    private Sharing sharing;
+
+    @Param({"basic", "all"})
+    private String program;
+
+    private Path directory;
+    private Path archive;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        directory = Files.createTempDirectory("startup-benchmark");
+        archive = directory.resolve("launcher.jsa");
+        if (sharing == Sharing.APP) {
+            run(List.of("-XX:ArchiveClassesAtExit=" + archive));
+            if (!Files.exists(archive)) {
+                throw new IllegalStateException("No CDS archive was dumped; is the class path made of jars only?");
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(archive);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public int launch() throws IOException, InterruptedException {
+        switch (sharing) {
+            case OFF:
+                return run(List.of("-Xshare:off"));
+            case APP:
+                return run(List.of("-XX:SharedArchiveFile=" + archive));
+            default:
+                return run(List.of());
+        }
+    }
+
+    private int run(List<String> options) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(options);
+        command.add(VECTOR_MODULE);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(LAUNCHER);
+        command.add(WORKLOAD_SIZE);
+        command.add(program);
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException("Launcher exited with " + exitCode + ": " + command);
+        }
+        return exitCode;
+    }
+}
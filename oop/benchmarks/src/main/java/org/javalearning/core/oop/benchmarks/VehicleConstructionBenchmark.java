@@ -0,0 +1,56 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of constructing each type in the vehicle hierarchy,
+ * including the argument validation performed by the constructors.
+ *
+ * <p>Constructor arguments live in non-final state fields so the JIT cannot
+ * constant-fold the validation away. Returning the new object hands it to
+ * JMH's blackhole, which keeps escape analysis from eliminating the allocation.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class VehicleConstructionBenchmark {
+    private String brand = "Toyota";
+    private int year = 2021;
+    private int numDoors = 4;
+    private boolean hasSideCar = true;
+
+    @Benchmark
+    public Vehicle newVehicle() {
+        return new Vehicle(brand, year);
+    }
+
+    @Benchmark
+    public Car newCar() {
+        return new Car(brand, year, numDoors);
+    }
+
+    @Benchmark
+    public Motorcycle newMotorcycle() {
+        return new Motorcycle(brand, year, hasSideCar);
+    }
+}
@@ -0,0 +1,96 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures common per-vehicle dispatch patterns over a {@code Vehicle[]} under
+ * monomorphic, bimorphic and megamorphic receiver mixes.
+ *
+ * <p><strong>Scenarios:</strong>
+ * <ul>
+ *   <li>{@link #instanceofChain} - the {@code instanceof Car} / {@code instanceof Motorcycle}
+ *       cascade followed by a cast and a subtype getter</li>
+ *   <li>{@link #virtualToString} - a polymorphic {@code toString()} call per vehicle</li>
+ *   <li>{@link #virtualGetters} - the inherited {@code getBrand()}/{@code getYear()}
+ *       calls per vehicle</li>
+ * </ul>
+ *
+ * <p>Every benchmark processes the whole fleet per invocation; results are
+ * normalized per vehicle through {@link OperationsPerInvocation}.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class VehicleDispatchBenchmark {
+    static final int FLEET_SIZE = 4096;
+
+    @Param
+    private VehicleMix mix;
+
+    private Vehicle[] fleet;
+
+    @Setup
+    public void setUp() {
+        fleet = mix.createFleet(FLEET_SIZE, 42L);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLEET_SIZE)
+    public long instanceofChain() {
+        long checksum = 0;
+        for (Vehicle vehicle : fleet) {
+            if (vehicle instanceof Car) {
+                Car car = (Car) vehicle;
+                checksum += car.getNumDoors();
+            } else if (vehicle instanceof Motorcycle) {
+                Motorcycle motorcycle = (Motorcycle) vehicle;
+                checksum += motorcycle.getHasSideCar() ? 1 : 0;
+            } else {
+                checksum -= 1;
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLEET_SIZE)
+    public void virtualToString(Blackhole blackhole) {
+        for (Vehicle vehicle : fleet) {
+            blackhole.consume(vehicle.toString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLEET_SIZE)
+    public long virtualGetters() {
+        long checksum = 0;
+        for (Vehicle vehicle : fleet) {
+            checksum += vehicle.getYear() + vehicle.getBrand().length();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,110 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+
+import java.util.SplittableRandom;
+
+/**
+ * Describes the receiver-type mix seen by a polymorphic call site in a benchmark.
+ * The HotSpot JIT profiles the concrete classes reaching each virtual call or
+ * {@code instanceof} check and specializes the compiled code accordingly, so the
+ * same loop can perform very differently depending on how many vehicle types flow
+ * through it.
+ *
+ * <p><strong>Profiles Covered:</strong>
+ * <ul>
+ *   <li>{@link #MONOMORPHIC} - only {@link Car} instances, fully inlinable</li>
+ *   <li>{@link #BIMORPHIC} - {@link Car} and {@link Motorcycle}, still inlined behind a type guard</li>
+ *   <li>{@link #MEGAMORPHIC} - {@link Vehicle}, {@link Car} and {@link Motorcycle}, falls back to vtable dispatch</li>
+ * </ul>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public enum VehicleMix {
+    MONOMORPHIC(1),
+    BIMORPHIC(2),
+    MEGAMORPHIC(3);
+
+    private static final String[] BRANDS = {
+        "BMW", "Toyota", "Honda", "Ducati", "Yamaha", "Mercedes", "Harley Davidson", "Audi"
+    };
+
+    private final int typeCount;
+
+    VehicleMix(int typeCount) {
+        this.typeCount = typeCount;
+    }
+
+    /**
+     * Builds a shuffled fleet whose concrete types follow this mix.
+     * A fixed seed keeps the fleet identical across forks and runs.
+     *
+     * @param size the number of vehicles to create
+     * @param seed the random seed used for types and attribute values
+     * @return a new array of vehicles following this mix
+     */
+    public Vehicle[] createFleet(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Vehicle[] fleet = new Vehicle[size];
+        for (int i = 0; i < size; i++) {
+            String brand = BRANDS[random.nextInt(BRANDS.length)];
+            int year = 1990 + random.nextInt(35);
+            switch (random.nextInt(typeCount)) {
+                case 0:
+                    fleet[i] = new Car(brand, year, 2 + random.nextInt(4));
+                    break;
+                case 1:
+                    fleet[i] = new Motorcycle(brand, year, random.nextBoolean());
+                    break;
+                default:
+                    fleet[i] = new Vehicle(brand, year);
+                    break;
+            }
+        }
+        return fleet;
+    }
+
+    /**
+     * Builds a columnar fleet whose record types follow this mix, without
+     * creating intermediate vehicle objects. Uses the same distribution as
+     * {@link #createFleet(int, long)}.
+     *
+     * @param size the number of records to create
+     * @param seed the random seed used for types and attribute values
+     * @return a new columnar fleet following this mix
+     */
+    public VehicleFleet createColumnarFleet(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        VehicleFleet fleet = new VehicleFleet(size);
+        for (int i = 0; i < size; i++) {
+            String brand = BRANDS[random.nextInt(BRANDS.length)];
+            int year = 1990 + random.nextInt(35);
+            switch (random.nextInt(typeCount)) {
+                case 0:
+                    fleet.addCar(brand, year, 2 + random.nextInt(4));
+                    break;
+                case 1:
+                    fleet.addMotorcycle(brand, year, random.nextBoolean());
+                    break;
+                default:
+                    fleet.addVehicle(brand, year);
+                    break;
+            }
+        }
+        return fleet;
+    }
+
+    /**
+     * Returns the brand names used when generating fleets.
+     *
+     * @return a copy of the benchmark brand table
+     */
+    public static String[] brands() {
+        return BRANDS.clone();
+    }
+}
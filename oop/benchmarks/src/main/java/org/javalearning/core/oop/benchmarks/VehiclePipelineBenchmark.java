@@ -0,0 +1,126 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.analytics.LiveFleetAggregates;
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.pipeline.PipelineSummary;
+import org.javalearning.core.oop.inheritance.pipeline.VehiclePipeline;
+import org.javalearning.core.oop.inheritance.report.FleetReportWriter;
+import org.javalearning.core.oop.inheritance.validation.BulkVehicleValidator;
+import org.javalearning.core.oop.inheritance.validation.RawVehicleBatch;
+import org.javalearning.core.oop.inheritance.validation.ValidationReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.time.Year;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares processing a feed of raw vehicle records with {@link VehiclePipeline}
+ * against a single-threaded loop doing the same work: validate, classify,
+ * enrich, aggregate and render.
+ *
+ * <ul>
+ *   <li>{@link #sequentialLoop} - one loop over each batch, one stage after another</li>
+ *   <li>{@link #pipeline} - the same stages as concurrent Flow stages with bounded buffers</li>
+ * </ul>
+ *
+ * <p>Reports go to a discarding channel. The pipeline can only beat the loop
+ * with at least as many cores as busy stages; on fewer cores it shows the cost
+ * of the hand-offs between stages.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VehiclePipelineBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private Vehicle[] feed;
+
+    @Setup
+    public void setUp() {
+        feed = VehicleMix.MEGAMORPHIC.createFleet(size, 42L);
+    }
+
+    @Benchmark
+    public PipelineSummary pipeline() {
+        VehiclePipeline pipeline = new VehiclePipeline(Channels.newChannel(OutputStream.nullOutputStream()));
+        for (Vehicle vehicle : feed) {
+            if (vehicle instanceof Car car) {
+                pipeline.addCar(car.getBrand(), car.getYear(), car.getNumDoors());
+            } else if (vehicle instanceof Motorcycle motorcycle) {
+                pipeline.addMotorcycle(motorcycle.getBrand(), motorcycle.getYear(), motorcycle.getHasSideCar());
+            } else {
+                pipeline.addVehicle(vehicle.getBrand(), vehicle.getYear());
+            }
+        }
+        return pipeline.complete().join();
+    }
+
+    @Benchmark
+    public LiveFleetAggregates sequentialLoop() throws IOException {
+        int referenceYear = Year.now().getValue();
+        LiveFleetAggregates aggregates = new LiveFleetAggregates(Duration.ofMinutes(1), 60);
+        BulkVehicleValidator validator = new BulkVehicleValidator(aggregates.getBrands());
+        FleetReportWriter report = new FleetReportWriter(Channels.newChannel(OutputStream.nullOutputStream()));
+        RawVehicleBatch batch = new RawVehicleBatch(VehiclePipeline.DEFAULT_BATCH_SIZE);
+        ValidationReport validation = new ValidationReport(VehiclePipeline.DEFAULT_BATCH_SIZE);
+        for (int start = 0; start < feed.length; start += batch.capacity()) {
+            batch.clear();
+            for (int i = start, end = Math.min(feed.length, start + batch.capacity()); i < end; i++) {
+                Vehicle vehicle = feed[i];
+                if (vehicle instanceof Car car) {
+                    batch.addCar(car.getBrand(), car.getYear(), car.getNumDoors());
+                } else if (vehicle instanceof Motorcycle motorcycle) {
+                    batch.addMotorcycle(motorcycle.getBrand(), motorcycle.getYear(), motorcycle.getHasSideCar());
+                } else {
+                    batch.addVehicle(vehicle.getBrand(), vehicle.getYear());
+                }
+            }
+            validator.process(batch, validation, vehicle -> {
+                String description;
+                if (vehicle instanceof Car car) {
+                    description = "Car with " + car.getNumDoors() + " doors";
+                } else if (vehicle instanceof Motorcycle motorcycle) {
+                    description = motorcycle.getHasSideCar() ? "Motorcycle with sidecar" : "Motorcycle without sidecar";
+                } else {
+                    description = "Basic vehicle";
+                }
+                aggregates.add(vehicle);
+                try {
+                    report.append("► ").append(vehicle).append(" ➜ ").append(description)
+                            .append(", age ").append(Integer.toString(Math.max(0, referenceYear - vehicle.getYear())))
+                            .newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        report.flush();
+        return aggregates;
+    }
+}
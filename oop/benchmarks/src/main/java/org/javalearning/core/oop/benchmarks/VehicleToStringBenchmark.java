@@ -0,0 +1,60 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@code toString()} overrides of the vehicle hierarchy.
+ * Each call concatenates a fresh String, so the allocation figures reported by
+ * the GC profiler are as interesting as the timings.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class VehicleToStringBenchmark {
+    private Vehicle vehicle;
+    private Car car;
+    private Motorcycle motorcycle;
+
+    @Setup
+    public void setUp() {
+        vehicle = new Vehicle("Generic Brand", 2022);
+        car = new Car("BMW", 2021, 4);
+        motorcycle = new Motorcycle("Harley Davidson", 2020, true);
+    }
+
+    @Benchmark
+    public String vehicleToString() {
+        return vehicle.toString();
+    }
+
+    @Benchmark
+    public String carToString() {
+        return car.toString();
+    }
+
+    @Benchmark
+    public String motorcycleToString() {
+        return motorcycle.toString();
+    }
+}
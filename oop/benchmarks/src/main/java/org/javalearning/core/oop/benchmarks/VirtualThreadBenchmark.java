@@ -0,0 +1,106 @@
+package org.javalearning.core.oop.benchmarks;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.executor.ResultOrder;
+import org.javalearning.core.oop.inheritance.executor.VehicleTask;
+import org.javalearning.core.oop.inheritance.executor.VirtualFleetExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a fixed pool of platform threads with the {@link VirtualFleetExecutor}
+ * when every vehicle needs a blocking lookup.
+ *
+ * <p>The simulated lookup renders the vehicle, as
+ * {@code VehiclePolymorphismDemo.processVehicle} does, and then blocks for one
+ * millisecond. The run time is therefore bounded by how many lookups can wait
+ * at the same time:
+ * <ul>
+ *   <li>{@code fixedThreadPool} - {@code poolSize} platform threads</li>
+ *   <li>{@code virtualSameLimit} - virtual threads capped at {@code poolSize}, expected to match the pool</li>
+ *   <li>{@code virtualPerVehicle} - one virtual thread per vehicle without a practical cap</li>
+ * </ul>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class VirtualThreadBenchmark {
+    private static final VehicleTask<String> BLOCKING_LOOKUP = vehicle -> {
+        String rendered = vehicle.toString();
+        Thread.sleep(1);
+        return rendered;
+    };
+
+    @Param({"10000"})
+    private int vehicles;
+
+    @Param({"64"})
+    private int poolSize;
+
+    private List<Vehicle> fleet;
+    private ExecutorService pool;
+    private VirtualFleetExecutor sameLimit;
+    private VirtualFleetExecutor perVehicle;
+
+    @Setup
+    public void setUp() {
+        fleet = Arrays.asList(VehicleMix.MEGAMORPHIC.createFleet(vehicles, 42L));
+        pool = Executors.newFixedThreadPool(poolSize);
+        sameLimit = new VirtualFleetExecutor(poolSize);
+        perVehicle = new VirtualFleetExecutor(vehicles);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public List<String> fixedThreadPool() throws Exception {
+        List<Callable<String>> tasks = new ArrayList<>(fleet.size());
+        for (Vehicle vehicle : fleet) {
+            tasks.add(() -> BLOCKING_LOOKUP.process(vehicle));
+        }
+        List<String> results = new ArrayList<>(fleet.size());
+        for (Future<String> future : pool.invokeAll(tasks)) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<String> virtualSameLimit() throws Exception {
+        return sameLimit.map(fleet, BLOCKING_LOOKUP, ResultOrder.INPUT);
+    }
+
+    @Benchmark
+    public List<String> virtualPerVehicle() throws Exception {
+        return perVehicle.map(fleet, BLOCKING_LOOKUP, ResultOrder.INPUT);
+    }
+}
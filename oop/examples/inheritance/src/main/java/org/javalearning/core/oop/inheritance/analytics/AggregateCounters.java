@@ -0,0 +1,71 @@
+package org.javalearning.core.oop.inheritance.analytics;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+/**
+ * One set of counters maintained by {@link LiveFleetAggregates}: vehicles per
+ * brand and year, per type, cars per door count and motorcycles with a
+ * sidecar. Used both for the running totals and for each time window.
+ *
+ * <p>Not thread-safe; the owner serializes writers and validates racy copies.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class AggregateCounters {
+    static final int MAX_DOORS = Byte.MAX_VALUE;
+
+    final LongCountTable brandYears;
+    final long[] types;
+    final long[] carDoors;
+    long sideCars;
+
+    AggregateCounters() {
+        this(new LongCountTable(), new long[VehicleType.values().length], new long[MAX_DOORS + 1], 0);
+    }
+
+    private AggregateCounters(LongCountTable brandYears, long[] types, long[] carDoors, long sideCars) {
+        this.brandYears = brandYears;
+        this.types = types;
+        this.carDoors = carDoors;
+        this.sideCars = sideCars;
+    }
+
+    static long brandYearKey(int brandId, int year) {
+        return (long) brandId << Integer.SIZE | year & 0xFFFFFFFFL;
+    }
+
+    static int brandIdOf(long key) {
+        return (int) (key >>> Integer.SIZE);
+    }
+
+    static int yearOf(long key) {
+        return (int) key;
+    }
+
+    void apply(int brandId, int year, VehicleType type, int numDoors, boolean hasSideCar, long delta) {
+        brandYears.add(brandYearKey(brandId, year), delta);
+        types[type.getTag()] += delta;
+        if (type == VehicleType.CAR) {
+            carDoors[numDoors] += delta;
+        } else if (type == VehicleType.MOTORCYCLE && hasSideCar) {
+            sideCars += delta;
+        }
+    }
+
+    void addAll(AggregateCounters other) {
+        brandYears.addAll(other.brandYears);
+        for (int i = 0; i < types.length; i++) {
+            types[i] += other.types[i];
+        }
+        for (int i = 0; i < carDoors.length; i++) {
+            carDoors[i] += other.carDoors[i];
+        }
+        sideCars += other.sideCars;
+    }
+
+    AggregateCounters copy() {
+        return new AggregateCounters(brandYears.copy(), types.clone(), carDoors.clone(), sideCars);
+    }
+}
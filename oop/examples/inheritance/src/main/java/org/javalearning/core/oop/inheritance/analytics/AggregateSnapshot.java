@@ -0,0 +1,164 @@
+package org.javalearning.core.oop.inheritance.analytics;
+
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable, internally consistent copy of the counters of
+ * {@link LiveFleetAggregates}, taken at one instant: either the running totals
+ * or the net changes of a range of time windows.
+ *
+ * <p>For a window rollup every count is inserts minus removals within the
+ * windows, so individual counts can be negative.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class AggregateSnapshot {
+    private final AggregateCounters counters;
+    private final BrandRegistry brands;
+
+    AggregateSnapshot(AggregateCounters counters, BrandRegistry brands) {
+        this.counters = counters;
+        this.brands = brands;
+    }
+
+    /**
+     * Retrieves the number of vehicles counted.
+     *
+     * @return the vehicle count
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (long count : counters.types) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Retrieves the number of vehicles of a concrete type.
+     *
+     * @param type the vehicle type
+     * @return the number of vehicles of that type
+     * @throws IllegalArgumentException if type is null
+     */
+    public long getTypeCount(VehicleType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Type cannot be null");
+        }
+        return counters.types[type.getTag()];
+    }
+
+    /**
+     * Retrieves the number of vehicles of one brand and manufacturing year.
+     *
+     * @param brand the brand name
+     * @param year the manufacturing year
+     * @return the number of matching vehicles, or zero for unknown brands
+     */
+    public long getCount(String brand, int year) {
+        int brandId = brands.idOf(brand);
+        return brandId < 0 || year < 0 ? 0 : counters.brandYears.get(AggregateCounters.brandYearKey(brandId, year));
+    }
+
+    /**
+     * Retrieves the number of vehicles of a brand over all years.
+     *
+     * @param brand the brand name
+     * @return the number of vehicles with that brand, or zero for unknown brands
+     */
+    public long getBrandCount(String brand) {
+        int brandId = brands.idOf(brand);
+        long total = 0;
+        LongCountTable table = counters.brandYears;
+        for (int slot = 0; slot < table.capacity(); slot++) {
+            long key = table.keyAt(slot);
+            if (key >= 0 && AggregateCounters.brandIdOf(key) == brandId) {
+                total += table.countAt(slot);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Retrieves the number of vehicles manufactured in a year over all brands.
+     *
+     * @param year the manufacturing year
+     * @return the number of vehicles from that year
+     */
+    public long getYearCount(int year) {
+        long total = 0;
+        LongCountTable table = counters.brandYears;
+        for (int slot = 0; slot < table.capacity(); slot++) {
+            long key = table.keyAt(slot);
+            if (key >= 0 && AggregateCounters.yearOf(key) == year) {
+                total += table.countAt(slot);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Retrieves all non-zero brand and year counts, keyed by brand name in
+     * brand id order and then by year.
+     *
+     * @return a map from brand name to a sorted map from year to vehicle count
+     */
+    public Map<String, NavigableMap<Integer, Long>> getCountsByBrandAndYear() {
+        Map<Integer, NavigableMap<Integer, Long>> byId = new TreeMap<>();
+        LongCountTable table = counters.brandYears;
+        for (int slot = 0; slot < table.capacity(); slot++) {
+            long key = table.keyAt(slot);
+            long count = table.countAt(slot);
+            if (key >= 0 && count != 0) {
+                byId.computeIfAbsent(AggregateCounters.brandIdOf(key), id -> new TreeMap<>())
+                        .put(AggregateCounters.yearOf(key), count);
+            }
+        }
+        Map<String, NavigableMap<Integer, Long>> counts = new LinkedHashMap<>();
+        byId.forEach((id, years) -> counts.put(brands.nameOf(id), Collections.unmodifiableNavigableMap(years)));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Retrieves the number of cars per door count.
+     *
+     * @return a sorted map from door count to number of cars, without zero entries
+     */
+    public NavigableMap<Integer, Long> getCarDoorDistribution() {
+        NavigableMap<Integer, Long> distribution = new TreeMap<>();
+        for (int doors = 0; doors < counters.carDoors.length; doors++) {
+            if (counters.carDoors[doors] != 0) {
+                distribution.put(doors, counters.carDoors[doors]);
+            }
+        }
+        return Collections.unmodifiableNavigableMap(distribution);
+    }
+
+    /**
+     * Retrieves the number of motorcycles with a sidecar.
+     *
+     * @return the sidecar count
+     */
+    public long getSideCarCount() {
+        return counters.sideCars;
+    }
+
+    /**
+     * Computes the fraction of motorcycles that have a sidecar.
+     *
+     * @return the sidecar ratio, or 0.0 if there are no motorcycles
+     */
+    public double getSideCarRatio() {
+        long motorcycles = getTypeCount(VehicleType.MOTORCYCLE);
+        return motorcycles == 0 ? 0.0 : (double) counters.sideCars / motorcycles;
+    }
+}
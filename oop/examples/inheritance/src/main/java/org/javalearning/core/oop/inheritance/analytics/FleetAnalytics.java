@@ -0,0 +1,129 @@
+package org.javalearning.core.oop.inheritance.analytics;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.metrics.BulkOperationEvent;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes {@link FleetStatistics} over a {@link VehicleFleet} with a fork-join
+ * reduction that scales across all available cores.
+ *
+ * <p><strong>Algorithm:</strong>
+ * <ul>
+ *   <li>The index range of the fleet is split in halves until a range is no
+ *       larger than the leaf size</li>
+ *   <li>Each leaf scans its range of the primitive columns into a private
+ *       {@link FleetStatistics}</li>
+ *   <li>Partial results are merged pairwise as the tasks join</li>
+ * </ul>
+ * No state is shared between leaves, so threads never contend and the result
+ * is independent of the degree of parallelism.
+ *
+ * <p>The fleet must not be modified while an analysis is running.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class FleetAnalytics {
+    private static final int DEFAULT_LEAF_SIZE = 1 << 16;
+    private static final int MAX_YEAR_RANGE = 1 << 20;
+
+    private final ForkJoinPool pool;
+    private final int leafSize;
+
+    /**
+     * Constructs an analytics engine that runs on the common fork-join pool.
+     */
+    public FleetAnalytics() {
+        this(ForkJoinPool.commonPool(), DEFAULT_LEAF_SIZE);
+    }
+
+    /**
+     * Constructs an analytics engine that runs on a specific pool, for example
+     * one sized to a fixed number of cores.
+     *
+     * @param pool the pool executing the reduction
+     * @param leafSize the number of records a single task scans sequentially
+     * @throws IllegalArgumentException if pool is null or leafSize is not positive
+     */
+    public FleetAnalytics(ForkJoinPool pool, int leafSize) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (leafSize <= 0) {
+            throw new IllegalArgumentException("Leaf size must be positive");
+        }
+        this.pool = pool;
+        this.leafSize = leafSize;
+    }
+
+    /**
+     * Aggregates the whole fleet in parallel.
+     *
+     * @param fleet the fleet to analyze
+     * @return the combined statistics
+     * @throws IllegalStateException if the fleet's years span more than 2^20 values
+     */
+    public FleetStatistics analyze(VehicleFleet fleet) {
+        if (fleet.size() == 0) {
+            return new FleetStatistics(0, 0, -1);
+        }
+        int minYear = fleet.getMinYear();
+        int maxYear = fleet.getMaxYear();
+        if ((long) maxYear - minYear >= MAX_YEAR_RANGE) {
+            throw new IllegalStateException("Year range too wide for a dense histogram: " + minYear + "-" + maxYear);
+        }
+        int brandCount = fleet.getBrands().size();
+        BulkOperationEvent event = BulkOperationEvent.start("analyze");
+        FleetStatistics statistics = pool.invoke(new AnalyzeTask(fleet, 0, fleet.size(), brandCount, minYear, maxYear));
+        event.complete(fleet.size(), 0);
+        return statistics;
+    }
+
+    private final class AnalyzeTask extends RecursiveTask<FleetStatistics> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient VehicleFleet fleet;
+        private final int from;
+        private final int to;
+        private final int brandCount;
+        private final int minYear;
+        private final int maxYear;
+
+        AnalyzeTask(VehicleFleet fleet, int from, int to, int brandCount, int minYear, int maxYear) {
+            this.fleet = fleet;
+            this.from = from;
+            this.to = to;
+            this.brandCount = brandCount;
+            this.minYear = minYear;
+            this.maxYear = maxYear;
+        }
+
+        @Override
+        protected FleetStatistics compute() {
+            if (to - from <= leafSize) {
+                return scan();
+            }
+            int middle = (from + to) >>> 1;
+            AnalyzeTask left = new AnalyzeTask(fleet, from, middle, brandCount, minYear, maxYear);
+            AnalyzeTask right = new AnalyzeTask(fleet, middle, to, brandCount, minYear, maxYear);
+            left.fork();
+            FleetStatistics result = right.compute();
+            return result.merge(left.join());
+        }
+
+        private FleetStatistics scan() {
+            FleetStatistics statistics = new FleetStatistics(brandCount, minYear, maxYear);
+            for (int i = from; i < to; i++) {
+                VehicleType type = fleet.getType(i);
+                statistics.accumulate(type.getTag(), fleet.getBrandId(i), fleet.getYear(i),
+                        fleet.getNumDoors(i), fleet.getHasSideCar(i));
+            }
+            return statistics;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package org.javalearning.core.oop.inheritance.analytics;
+
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Aggregated statistics over a fleet: counts by brand, a histogram by year,
+ * counts by type, and the door and sidecar totals needed for the car and
+ * motorcycle averages.
+ *
+ * <p>All accumulators are primitive {@code long} arrays or fields. Each
+ * fork-join leaf of {@link FleetAnalytics} fills its own instance, and the
+ * partial results are combined with {@link #merge(FleetStatistics)}, so no
+ * shared map is ever contended.
+ *
+ * <p>Instances are mutable while being accumulated and merged, and should be
+ * treated as read-only once returned to the caller.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class FleetStatistics {
+    private final long[] brandCounts;
+    private final int minYear;
+    private final long[] yearCounts;
+    private final long[] typeCounts = new long[VehicleType.values().length];
+    private long carDoorSum;
+    private long sideCarCount;
+
+    FleetStatistics(int brandCount, int minYear, int maxYear) {
+        this.brandCounts = new long[brandCount];
+        this.minYear = minYear;
+        this.yearCounts = new long[Math.max(0, maxYear - minYear + 1)];
+    }
+
+    void accumulate(byte typeTag, int brandId, int year, int numDoors, boolean hasSideCar) {
+        brandCounts[brandId]++;
+        yearCounts[year - minYear]++;
+        typeCounts[typeTag]++;
+        carDoorSum += numDoors;
+        if (hasSideCar) {
+            sideCarCount++;
+        }
+    }
+
+    FleetStatistics merge(FleetStatistics other) {
+        for (int i = 0; i < brandCounts.length; i++) {
+            brandCounts[i] += other.brandCounts[i];
+        }
+        for (int i = 0; i < yearCounts.length; i++) {
+            yearCounts[i] += other.yearCounts[i];
+        }
+        for (int i = 0; i < typeCounts.length; i++) {
+            typeCounts[i] += other.typeCounts[i];
+        }
+        carDoorSum += other.carDoorSum;
+        sideCarCount += other.sideCarCount;
+        return this;
+    }
+
+    /**
+     * Retrieves the total number of vehicles aggregated.
+     *
+     * @return the vehicle count
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (long count : typeCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Retrieves the number of vehicles of a concrete type.
+     *
+     * @param type the vehicle type
+     * @return the number of vehicles of that type
+     */
+    public long getTypeCount(VehicleType type) {
+        return typeCounts[type.getTag()];
+    }
+
+    /**
+     * Retrieves the number of vehicles of a brand.
+     *
+     * @param brandId the brand id
+     * @return the number of vehicles with that brand, or zero for unknown ids
+     */
+    public long getBrandCount(int brandId) {
+        return brandId >= 0 && brandId < brandCounts.length ? brandCounts[brandId] : 0;
+    }
+
+    /**
+     * Retrieves the counts of all brands that occur in the fleet, keyed by name
+     * in brand id order.
+     *
+     * @param brands the registry that assigned the brand ids
+     * @return a map from brand name to vehicle count
+     */
+    public Map<String, Long> getCountsByBrand(BrandRegistry brands) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int id = 0; id < brandCounts.length; id++) {
+            if (brandCounts[id] > 0) {
+                counts.put(brands.nameOf(id), brandCounts[id]);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Retrieves the number of vehicles manufactured in a year.
+     *
+     * @param year the manufacturing year
+     * @return the number of vehicles from that year
+     */
+    public long getYearCount(int year) {
+        int slot = year - minYear;
+        return slot >= 0 && slot < yearCounts.length ? yearCounts[slot] : 0;
+    }
+
+    /**
+     * Retrieves the histogram of all years that occur in the fleet.
+     *
+     * @return a sorted map from year to vehicle count
+     */
+    public NavigableMap<Integer, Long> getYearHistogram() {
+        NavigableMap<Integer, Long> histogram = new TreeMap<>();
+        for (int slot = 0; slot < yearCounts.length; slot++) {
+            if (yearCounts[slot] > 0) {
+                histogram.put(minYear + slot, yearCounts[slot]);
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Computes the average number of doors over all cars.
+     *
+     * @return the average door count, or 0.0 if there are no cars
+     */
+    public double getAverageCarDoors() {
+        long cars = getTypeCount(VehicleType.CAR);
+        return cars == 0 ? 0.0 : (double) carDoorSum / cars;
+    }
+
+    /**
+     * Computes the fraction of motorcycles that have a sidecar.
+     *
+     * @return the sidecar ratio between 0.0 and 1.0, or 0.0 if there are no motorcycles
+     */
+    public double getSideCarRatio() {
+        long motorcycles = getTypeCount(VehicleType.MOTORCYCLE);
+        return motorcycles == 0 ? 0.0 : (double) sideCarCount / motorcycles;
+    }
+}
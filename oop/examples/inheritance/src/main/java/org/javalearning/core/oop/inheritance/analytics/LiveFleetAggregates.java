@@ -0,0 +1,288 @@
+package org.javalearning.core.oop.inheritance.analytics;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Aggregates that are kept up to date as vehicles arrive and leave, instead of
+ * being recomputed over the whole fleet by {@link FleetAnalytics} after every
+ * batch.
+ *
+ * <p><strong>Aggregates:</strong>
+ * <ul>
+ *   <li>vehicle counts per brand and manufacturing year, and per type</li>
+ *   <li>the door count distribution of cars</li>
+ *   <li>the number and share of motorcycles with a sidecar</li>
+ * </ul>
+ * Every {@link #add(Vehicle, long)} and {@link #remove(Vehicle, long)} updates a
+ * constant number of counters, whatever the size of the fleet.
+ *
+ * <p><strong>Time Windows:</strong>
+ * Besides the running totals, each change is also counted in the time window
+ * that contains its timestamp. The most recent windows are retained in a ring;
+ * {@link #rollup(long, long)} combines the windows of a time range into the net
+ * changes, inserts minus removals, of that range. Changes older than the oldest
+ * retained window only affect the totals.
+ *
+ * <p><strong>Concurrency:</strong>
+ * Writers are serialized by a {@link StampedLock} and hold it only for the
+ * constant-time counter updates. Readers never take the lock: they copy the
+ * counters under an optimistic stamp and retry if a writer intervened. Readers
+ * therefore never block writers, and every {@link AggregateSnapshot} they
+ * receive reflects one instant between two writes.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>
+ * LiveFleetAggregates live = new LiveFleetAggregates(Duration.ofMinutes(1), 60);
+ * live.add(new Car("Toyota", 2023, 4));
+ * AggregateSnapshot total = live.snapshot();
+ * AggregateSnapshot lastHour = live.rollup(now - 3_600_000L, now);
+ * </pre>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class LiveFleetAggregates {
+    private static final int VARIANTS = AggregateCounters.MAX_DOORS + 4;
+
+    private final StampedLock lock = new StampedLock();
+    private final BrandRegistry brands;
+    private final Clock clock;
+    private final long windowMillis;
+    private final Window[] windows;
+    private final AggregateCounters totals = new AggregateCounters();
+    // Counted vehicles by their full state, so remove() only accepts vehicles
+    // that were added: one table per variant (type and doors or sidecar),
+    // keyed by brand and year, created on first use
+    private final LongCountTable[] counted = new LongCountTable[VARIANTS];
+    private long newestWindow = Long.MIN_VALUE;
+
+    /**
+     * Constructs empty aggregates with their own brand registry, measuring time
+     * with the system clock.
+     *
+     * @param windowSize the length of one time window
+     * @param retainedWindows the number of most recent windows kept for rollups
+     * @throws IllegalArgumentException if windowSize is null or shorter than one
+     *         millisecond, or retainedWindows is not positive
+     */
+    public LiveFleetAggregates(Duration windowSize, int retainedWindows) {
+        this(windowSize, retainedWindows, new BrandRegistry(), Clock.systemUTC());
+    }
+
+    /**
+     * Constructs empty aggregates that encode brands through a shared registry
+     * and measure time with a specific clock.
+     *
+     * @param windowSize the length of one time window
+     * @param retainedWindows the number of most recent windows kept for rollups
+     * @param brands the registry assigning brand ids
+     * @param clock the clock timestamping {@link #add(Vehicle)} and {@link #remove(Vehicle)}
+     * @throws IllegalArgumentException if windowSize is null or shorter than one
+     *         millisecond, retainedWindows is not positive, or brands or clock is null
+     */
+    public LiveFleetAggregates(Duration windowSize, int retainedWindows, BrandRegistry brands, Clock clock) {
+        if (windowSize == null || windowSize.toMillis() < 1) {
+            throw new IllegalArgumentException("Window size must be at least one millisecond");
+        }
+        if (retainedWindows <= 0) {
+            throw new IllegalArgumentException("Retained windows must be positive");
+        }
+        if (brands == null) {
+            throw new IllegalArgumentException("Brand registry cannot be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.windowMillis = windowSize.toMillis();
+        this.windows = new Window[retainedWindows];
+        this.brands = brands;
+        this.clock = clock;
+    }
+
+    /**
+     * Counts a vehicle that arrived now.
+     *
+     * @param vehicle the arriving vehicle
+     * @throws IllegalArgumentException if vehicle is null
+     */
+    public void add(Vehicle vehicle) {
+        add(vehicle, clock.millis());
+    }
+
+    /**
+     * Counts a vehicle that arrived at a given time.
+     *
+     * @param vehicle the arriving vehicle
+     * @param timestampMillis the arrival time in milliseconds since the epoch
+     * @throws IllegalArgumentException if vehicle is null
+     */
+    public void add(Vehicle vehicle, long timestampMillis) {
+        update(vehicle, timestampMillis, 1);
+    }
+
+    /**
+     * Uncounts a vehicle that left now.
+     *
+     * @param vehicle the departing vehicle
+     * @throws IllegalArgumentException if vehicle is null or no equal vehicle is counted
+     */
+    public void remove(Vehicle vehicle) {
+        remove(vehicle, clock.millis());
+    }
+
+    /**
+     * Uncounts a vehicle that left at a given time.
+     *
+     * @param vehicle the departing vehicle
+     * @param timestampMillis the departure time in milliseconds since the epoch
+     * @throws IllegalArgumentException if vehicle is null or no equal vehicle is counted
+     */
+    public void remove(Vehicle vehicle, long timestampMillis) {
+        update(vehicle, timestampMillis, -1);
+    }
+
+    /**
+     * Captures the running totals.
+     *
+     * @return a consistent snapshot of all counters
+     */
+    public AggregateSnapshot snapshot() {
+        while (true) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                AggregateCounters copy = totals.copy();
+                if (lock.validate(stamp)) {
+                    return new AggregateSnapshot(copy, brands);
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Combines the net changes of the retained windows that overlap a time range.
+     * Windows are the unit of a rollup, so the range is widened to whole windows.
+     *
+     * @param fromMillis the start of the range in milliseconds since the epoch, inclusive
+     * @param toMillis the end of the range in milliseconds since the epoch, exclusive
+     * @return a consistent snapshot of the net changes within the range
+     * @throws IllegalArgumentException if fromMillis is greater than toMillis
+     */
+    public AggregateSnapshot rollup(long fromMillis, long toMillis) {
+        if (fromMillis > toMillis) {
+            throw new IllegalArgumentException("Range start " + fromMillis + " is after end " + toMillis);
+        }
+        long first = Math.floorDiv(fromMillis, windowMillis);
+        long last = Math.floorDiv(toMillis - 1, windowMillis);
+        while (true) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                AggregateCounters sum = new AggregateCounters();
+                if (fromMillis < toMillis) {
+                    long oldest = Math.max(first, newestWindow - windows.length + 1);
+                    for (Window window : windows) {
+                        if (window != null && window.index >= oldest && window.index <= last) {
+                            sum.addAll(window.counters);
+                        }
+                    }
+                }
+                if (lock.validate(stamp)) {
+                    return new AggregateSnapshot(sum, brands);
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Retrieves the registry that assigns brand ids.
+     *
+     * @return the brand registry
+     */
+    public BrandRegistry getBrands() {
+        return brands;
+    }
+
+    private void update(Vehicle vehicle, long timestampMillis, long delta) {
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null");
+        }
+        int brandId = delta > 0 ? brands.register(vehicle.getBrand()) : brands.idOf(vehicle.getBrand());
+        int year = vehicle.getYear();
+        VehicleType type = VehicleType.of(vehicle);
+        int numDoors = vehicle instanceof Car ? ((Car) vehicle).getNumDoors() : 0;
+        if (numDoors > AggregateCounters.MAX_DOORS) {
+            throw new IllegalArgumentException("Number of doors cannot exceed " + AggregateCounters.MAX_DOORS);
+        }
+        boolean hasSideCar = vehicle instanceof Motorcycle && ((Motorcycle) vehicle).getHasSideCar();
+        long windowIndex = Math.floorDiv(timestampMillis, windowMillis);
+
+        int variant = variantOf(type, numDoors, hasSideCar);
+
+        long stamp = lock.writeLock();
+        try {
+            LongCountTable sameVariant = counted[variant];
+            long key = AggregateCounters.brandYearKey(brandId, year);
+            if (delta < 0 && (brandId < 0 || sameVariant == null || sameVariant.get(key) <= 0)) {
+                throw new IllegalArgumentException("Vehicle is not counted: " + vehicle);
+            }
+            if (sameVariant == null) {
+                sameVariant = new LongCountTable();
+                counted[variant] = sameVariant;
+            }
+            sameVariant.add(key, delta);
+            totals.apply(brandId, year, type, numDoors, hasSideCar, delta);
+            Window window = window(windowIndex);
+            if (window != null) {
+                window.counters.apply(brandId, year, type, numDoors, hasSideCar, delta);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private static int variantOf(VehicleType type, int numDoors, boolean hasSideCar) {
+        switch (type) {
+            case CAR:
+                return 1 + numDoors;
+            case MOTORCYCLE:
+                return AggregateCounters.MAX_DOORS + (hasSideCar ? 3 : 2);
+            default:
+                return 0;
+        }
+    }
+
+    // Returns the window for an index, replacing the expired window in its ring
+    // slot, or null if the index is older than every retained window.
+    private Window window(long index) {
+        if (newestWindow != Long.MIN_VALUE && index <= newestWindow - windows.length) {
+            return null;
+        }
+        int slot = (int) Math.floorMod(index, (long) windows.length);
+        Window window = windows[slot];
+        if (window == null || window.index != index) {
+            window = new Window(index);
+            windows[slot] = window;
+        }
+        newestWindow = Math.max(newestWindow, index);
+        return window;
+    }
+
+    private static final class Window {
+        final long index;
+        final AggregateCounters counters = new AggregateCounters();
+
+        Window(long index) {
+            this.index = index;
+        }
+    }
+}
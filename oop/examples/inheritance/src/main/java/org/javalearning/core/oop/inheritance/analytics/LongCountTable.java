@@ -0,0 +1,122 @@
+package org.javalearning.core.oop.inheritance.analytics;
+
+/**
+ * Open-addressing hash table from non-negative {@code long} keys to
+ * {@code long} counts, with keys and counts interleaved in one array.
+ *
+ * <p>Entries are never removed; a count that drops back to zero keeps its slot.
+ * Readers may run racily against a writer as long as they validate afterwards:
+ * the table is published through a single array field and every probe is
+ * bounded by the table length, so a torn read yields wrong values but never an
+ * exception or an endless loop.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class LongCountTable {
+    private static final long EMPTY = -1L;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] slots;
+    private int size;
+
+    LongCountTable() {
+        this.slots = emptySlots(INITIAL_CAPACITY);
+    }
+
+    private LongCountTable(long[] slots, int size) {
+        this.slots = slots;
+        this.size = size;
+    }
+
+    long get(long key) {
+        long[] table = slots;
+        int mask = (table.length >>> 1) - 1;
+        int index = hash(key) & mask;
+        for (int probe = 0; probe <= mask; probe++) {
+            long slotKey = table[index << 1];
+            if (slotKey == key) {
+                return table[(index << 1) + 1];
+            }
+            if (slotKey == EMPTY) {
+                return 0;
+            }
+            index = (index + 1) & mask;
+        }
+        return 0;
+    }
+
+    long add(long key, long delta) {
+        if ((size + 1) * 2 > slots.length >>> 1) {
+            resize();
+        }
+        long[] table = slots;
+        int mask = (table.length >>> 1) - 1;
+        int index = hash(key) & mask;
+        while (table[index << 1] != key && table[index << 1] != EMPTY) {
+            index = (index + 1) & mask;
+        }
+        if (table[index << 1] == EMPTY) {
+            table[index << 1] = key;
+            size++;
+        }
+        return table[(index << 1) + 1] += delta;
+    }
+
+    void addAll(LongCountTable other) {
+        long[] table = other.slots;
+        for (int i = 0; i < table.length; i += 2) {
+            if (table[i] >= 0 && table[i + 1] != 0) {
+                add(table[i], table[i + 1]);
+            }
+        }
+    }
+
+    LongCountTable copy() {
+        long[] table = slots;
+        return new LongCountTable(table.clone(), size);
+    }
+
+    int capacity() {
+        return slots.length >>> 1;
+    }
+
+    long keyAt(int slot) {
+        return slots[slot << 1];
+    }
+
+    long countAt(int slot) {
+        return slots[(slot << 1) + 1];
+    }
+
+    private void resize() {
+        long[] old = slots;
+        long[] table = emptySlots(old.length);
+        int mask = (table.length >>> 1) - 1;
+        for (int i = 0; i < old.length; i += 2) {
+            if (old[i] != EMPTY) {
+                int index = hash(old[i]) & mask;
+                while (table[index << 1] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                table[index << 1] = old[i];
+                table[(index << 1) + 1] = old[i + 1];
+            }
+        }
+        slots = table;
+    }
+
+    private static long[] emptySlots(int capacity) {
+        long[] table = new long[capacity * 2];
+        for (int i = 0; i < table.length; i += 2) {
+            table[i] = EMPTY;
+        }
+        return table;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ h >>> 32);
+    }
+}
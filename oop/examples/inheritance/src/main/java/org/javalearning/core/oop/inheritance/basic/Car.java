@@ -1,5 +1,10 @@
 package org.javalearning.core.oop.inheritance.basic;
 
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.metrics.VehicleMetrics;
+import org.javalearning.core.oop.inheritance.validation.ValidationError;
+
 /**
  * Represents a specialized vehicle type implementing car-specific attributes and behaviors.
  * This class extends the base Vehicle class, demonstrating inheritance principles and
@@ -26,7 +31,7 @@ package org.javalearning.core.oop.inheritance.basic;
  * @version 1.0
  * @since 1.0
  */
-public class Car extends Vehicle {
+public final class Car extends Vehicle {
     private final int numDoors;
 
     /**
@@ -47,11 +52,56 @@ public class Car extends Vehicle {
      * @throws IllegalArgumentException if numDoors is not positive, or if brand/year validation fails
      */
     public Car(String brand, int year, int numDoors) {
-        super(brand, year);
+        super(brand, year, attributeHash(numDoors));
+        this.numDoors = validateNumDoors(numDoors);
+        VehicleMetrics.recordCreated(VehicleType.CAR);
+    }
+
+    /**
+     * Constructs a new Car instance whose brand is canonicalized through a
+     * {@link BrandRegistry}.
+     *
+     * @param brand the manufacturer brand of the car
+     * @param year the manufacturing year of the car
+     * @param numDoors the number of doors the car has
+     * @param brands the registry providing the canonical brand instance
+     * @throws IllegalArgumentException if numDoors is not positive, or if brand/year/registry validation fails
+     */
+    public Car(String brand, int year, int numDoors, BrandRegistry brands) {
+        super(canonicalBrand(brand, brands), year, attributeHash(numDoors));
+        this.numDoors = validateNumDoors(numDoors);
+        VehicleMetrics.recordCreated(VehicleType.CAR);
+    }
+
+    /**
+     * Constructs a car, optionally without counting it as created.
+     *
+     * @param brand the manufacturer brand of the car
+     * @param year the manufacturing year of the car
+     * @param numDoors the number of doors the car has
+     * @param counted whether the car is counted as created
+     * @throws IllegalArgumentException if numDoors is not positive, or if brand/year validation fails
+     */
+    Car(String brand, int year, int numDoors, boolean counted) {
+        super(brand, year, attributeHash(numDoors), counted);
+        this.numDoors = validateNumDoors(numDoors);
+        if (counted) {
+            VehicleMetrics.recordCreated(VehicleType.CAR);
+        }
+    }
+
+    // Always 1 mod 4, so a car never shares its attribute hash with a plain
+    // vehicle (0) or a motorcycle (2 or 3) of the same brand and year.
+    private static int attributeHash(int numDoors) {
+        return 4 * numDoors + 1;
+    }
+
+    private static int validateNumDoors(int numDoors) {
         if (numDoors <= 0) {
+            VehicleMetrics.recordRejected(VehicleType.CAR, ValidationError.NON_POSITIVE_DOORS);
             throw new IllegalArgumentException("Number of doors must be positive");
         }
-        this.numDoors = numDoors;
+        return numDoors;
     }
     
     /**
@@ -65,6 +115,18 @@ public class Car extends Vehicle {
         return numDoors;
     }
 
+    /**
+     * Compares this car with another object for value equality, extending the
+     * vehicle comparison with the number of doors.
+     *
+     * @param o the object to compare with
+     * @return true if {@code o} is a car with equal brand, year and number of doors
+     */
+    @Override
+    public boolean equals(Object o) {
+        return super.equals(o) && numDoors == ((Car) o).numDoors;
+    }
+
     /**
      * Provides a string representation of this car, extending the base vehicle
      * representation with car-specific attributes.
@@ -73,13 +135,26 @@ public class Car extends Vehicle {
      * Car{brand='brandValue', year=yearValue, numDoors=doorsValue}
      *
      * @return a formatted string representation of the car's complete state
+     * @see #appendTo(StringBuilder)
      */
     @Override
     public String toString() {
-        return "Car{" +
-                "brand='" + getBrand() + "'" +
-                ", year=" + getYear() + 
-                ", numDoors=" + numDoors +
-                "}";
+        return appendTo(new StringBuilder(64)).toString();
+    }
+
+    /**
+     * Appends the string representation of this car to an existing builder,
+     * producing exactly the same text as {@link #toString()}.
+     *
+     * @param sb the builder to append to
+     * @return the same builder, for call chaining
+     */
+    @Override
+    public StringBuilder appendTo(StringBuilder sb) {
+        return sb.append("Car{")
+                .append("brand='").append(getBrand()).append('\'')
+                .append(", year=").append(getYear())
+                .append(", numDoors=").append(numDoors)
+                .append('}');
     }
 }
@@ -0,0 +1,217 @@
+package org.javalearning.core.oop.inheritance.basic;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.pipeline.PipelineSummary;
+import org.javalearning.core.oop.inheritance.pipeline.VehiclePipeline;
+import org.javalearning.core.oop.inheritance.scan.FleetScanner;
+import org.javalearning.core.oop.inheritance.scan.ScanPredicate;
+import org.javalearning.core.oop.inheritance.sort.FleetSortOrder;
+import org.javalearning.core.oop.inheritance.sort.FleetSorter;
+import org.javalearning.core.oop.inheritance.sort.SortField;
+
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Runs any combination of the example demos and workloads in a single JVM, so
+ * that they share one JVM start instead of paying for one each.
+ *
+ * <p><strong>Programs:</strong>
+ * <ul>
+ *   <li>{@code basic}: {@link BasicVehicleDemo}</li>
+ *   <li>{@code getters}: {@link VehicleGettersDemo}</li>
+ *   <li>{@code polymorphism}: {@link VehiclePolymorphismDemo}</li>
+ *   <li>{@code validation}: {@link VehicleValidationDemo}</li>
+ *   <li>{@code fleet}: builds a columnar fleet of random vehicles, scans it and
+ *       selects the newest vehicles</li>
+ *   <li>{@code pipeline}: streams random records through a {@link VehiclePipeline}</li>
+ * </ul>
+ *
+ * <p><strong>Usage:</strong>
+ * <pre>
+ * java -jar oop-inheritance-examples.jar                  # all demos
+ * java -jar oop-inheritance-examples.jar basic getters    # selected programs, in order
+ * java -jar oop-inheritance-examples.jar --size=1000000 fleet pipeline
+ * java -jar oop-inheritance-examples.jar all              # every demo and workload
+ * </pre>
+ * {@code --size} sets the number of vehicles the workloads generate. With
+ * {@code --add-modules jdk.incubator.vector} the fleet scan uses vector
+ * instructions. With {@code -XX:SharedArchiveFile} pointing at the archive of
+ * the {@code appcds} build profile, whose training run adds the same module,
+ * the JVM maps the launcher's classes instead of loading them.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class Main {
+    private static final int DEFAULT_SIZE = 100_000;
+    private static final String SIZE_OPTION = "--size=";
+    private static final String[] NO_ARGS = new String[0];
+    private static final String[] BRANDS = {
+        "Toyota", "Ford", "BMW", "Honda", "Ducati", "Tesla", "Kia", "Audi", "Harley Davidson", "Volvo"
+    };
+
+    private Main() {
+    }
+
+    /**
+     * Runs the programs named on the command line.
+     *
+     * @param args program names, {@code all}, and an optional {@code --size=N};
+     *             no program names runs every demo
+     */
+    public static void main(String[] args) {
+        int size = DEFAULT_SIZE;
+        List<Program> programs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(SIZE_OPTION)) {
+                size = parseSize(arg.substring(SIZE_OPTION.length()));
+            } else if (arg.equals("all")) {
+                programs.addAll(List.of(Program.values()));
+            } else {
+                Program program = Program.byName(arg);
+                if (program == null) {
+                    usage("Unknown program: " + arg);
+                    return;
+                }
+                programs.add(program);
+            }
+        }
+        if (size <= 0) {
+            usage("Size must be a positive number");
+            return;
+        }
+        if (programs.isEmpty()) {
+            for (Program program : Program.values()) {
+                if (!program.workload) {
+                    programs.add(program);
+                }
+            }
+        }
+        for (Program program : programs) {
+            System.out.println();
+            System.out.println("▶ " + program.name + ": " + program.description);
+            program.runner.run(size);
+        }
+    }
+
+    /**
+     * Builds a columnar fleet, counts recent cars and lists the newest vehicles.
+     */
+    private static void runFleetWorkload(int size) {
+        SplittableRandom random = new SplittableRandom(size);
+        VehicleFleet fleet = new VehicleFleet(size);
+        for (int i = 0; i < size; i++) {
+            String brand = BRANDS[random.nextInt(BRANDS.length)];
+            int year = 1990 + random.nextInt(36);
+            switch (random.nextInt(3)) {
+                case 0:
+                    fleet.addCar(brand, year, 2 + random.nextInt(4));
+                    break;
+                case 1:
+                    fleet.addMotorcycle(brand, year, random.nextBoolean());
+                    break;
+                default:
+                    fleet.addVehicle(brand, year);
+            }
+        }
+        FleetScanner scanner = new FleetScanner(fleet);
+        int recentCars = scanner.count(ScanPredicate.all().yearAtLeast(2020).types(VehicleType.CAR));
+        System.out.println("Vehicles: " + fleet.size() + ", cars from 2020 on: " + recentCars);
+        FleetSortOrder newestFirst = FleetSortOrder.byDescending(SortField.YEAR).then(SortField.BRAND);
+        for (int row : new FleetSorter().topK(fleet, newestFirst, 5)) {
+            System.out.println("• " + fleet.get(row));
+        }
+    }
+
+    /**
+     * Streams random records, a few of them invalid, through a pipeline that
+     * discards its report.
+     */
+    private static void runPipelineWorkload(int size) {
+        SplittableRandom random = new SplittableRandom(size);
+        VehiclePipeline pipeline = new VehiclePipeline(Channels.newChannel(OutputStream.nullOutputStream()));
+        for (int i = 0; i < size; i++) {
+            // One record in a hundred has an empty brand and is rejected
+            String brand = random.nextInt(100) == 0 ? "" : BRANDS[random.nextInt(BRANDS.length)];
+            int year = 1990 + random.nextInt(36);
+            switch (random.nextInt(3)) {
+                case 0:
+                    pipeline.addCar(brand, year, 2 + random.nextInt(4));
+                    break;
+                case 1:
+                    pipeline.addMotorcycle(brand, year, random.nextBoolean());
+                    break;
+                default:
+                    pipeline.addVehicle(brand, year);
+            }
+        }
+        PipelineSummary summary = pipeline.complete().join();
+        System.out.println("Records: " + summary.getRecordCount()
+                + ", rejected: " + summary.getRejectedCount()
+                + ", rendered: " + summary.getRenderedCount());
+    }
+
+    private static int parseSize(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: Main [--size=N] [all | program...]");
+        for (Program program : Program.values()) {
+            System.err.printf("  %-13s %s%n", program.name, program.description);
+        }
+        System.exit(2);
+    }
+
+    /**
+     * The demos and workloads the launcher can run.
+     */
+    private enum Program {
+        BASIC("basic", "object creation and toString()", false, size -> BasicVehicleDemo.main(NO_ARGS)),
+        GETTERS("getters", "getter methods", false, size -> VehicleGettersDemo.main(NO_ARGS)),
+        POLYMORPHISM("polymorphism", "polymorphic processing", false, size -> VehiclePolymorphismDemo.main(NO_ARGS)),
+        VALIDATION("validation", "constructor validation", false, size -> VehicleValidationDemo.main(NO_ARGS)),
+        FLEET("fleet", "columnar fleet scan and top-k", true, Main::runFleetWorkload),
+        PIPELINE("pipeline", "concurrent processing pipeline", true, Main::runPipelineWorkload);
+
+        private final String name;
+        private final String description;
+        private final boolean workload;
+        private final Runner runner;
+
+        Program(String name, String description, boolean workload, Runner runner) {
+            this.name = name;
+            this.description = description;
+            this.workload = workload;
+            this.runner = runner;
+        }
+
+        static Program byName(String name) {
+            for (Program program : values()) {
+                if (program.name.equals(name)) {
+                    return program;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Runs one program with the workload size from the command line.
+     */
+    @FunctionalInterface
+    private interface Runner {
+        void run(int size);
+    }
+}
@@ -1,5 +1,9 @@
 package org.javalearning.core.oop.inheritance.basic;
 
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.metrics.VehicleMetrics;
+
 /**
  * Represents a specialized vehicle type implementing motorcycle-specific attributes and behaviors.
  * This class extends the base Vehicle class, demonstrating inheritance principles with
@@ -34,7 +38,7 @@ package org.javalearning.core.oop.inheritance.basic;
  * @version 1.0
  * @since 1.0
  */
-public class Motorcycle extends Vehicle {
+public final class Motorcycle extends Vehicle {
     private final boolean hasSideCar;
 
     /**
@@ -55,10 +59,50 @@ public class Motorcycle extends Vehicle {
      * @throws IllegalArgumentException if brand/year validation fails in super constructor
      */
     public Motorcycle(String brand, int year, boolean hasSideCar) {
-        super(brand, year);
+        super(brand, year, attributeHash(hasSideCar));
+        this.hasSideCar = hasSideCar;
+        VehicleMetrics.recordCreated(VehicleType.MOTORCYCLE);
+    }
+
+    /**
+     * Constructs a new Motorcycle instance whose brand is canonicalized through a
+     * {@link BrandRegistry}.
+     *
+     * @param brand the manufacturer brand of the motorcycle
+     * @param year the manufacturing year of the motorcycle
+     * @param hasSideCar indicates whether the motorcycle has a sidecar attached
+     * @param brands the registry providing the canonical brand instance
+     * @throws IllegalArgumentException if brand/year/registry validation fails in super constructor
+     */
+    public Motorcycle(String brand, int year, boolean hasSideCar, BrandRegistry brands) {
+        super(canonicalBrand(brand, brands), year, attributeHash(hasSideCar));
+        this.hasSideCar = hasSideCar;
+        VehicleMetrics.recordCreated(VehicleType.MOTORCYCLE);
+    }
+
+
+    /**
+     * Constructs a motorcycle, optionally without counting it as created.
+     *
+     * @param brand the manufacturer brand of the motorcycle
+     * @param year the manufacturing year of the motorcycle
+     * @param hasSideCar indicates whether the motorcycle has a sidecar attached
+     * @param counted whether the motorcycle is counted as created
+     * @throws IllegalArgumentException if brand/year validation fails in super constructor
+     */
+    Motorcycle(String brand, int year, boolean hasSideCar, boolean counted) {
+        super(brand, year, attributeHash(hasSideCar), counted);
         this.hasSideCar = hasSideCar;
+        if (counted) {
+            VehicleMetrics.recordCreated(VehicleType.MOTORCYCLE);
+        }
+    }
+
+    // 2 or 3, distinct from the attribute hashes of plain vehicles and cars.
+    private static int attributeHash(boolean hasSideCar) {
+        return hasSideCar ? 3 : 2;
     }
-    
+
     /**
      * Determines whether this motorcycle has a sidecar attachment.
      * This accessor method maintains the class's immutability contract while
@@ -70,6 +114,18 @@ public class Motorcycle extends Vehicle {
         return hasSideCar;
     }
 
+    /**
+     * Compares this motorcycle with another object for value equality, extending
+     * the vehicle comparison with the sidecar state.
+     *
+     * @param o the object to compare with
+     * @return true if {@code o} is a motorcycle with equal brand, year and sidecar state
+     */
+    @Override
+    public boolean equals(Object o) {
+        return super.equals(o) && hasSideCar == ((Motorcycle) o).hasSideCar;
+    }
+
     /**
      * Provides a string representation of this motorcycle, extending the base vehicle
      * representation with motorcycle-specific attributes.
@@ -78,13 +134,26 @@ public class Motorcycle extends Vehicle {
      * Motorcycle{brand='brandValue', year=yearValue, hasSideCar=sidecarValue}
      *
      * @return a formatted string representation of the motorcycle's complete state
+     * @see #appendTo(StringBuilder)
      */
     @Override
     public String toString() {
-        return "Motorcycle{" +
-                "brand='" + getBrand() + "'" +
-                ", year=" + getYear() +
-                ", hasSideCar=" + hasSideCar +
-                "}";
+        return appendTo(new StringBuilder(64)).toString();
+    }
+
+    /**
+     * Appends the string representation of this motorcycle to an existing builder,
+     * producing exactly the same text as {@link #toString()}.
+     *
+     * @param sb the builder to append to
+     * @return the same builder, for call chaining
+     */
+    @Override
+    public StringBuilder appendTo(StringBuilder sb) {
+        return sb.append("Motorcycle{")
+                .append("brand='").append(getBrand()).append('\'')
+                .append(", year=").append(getYear())
+                .append(", hasSideCar=").append(hasSideCar)
+                .append('}');
     }
 }
@@ -1,5 +1,11 @@
 package org.javalearning.core.oop.inheritance.basic;
 
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.metrics.VehicleMetrics;
+import org.javalearning.core.oop.inheritance.validation.ValidationError;
+import org.javalearning.core.oop.inheritance.validation.VehicleRules;
+
 /**
  * Represents a foundational vehicle entity implementing core Object-Oriented principles.
  * This class serves as the parent in a vehicle hierarchy, demonstrating several
@@ -22,11 +28,27 @@ package org.javalearning.core.oop.inheritance.basic;
  *   <li>Allows for future implementation changes without affecting clients</li>
  * </ul>
  * 
+ * <p><strong>Sealed Hierarchy:</strong>
+ * The class is sealed and permits only {@link Car} and {@link Motorcycle} as
+ * subclasses. The compiler and the JIT therefore know the complete set of
+ * concrete types, which makes exhaustive per-type processing possible.
+ *
+ * <p><strong>Value Semantics:</strong>
+ * Two vehicles are equal when they are of the same concrete type and all of
+ * their fields are equal. The hash code covers the subclass attributes as well
+ * and is computed once at construction time, so immutable vehicles can serve as
+ * cheap hash keys, for example in a canonicalizing cache.
+ *
+ * <p><strong>Instrumentation:</strong>
+ * Successful constructions and rejected input are counted per type and per
+ * reason by {@link VehicleMetrics}. Vehicles recreated from stored state with
+ * {@link #restore(VehicleType, String, int, int)} are not counted again.
+ *
  * <p><strong>Validation:</strong>
  * Constructor implements defensive programming through parameter validation:
  * <ul>
  *   <li>Null checks for brand parameter</li>
- *   <li>Empty string validation for brand</li>
+ *   <li>Empty string validation for brand, without allocating a trimmed copy</li>
  *   <li>Logical range checking for year value</li>
  * </ul>
  *
@@ -34,9 +56,10 @@ package org.javalearning.core.oop.inheritance.basic;
  * @version 1.0
  * @since 1.0
  */
-class Vehicle {
+public sealed class Vehicle permits Car, Motorcycle {
     private final String brand;
     private final int year;
+    private final int hash;
 
     /**
      * Constructs a new Vehicle instance with input validation and immutable state initialization.
@@ -55,16 +78,100 @@ class Vehicle {
      * @throws IllegalArgumentException if brand is null or empty, or if year is negative
      */
     public Vehicle(String brand, int year) {
-        if (brand == null || brand.trim().isEmpty()) {
+        this(brand, year, 0);
+    }
+
+    /**
+     * Constructs a vehicle and precomputes its hash code. Subclasses pass a hash
+     * of their own attributes so that the single hash field covers the complete
+     * state of the concrete type.
+     *
+     * @param brand the manufacturer brand of the vehicle
+     * @param year the manufacturing year of the vehicle
+     * @param attributeHash hash of the subclass attributes, 0 for a plain vehicle
+     * @throws IllegalArgumentException if brand is null or empty, or if year is negative
+     */
+    Vehicle(String brand, int year, int attributeHash) {
+        this(brand, year, attributeHash, true);
+    }
+
+    /**
+     * Constructs a vehicle and precomputes its hash code, optionally without
+     * counting it as created.
+     *
+     * @param brand the manufacturer brand of the vehicle
+     * @param year the manufacturing year of the vehicle
+     * @param attributeHash hash of the subclass attributes, 0 for a plain vehicle
+     * @param counted whether a plain vehicle is counted as created
+     * @throws IllegalArgumentException if brand is null or empty, or if year is negative
+     */
+    Vehicle(String brand, int year, int attributeHash, boolean counted) {
+        if (VehicleRules.isBlank(brand)) {
+            VehicleMetrics.recordRejected(VehicleType.of(this), ValidationError.INVALID_BRAND);
             throw new IllegalArgumentException("Brand cannot be null or empty");
         }
         if (year < 0) {
+            VehicleMetrics.recordRejected(VehicleType.of(this), ValidationError.NEGATIVE_YEAR);
             throw new IllegalArgumentException("Year cannot be negative");
         }
         this.brand = brand;
         this.year = year;
+        this.hash = (31 * brand.hashCode() + year) * 31 + attributeHash;
+        if (counted && getClass() == Vehicle.class) {
+            VehicleMetrics.recordCreated(VehicleType.VEHICLE);
+        }
+    }
+
+    /**
+     * Constructs a new Vehicle instance whose brand is canonicalized through a
+     * {@link BrandRegistry}. Vehicles built from the same registry share one
+     * brand instance per distinct brand, so equal brands can be compared by reference.
+     *
+     * @param brand the manufacturer brand of the vehicle
+     * @param year the manufacturing year of the vehicle
+     * @param brands the registry providing the canonical brand instance
+     * @throws IllegalArgumentException if brands is null, if brand is null or empty,
+     *         or if year is negative
+     */
+    public Vehicle(String brand, int year, BrandRegistry brands) {
+        this(canonicalBrand(brand, brands), year);
     }
     
+    /**
+     * Recreates a vehicle from state that a fleet, store or codec accepted
+     * earlier. Unlike the constructors, it does not count the vehicle as created
+     * in {@link VehicleMetrics}; the vehicle was counted when it was first added.
+     *
+     * @param type the concrete type to create
+     * @param brand the manufacturer brand of the vehicle
+     * @param year the manufacturing year of the vehicle
+     * @param attribute the door count of a car, non-zero for a motorcycle with a
+     *        sidecar; ignored for a plain vehicle
+     * @return a new {@link Vehicle}, {@link Car} or {@link Motorcycle}
+     * @throws IllegalArgumentException if type is null or the state is invalid
+     */
+    public static Vehicle restore(VehicleType type, String brand, int year, int attribute) {
+        if (type == null) {
+            throw new IllegalArgumentException("Vehicle type cannot be null");
+        }
+        switch (type) {
+            case CAR:
+                return new Car(brand, year, attribute, false);
+            case MOTORCYCLE:
+                return new Motorcycle(brand, year, attribute != 0, false);
+            default:
+                return new Vehicle(brand, year, 0, false);
+        }
+    }
+
+    static String canonicalBrand(String brand, BrandRegistry brands) {
+        if (brands == null) {
+            throw new IllegalArgumentException("Brand registry cannot be null");
+        }
+        // Blank brands are left to the constructor, which counts the rejection
+        return VehicleRules.isBlank(brand) ? brand : brands.intern(brand);
+    }
+
     /**
      * Retrieves the immutable brand identifier of this vehicle.
      * This accessor method is part of the class's encapsulation strategy,
@@ -89,6 +196,58 @@ class Vehicle {
         return year;
     }
 
+    /**
+     * Appends the string representation of this vehicle to an existing builder.
+     * Produces exactly the same text as {@link #toString()} without creating an
+     * intermediate String, so report renderers can stream many vehicles into
+     * one reused buffer.
+     *
+     * <p>The output format follows the pattern:
+     * Vehicle{brand='brandValue', year=yearValue}
+     *
+     * @param sb the builder to append to
+     * @return the same builder, for call chaining
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        return sb.append("Vehicle{")
+                .append("brand='").append(brand).append('\'')
+                .append(", year=").append(year)
+                .append('}');
+    }
+
+    /**
+     * Compares this vehicle with another object for value equality.
+     * Vehicles are equal only when they share the same concrete class, so a
+     * {@link Car} never equals a plain {@code Vehicle} with the same brand and year.
+     * The precomputed hash codes are compared first to reject most unequal
+     * vehicles without touching the brand strings.
+     *
+     * @param o the object to compare with
+     * @return true if {@code o} is a vehicle of the same type with equal fields
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Vehicle other = (Vehicle) o;
+        return hash == other.hash && year == other.year && brand.equals(other.brand);
+    }
+
+    /**
+     * Returns the hash code computed at construction time. It covers the brand,
+     * the year and the attributes of the concrete subclass.
+     *
+     * @return the precomputed hash code of this vehicle
+     */
+    @Override
+    public final int hashCode() {
+        return hash;
+    }
+
     /**
      * Provides a string representation of this vehicle following a standardized format.
      * This implementation adheres to toString best practices by including all
@@ -98,12 +257,10 @@ class Vehicle {
      * Vehicle{brand='brandValue', year=yearValue}
      *
      * @return a formatted string representation of the vehicle's state
+     * @see #appendTo(StringBuilder)
      */
     @Override
     public String toString() {
-        return "Vehicle{" +
-                "brand='" + brand + "'" +
-                ", year=" + year +
-                "}";
+        return appendTo(new StringBuilder(48)).toString();
     }
 }
@@ -1,17 +1,23 @@
 package org.javalearning.core.oop.inheritance.basic;
 
+import org.javalearning.core.oop.inheritance.analytics.AggregateSnapshot;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.pipeline.PipelineSummary;
+import org.javalearning.core.oop.inheritance.pipeline.VehiclePipeline;
+
+import java.nio.channels.Channels;
+
 /**
  * Demonstrates polymorphic behavior in the Vehicle class hierarchy.
- * This class showcases various aspects of polymorphism including method overriding,
- * runtime type identification, and type-safe casting.
+ * This class showcases various aspects of polymorphism including method overriding
+ * and processing mixed vehicle types by their concrete type.
  *
  * <p><strong>Polymorphism Aspects Demonstrated:</strong>
  * <ul>
  *   <li>Using parent type references for child objects</li>
- *   <li>Runtime type identification with instanceof</li>
- *   <li>Safe type casting techniques</li>
  *   <li>Method overriding behavior</li>
- *   <li>Collection of different vehicle types in an array</li>
+ *   <li>Processing a stream of different vehicle types in type-partitioned batches</li>
+ *   <li>Counting vehicles per concrete type</li>
  * </ul>
  *
  * @author Logic Luminary
@@ -23,7 +29,7 @@ public class VehiclePolymorphismDemo {
     /**
      * Executes various demonstrations of polymorphic behavior in the vehicle hierarchy.
      * Shows how parent class references can handle different types of vehicles and
-     * how to safely work with vehicle subtypes.
+     * how a pipeline sorts them by subtype once for type-specific processing.
      *
      * @param args command line arguments (not used)
      */
@@ -31,39 +37,27 @@ public class VehiclePolymorphismDemo {
         System.out.println("Demonstrating Polymorphism");
         System.out.println("========================");
         
-        // Create an array of vehicles (polymorphic container)
-        Vehicle[] vehicles = {
-            new Vehicle("Generic Brand", 2022),
-            new Car("BMW", 2021, 4),
-            new Motorcycle("Harley Davidson", 2020, true),
-            new Car("Toyota", 2023, 2),
-            new Motorcycle("Ducati", 2022, false)
-        };
-        
-        // Demonstrate polymorphic iteration
-        System.out.println("1. Basic Polymorphic Iteration");
+        // Run vehicles through a batch pipeline: raw records are validated, classified
+        // by concrete type, enriched, and then aggregated and rendered in parallel
+        System.out.println("1. Polymorphic Processing Pipeline");
         System.out.println("Each vehicle uses its own toString() implementation:");
-        for (Vehicle vehicle : vehicles) {
-            System.out.println("► " + vehicle);
-        }
-        
-        // Demonstrate instanceof and casting
+        VehiclePipeline pipeline = new VehiclePipeline(Channels.newChannel(System.out));
+        pipeline.addVehicle("Generic Brand", 2022);
+        pipeline.addCar("BMW", 2021, 4);
+        pipeline.addMotorcycle("Harley Davidson", 2020, true);
+        pipeline.addCar("Toyota", 2023, 2);
+        pipeline.addMotorcycle("Ducati", 2022, false);
+        pipeline.addCar("", 2019, 4);
+        PipelineSummary summary = pipeline.complete().join();
+
+        // Type checking happened once per vehicle, in the classify stage
         System.out.println("2. Type Checking and Specific Behavior");
-        for (Vehicle vehicle : vehicles) {
-            System.out.print("Processing: " + vehicle.getBrand());
-            
-            if (vehicle instanceof Car) {
-                Car car = (Car) vehicle;
-                System.out.println(" ➜ Car with " + car.getNumDoors() + " doors");
-            } else if (vehicle instanceof Motorcycle) {
-                Motorcycle motorcycle = (Motorcycle) vehicle;
-                System.out.println(" ➜ Motorcycle" + 
-                    (motorcycle.getHasSideCar() ? " with sidecar" : " without sidecar"));
-            } else {
-                System.out.println(" ➜ Basic vehicle");
-            }
-        }
-        
+        AggregateSnapshot aggregates = summary.getAggregates();
+        System.out.println("Cars: " + aggregates.getTypeCount(VehicleType.CAR)
+                + ", motorcycles: " + aggregates.getTypeCount(VehicleType.MOTORCYCLE)
+                + ", basic vehicles: " + aggregates.getTypeCount(VehicleType.VEHICLE));
+        System.out.println("Rejected records: " + summary.getRejectedCount());
+
         // Demonstrate polymorphic method calls
         System.out.println("3. Polymorphic Method Behavior");
         processVehicle(new Vehicle("Generic", 2022));
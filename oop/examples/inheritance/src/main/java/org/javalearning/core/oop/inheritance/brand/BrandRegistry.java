@@ -0,0 +1,160 @@
+package org.javalearning.core.oop.inheritance.brand;
+
+import org.javalearning.core.oop.inheritance.validation.VehicleRules;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canonicalizes vehicle brand names to shared instances with compact integer ids.
+ * Real fleets repeat a few hundred distinct brands across millions of records;
+ * routing every brand through a registry keeps one {@code String} per brand on
+ * the heap and lets callers compare brands by reference or by id instead of
+ * {@link String#equals(Object)}.
+ *
+ * <p><strong>Concurrency:</strong>
+ * <ul>
+ *   <li>Lookups of known brands are lock-free ({@link ConcurrentHashMap#get(Object)})</li>
+ *   <li>Registering a new brand takes a short lock; this happens once per distinct brand</li>
+ *   <li>Ids are dense, start at zero and never change once assigned</li>
+ * </ul>
+ *
+ * <p><strong>Statistics:</strong>
+ * Hits and misses are counted with {@link LongAdder}s so that concurrent ingest
+ * threads do not contend on a shared counter.
+ *
+ * <p>Brands are matched exactly, without trimming or case folding, so the
+ * canonical instance always prints the same as the original input.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class BrandRegistry {
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[DEFAULT_CAPACITY];
+    private volatile int size;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Returns the canonical instance of a brand, registering it on first use.
+     *
+     * @param brand the brand name
+     * @return the shared instance equal to brand
+     * @throws IllegalArgumentException if brand is null or empty
+     */
+    public String intern(String brand) {
+        return names[register(brand)];
+    }
+
+    /**
+     * Returns the id of a brand, registering it on first use.
+     *
+     * @param brand the brand name
+     * @return the brand id, a dense non-negative integer
+     * @throws IllegalArgumentException if brand is null or empty
+     */
+    public int register(String brand) {
+        if (brand == null) {
+            throw new IllegalArgumentException("Brand cannot be null or empty");
+        }
+        Integer id = ids.get(brand);
+        if (id != null) {
+            hits.increment();
+            return id;
+        }
+        if (VehicleRules.isBlank(brand)) {
+            throw new IllegalArgumentException("Brand cannot be null or empty");
+        }
+        misses.increment();
+        return add(brand);
+    }
+
+    /**
+     * Looks up the id of a brand without registering it.
+     *
+     * @param brand the brand name
+     * @return the brand id, or -1 if the brand is unknown
+     */
+    public int idOf(String brand) {
+        if (brand == null) {
+            return -1;
+        }
+        Integer id = ids.get(brand);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Resolves a brand id back to its canonical brand instance.
+     *
+     * @param id the brand id
+     * @return the canonical brand name
+     * @throws IndexOutOfBoundsException if the id has not been assigned
+     */
+    public String nameOf(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Unknown brand id: " + id);
+        }
+        return names[id];
+    }
+
+    /**
+     * Retrieves the number of distinct brands registered so far.
+     *
+     * @return the registry size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of lookups that found an already registered brand.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Retrieves the number of lookups that registered a new brand.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Computes the fraction of lookups that found an already registered brand.
+     *
+     * @return the hit rate between 0.0 and 1.0, or 0.0 if no lookups were made
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private synchronized int add(String brand) {
+        Integer existing = ids.get(brand);
+        if (existing != null) {
+            return existing;
+        }
+        int id = size;
+        String[] table = names;
+        if (id == table.length) {
+            table = Arrays.copyOf(table, table.length * 2);
+        }
+        table[id] = brand;
+        names = table;
+        size = id + 1;
+        ids.put(brand, id);
+        return id;
+    }
+}
@@ -0,0 +1,74 @@
+package org.javalearning.core.oop.inheritance.cache;
+
+/**
+ * Approximate access-frequency counter for the admission policy of
+ * {@link VehicleCache}. A count-min sketch: every key updates four small
+ * saturating counters and its estimate is the minimum of them, so collisions
+ * can only overestimate. All counters are halved periodically so that
+ * frequencies reflect recent traffic rather than the whole history.
+ *
+ * <p>Counters are updated without synchronization. Racing updates may lose an
+ * increment, which only makes the estimate slightly less precise.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class FrequencySketch {
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+
+    private final int[] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int width = Integer.highestOneBit(Math.max(16, maximumSize) - 1) << 2;
+        counters = new int[width];
+        mask = width - 1;
+        sampleSize = 10 * Math.max(16, maximumSize);
+    }
+
+    void increment(int hash) {
+        int h1 = spread(hash);
+        int h2 = rehash(h1);
+        for (int i = 0; i < DEPTH; i++) {
+            int index = (h1 + i * h2) & mask;
+            if (counters[index] < MAX_COUNT) {
+                counters[index]++;
+            }
+        }
+        if (++additions >= sampleSize) {
+            age();
+        }
+    }
+
+    int frequency(int hash) {
+        int h1 = spread(hash);
+        int h2 = rehash(h1);
+        int min = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            min = Math.min(min, counters[(h1 + i * h2) & mask]);
+        }
+        return min;
+    }
+
+    private void age() {
+        additions = 0;
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] >>>= 1;
+        }
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Odd second hash, so the four probes of a key never repeat an index
+    private static int rehash(int h) {
+        h *= 0x85EBCA6B;
+        return (h ^ (h >>> 13)) | 1;
+    }
+}
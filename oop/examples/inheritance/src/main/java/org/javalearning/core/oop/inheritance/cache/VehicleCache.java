@@ -0,0 +1,219 @@
+package org.javalearning.core.oop.inheritance.cache;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canonicalizing (hash-consing) cache that maps equal vehicles to one shared
+ * instance. Vehicle feeds repeat identical specifications heavily; passing each
+ * parsed vehicle through {@link #intern(Vehicle)} and keeping only the returned
+ * instance lets all duplicates be collected right after parsing.
+ *
+ * <p><strong>Bounded Size:</strong>
+ * The cache never holds more than its maximum size. Once full, a new vehicle
+ * must win an admission contest against the oldest cached entry:
+ * <ul>
+ *   <li>Access frequencies are tracked approximately by a small count-min sketch,
+ *       including accesses to vehicles that are not cached</li>
+ *   <li>The newcomer replaces the oldest entry only if it has been seen more often</li>
+ *   <li>An entry that survives a contest moves to the back of the queue, so
+ *       frequently used vehicles stay while one-off specs are never admitted</li>
+ * </ul>
+ * A rejected vehicle is still returned to the caller, just not shared.
+ *
+ * <p><strong>Concurrency:</strong>
+ * <ul>
+ *   <li>Hits are lock-free ({@link ConcurrentHashMap#get(Object)})</li>
+ *   <li>Misses take a short lock to keep the entry map and the eviction queue consistent</li>
+ *   <li>Statistics are counted with {@link LongAdder}s</li>
+ * </ul>
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>
+ * VehicleCache cache = new VehicleCache(10_000);
+ * Vehicle shared = cache.intern(new Car("Toyota", 2023, 4));
+ * </pre>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class VehicleCache {
+    /**
+     * Maximum size used by the no-argument constructor.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1 << 16;
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<Vehicle, Vehicle> entries;
+    private final FrequencySketch sketch;
+    private final Object evictionLock = new Object();
+    private final ArrayDeque<Vehicle> queue;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * Creates a cache holding at most {@link #DEFAULT_MAXIMUM_SIZE} vehicles.
+     */
+    public VehicleCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a cache holding at most the given number of vehicles.
+     *
+     * @param maximumSize the maximum number of cached vehicles
+     * @throws IllegalArgumentException if maximumSize is not positive
+     */
+    public VehicleCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.maximumSize = maximumSize;
+        int initialCapacity = Math.min(maximumSize, 1024);
+        this.entries = new ConcurrentHashMap<>(initialCapacity);
+        this.queue = new ArrayDeque<>(initialCapacity);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Returns the shared instance equal to a vehicle. If no equal vehicle is
+     * cached, the given vehicle is cached and returned, unless the cache is full
+     * and the vehicle loses the admission contest, in which case it is returned
+     * uncached.
+     *
+     * @param vehicle the vehicle to canonicalize
+     * @return the cached instance equal to vehicle, or vehicle itself
+     * @throws IllegalArgumentException if vehicle is null
+     */
+    public Vehicle intern(Vehicle vehicle) {
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null");
+        }
+        sketch.increment(vehicle.hashCode());
+        Vehicle cached = entries.get(vehicle);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        synchronized (evictionLock) {
+            cached = entries.get(vehicle);
+            if (cached != null) {
+                return cached;
+            }
+            if (queue.size() >= maximumSize && !evictFor(vehicle)) {
+                rejections.increment();
+                return vehicle;
+            }
+            entries.put(vehicle, vehicle);
+            queue.addLast(vehicle);
+            return vehicle;
+        }
+    }
+
+    /**
+     * Looks up the shared instance equal to a vehicle without caching it.
+     *
+     * @param vehicle the vehicle to look up
+     * @return the cached instance equal to vehicle, or null if none is cached
+     */
+    public Vehicle getIfPresent(Vehicle vehicle) {
+        return vehicle == null ? null : entries.get(vehicle);
+    }
+
+    /**
+     * Removes all cached vehicles. Statistics and frequency history are kept.
+     */
+    public void clear() {
+        synchronized (evictionLock) {
+            entries.clear();
+            queue.clear();
+        }
+    }
+
+    /**
+     * Retrieves the number of cached vehicles.
+     *
+     * @return the current cache size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Retrieves the maximum number of cached vehicles.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Retrieves the number of lookups that returned an already cached instance.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Retrieves the number of lookups that found no cached instance.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Retrieves the number of cached vehicles evicted in favor of more frequent ones.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Retrieves the number of missed vehicles that were not admitted because
+     * the cache was full and they were used less often than the eviction candidate.
+     *
+     * @return the rejection count
+     */
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    /**
+     * Computes the fraction of lookups that returned an already cached instance.
+     *
+     * @return the hit rate between 0.0 and 1.0, or 0.0 if no lookups were made
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    // Called with evictionLock held and the cache full. Evicts the oldest entry
+    // if the candidate is more frequent, otherwise gives it a second chance.
+    private boolean evictFor(Vehicle candidate) {
+        Vehicle victim = queue.pollFirst();
+        if (sketch.frequency(candidate.hashCode()) > sketch.frequency(victim.hashCode())) {
+            entries.remove(victim);
+            evictions.increment();
+            return true;
+        }
+        queue.addLast(victim);
+        return false;
+    }
+}
@@ -0,0 +1,434 @@
+package org.javalearning.core.oop.inheritance.changelog;
+
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * File formats of a {@link FleetChangeLog} directory and the routines that read
+ * and write them.
+ *
+ * <p><strong>Segment File</strong> {@code segment-<first sequence>.log} (little-endian):
+ * <pre>
+ * 0   4  magic "VLOG"
+ * 4   4  format version (1)
+ * 8   8  sequence number of the first change in the segment
+ * 16  .. frames: int payload length, int CRC32C of the payload, payload
+ * </pre>
+ * A payload holds one group commit, a run of records:
+ * <pre>
+ * BRAND   byte 0, int brand id, ushort UTF-8 length, bytes   defines an id before its first use in the segment
+ * INSERT  byte 1, long vehicle id, long packed record       one change (see {@link RecordTable})
+ * DELETE  byte 2, long vehicle id                           one change
+ * </pre>
+ *
+ * <p><strong>Snapshot File</strong> {@code snapshot-<last sequence>.snap}:
+ * <pre>
+ * 0   4  magic "VSNP"
+ * 4   4  format version (1)
+ * 8   8  sequence number of the last change included
+ * 16  8  vehicle count n
+ * 24  4  brand count
+ * 28  .. brand table: per brand an unsigned 16-bit UTF-8 length followed by the bytes
+ * ..  16*n  entries: long vehicle id, long packed record
+ * </pre>
+ * Snapshots are written to a temporary file and moved into place, so a snapshot
+ * file is always complete.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class ChangeLogFiles {
+    static final int SEGMENT_MAGIC = 0x474F4C56;
+    static final int SNAPSHOT_MAGIC = 0x504E5356;
+    static final int VERSION = 1;
+    static final int SEGMENT_HEADER_SIZE = 16;
+    static final int FRAME_HEADER_SIZE = 8;
+    static final int MAX_FRAME_SIZE = 1 << 30;
+
+    static final byte OP_BRAND = 0;
+    static final byte OP_INSERT = 1;
+    static final byte OP_DELETE = 2;
+    static final int INSERT_SIZE = 17;
+    static final int DELETE_SIZE = 9;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int IO_BUFFER_SIZE = 1 << 20;
+
+    private ChangeLogFiles() {
+    }
+
+    static Path segmentPath(Path directory, long firstSequence) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%019d", firstSequence) + SEGMENT_SUFFIX);
+    }
+
+    static Path snapshotPath(Path directory, long lastSequence) {
+        return directory.resolve(SNAPSHOT_PREFIX + String.format("%019d", lastSequence) + SNAPSHOT_SUFFIX);
+    }
+
+    static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        int start = name.indexOf('-') + 1;
+        return Long.parseLong(name.substring(start, name.indexOf('.', start)));
+    }
+
+    static List<Path> segments(Path directory) throws IOException {
+        return list(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX);
+    }
+
+    static List<Path> snapshots(Path directory) throws IOException {
+        return list(directory, SNAPSHOT_PREFIX + "*" + SNAPSHOT_SUFFIX);
+    }
+
+    static FileChannel createSegment(Path directory, long firstSequence) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(directory, firstSequence),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(SEGMENT_MAGIC)
+                .putInt(VERSION)
+                .putLong(firstSequence)
+                .flip();
+        writeFully(channel, header);
+        channel.force(true);
+        syncDirectory(directory);
+        return channel;
+    }
+
+    /**
+     * Writes a group commit; the frame header at the start of batch is filled in here.
+     */
+    static void writeFrame(FileChannel channel, ByteBuffer batch) throws IOException {
+        int payloadLength = batch.position() - FRAME_HEADER_SIZE;
+        CRC32C crc = new CRC32C();
+        crc.update(batch.array(), batch.arrayOffset() + FRAME_HEADER_SIZE, payloadLength);
+        batch.putInt(0, payloadLength).putInt(4, (int) crc.getValue()).flip();
+        writeFully(channel, batch);
+    }
+
+    static void putBrand(ByteBuffer batch, int brandId, byte[] name) {
+        batch.put(OP_BRAND).putInt(brandId).putShort((short) name.length).put(name);
+    }
+
+    static void putInsert(ByteBuffer batch, long id, long record) {
+        batch.put(OP_INSERT).putLong(id).putLong(record);
+    }
+
+    static void putDelete(ByteBuffer batch, long id) {
+        batch.put(OP_DELETE).putLong(id);
+    }
+
+    /**
+     * Loads a snapshot into an empty state.
+     */
+    static void loadSnapshot(Path file, FleetState state) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Input input = new Input(channel);
+            if (input.getInt() != SNAPSHOT_MAGIC || input.getInt() != VERSION) {
+                throw new IOException("Not a fleet snapshot: " + file);
+            }
+            long lastSequence = input.getLong();
+            long count = input.getLong();
+            int brandCount = input.getInt();
+            if (count < 0 || count > Integer.MAX_VALUE || brandCount < 0 || brandCount > RecordTable.MAX_BRANDS) {
+                throw new IOException("Corrupt fleet snapshot header: " + file);
+            }
+            int[] brandIds = new int[brandCount];
+            for (int i = 0; i < brandCount; i++) {
+                brandIds[i] = state.brands.register(input.getString(Short.toUnsignedInt(input.getShort())));
+            }
+            state.ensureCapacity((int) count);
+            for (long i = 0; i < count; i++) {
+                long id = input.getLong();
+                long record = input.getLong();
+                state.table.put(id, RecordTable.withBrandId(record, remap(brandIds, record, file)));
+            }
+            state.lastSequence = lastSequence;
+        } catch (EOFException e) {
+            throw new IOException("Truncated fleet snapshot: " + file, e);
+        }
+    }
+
+    /**
+     * Writes the state as a snapshot through a temporary file and returns the
+     * snapshot path.
+     */
+    static Path writeSnapshot(Path directory, FleetState state) throws IOException {
+        Path target = snapshotPath(directory, state.lastSequence);
+        Path temporary = directory.resolve(target.getFileName() + TEMPORARY_SUFFIX);
+        BrandRegistry brands = state.brands;
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(SNAPSHOT_MAGIC)
+                    .putInt(VERSION)
+                    .putLong(state.lastSequence)
+                    .putLong(state.table.size())
+                    .putInt(brands.size());
+            for (int id = 0; id < brands.size(); id++) {
+                byte[] name = brands.nameOf(id).getBytes(StandardCharsets.UTF_8);
+                if (buffer.remaining() < 2 + name.length) {
+                    drain(channel, buffer);
+                }
+                buffer.putShort((short) name.length).put(name);
+            }
+            RecordTable table = state.table;
+            for (int slot = 0; slot < table.capacity(); slot++) {
+                long id = table.idAt(slot);
+                if (id >= 0) {
+                    if (buffer.remaining() < 16) {
+                        drain(channel, buffer);
+                    }
+                    buffer.putLong(id).putLong(table.recordAt(slot));
+                }
+            }
+            drain(channel, buffer);
+            channel.force(true);
+        }
+        try {
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(directory);
+        return target;
+    }
+
+    /**
+     * Replays the changes of a segment that come after the state's last sequence
+     * number. A torn or corrupt tail ends the replay; with truncateTail it is cut
+     * off the file, otherwise it is reported as corruption.
+     *
+     * @return the number of changes stored in the segment
+     */
+    static long replaySegment(Path file, FleetState state, boolean truncateTail) throws IOException {
+        long goodEnd;
+        long sequence;
+        long firstSequence;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Input input = new Input(channel);
+            try {
+                if (input.getInt() != SEGMENT_MAGIC || input.getInt() != VERSION) {
+                    throw new IOException("Not a change log segment: " + file);
+                }
+                firstSequence = input.getLong();
+            } catch (EOFException e) {
+                throw new IOException("Truncated change log segment header: " + file, e);
+            }
+            if (firstSequence > state.lastSequence + 1) {
+                throw new IOException("Changes " + (state.lastSequence + 1) + " to " + (firstSequence - 1)
+                        + " are missing before " + file);
+            }
+            sequence = firstSequence;
+            goodEnd = SEGMENT_HEADER_SIZE;
+            int[] brandIds = new int[0];
+            CRC32C crc = new CRC32C();
+            ByteBuffer payload = ByteBuffer.allocate(0);
+            while (input.hasRemaining(FRAME_HEADER_SIZE)) {
+                int length = input.getInt();
+                int checksum = input.getInt();
+                if (length <= 0 || length > MAX_FRAME_SIZE || !input.hasRemaining(length)) {
+                    break;
+                }
+                if (payload.capacity() < length) {
+                    payload = ByteBuffer.allocate(Math.max(length, payload.capacity() * 2)).order(ByteOrder.LITTLE_ENDIAN);
+                }
+                payload.clear().limit(length);
+                input.get(payload);
+                crc.reset();
+                crc.update(payload.array(), 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                payload.flip();
+                while (payload.hasRemaining()) {
+                    byte op = payload.get();
+                    if (op == OP_BRAND) {
+                        int fileId = payload.getInt();
+                        byte[] name = new byte[Short.toUnsignedInt(payload.getShort())];
+                        payload.get(name);
+                        if (fileId < 0 || fileId >= RecordTable.MAX_BRANDS) {
+                            throw new IOException("Invalid brand id " + fileId + " in " + file);
+                        }
+                        if (fileId >= brandIds.length) {
+                            int oldLength = brandIds.length;
+                            brandIds = Arrays.copyOf(brandIds, Math.max(fileId + 1, oldLength * 2));
+                            Arrays.fill(brandIds, oldLength, brandIds.length, -1);
+                        }
+                        brandIds[fileId] = state.brands.register(new String(name, StandardCharsets.UTF_8));
+                    } else if (op == OP_INSERT) {
+                        long id = payload.getLong();
+                        long record = payload.getLong();
+                        if (sequence > state.lastSequence) {
+                            state.table.put(id, RecordTable.withBrandId(record, remap(brandIds, record, file)));
+                            state.lastSequence = sequence;
+                        }
+                        sequence++;
+                    } else if (op == OP_DELETE) {
+                        long id = payload.getLong();
+                        if (sequence > state.lastSequence) {
+                            state.table.remove(id);
+                            state.lastSequence = sequence;
+                        }
+                        sequence++;
+                    } else {
+                        throw new IOException("Unknown change log record " + op + " in " + file);
+                    }
+                }
+                goodEnd += FRAME_HEADER_SIZE + length;
+            }
+        }
+        long fileSize = Files.size(file);
+        if (goodEnd < fileSize) {
+            if (!truncateTail) {
+                throw new IOException("Corrupt change log segment at offset " + goodEnd + ": " + file);
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(goodEnd);
+                channel.force(true);
+            }
+        }
+        return sequence - firstSequence;
+    }
+
+    static void deleteTemporaryFiles(Path directory) throws IOException {
+        for (Path file : list(directory, SNAPSHOT_PREFIX + "*" + SNAPSHOT_SUFFIX + TEMPORARY_SUFFIX)) {
+            deleteQuietly(file);
+        }
+    }
+
+    static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Picked up again by the next compaction or recovery
+        }
+    }
+
+    private static int remap(int[] brandIds, long record, Path file) throws IOException {
+        int fileId = RecordTable.brandIdOf(record);
+        if (fileId >= brandIds.length || brandIds[fileId] < 0) {
+            throw new IOException("Undefined brand id " + fileId + " in " + file);
+        }
+        return brandIds[fileId];
+    }
+
+    private static List<Path> list(Path directory, String glob) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        files.sort((a, b) -> a.getFileName().compareTo(b.getFileName()));
+        return files;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+    // Makes a created, renamed or deleted file name durable. Not every platform
+    // can open a directory; there the rename is left to the file system.
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on this platform
+        }
+    }
+
+    // Buffered little-endian reads from the start of a channel.
+    private static final class Input {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private long remainingInFile;
+
+        Input(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.remainingInFile = channel.size();
+            buffer.limit(0);
+        }
+
+        boolean hasRemaining(int bytes) {
+            return buffer.remaining() + remainingInFile >= bytes;
+        }
+
+        int getInt() throws IOException {
+            require(4);
+            return buffer.getInt();
+        }
+
+        short getShort() throws IOException {
+            require(2);
+            return buffer.getShort();
+        }
+
+        long getLong() throws IOException {
+            require(8);
+            return buffer.getLong();
+        }
+
+        String getString(int length) throws IOException {
+            byte[] bytes = new byte[length];
+            ByteBuffer target = ByteBuffer.wrap(bytes);
+            get(target);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        void get(ByteBuffer target) throws IOException {
+            while (target.hasRemaining()) {
+                if (!buffer.hasRemaining()) {
+                    require(1);
+                }
+                int count = Math.min(buffer.remaining(), target.remaining());
+                int limit = buffer.limit();
+                buffer.limit(buffer.position() + count);
+                target.put(buffer);
+                buffer.limit(limit);
+            }
+        }
+
+        private void require(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    throw new EOFException();
+                }
+                remainingInFile -= read;
+            }
+            buffer.flip();
+        }
+    }
+}
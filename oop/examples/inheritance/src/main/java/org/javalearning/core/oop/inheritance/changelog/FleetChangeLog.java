@@ -0,0 +1,608 @@
+package org.javalearning.core.oop.inheritance.changelog;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.registry.FleetSnapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A durable fleet keyed by vehicle id, persisted as an append-only log of
+ * insert and delete operations plus periodic snapshots.
+ *
+ * <p><strong>Writes:</strong>
+ * Every {@link #insert(long, Vehicle)} and {@link #delete(long)} appends a
+ * compact binary record (17 and 9 bytes) to the current log segment. Writers
+ * that arrive while a write is in progress are group-committed: their records
+ * are collected into one CRC-protected frame that the next writer flushes with
+ * a single {@code write} and, depending on the {@link SyncPolicy}, a single
+ * {@code fsync}. A call returns once its change is committed under the policy.
+ *
+ * <p><strong>Compaction:</strong>
+ * {@link #compact()} seals the current segment and starts a new one, then a
+ * background thread merges the previous snapshot with the sealed segments into
+ * a new snapshot and deletes the files it replaces. Writers continue while the
+ * compaction runs.
+ *
+ * <p><strong>Recovery:</strong>
+ * {@link #open(Path, SyncPolicy)} loads the newest snapshot and replays the
+ * segments written after it. A torn frame at the end of the last segment, left
+ * by a crash in the middle of a write, is detected by its checksum and cut off;
+ * the changes it held had not been acknowledged.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>
+ * try (FleetChangeLog log = FleetChangeLog.open(Path.of("fleet-log"), SyncPolicy.ALWAYS)) {
+ *     log.insert(42L, new Car("Toyota", 2023, 4));
+ *     log.delete(7L);
+ *     log.compact();
+ * }
+ * </pre>
+ *
+ * <p>This class is thread-safe. Reads see every change whose write call has
+ * returned, and possibly changes of calls still waiting for their commit.
+ * Changes are applied in memory before their frame is written, so once a write
+ * fails, reads throw {@link UncheckedIOException} rather than serve changes
+ * that may never have been persisted; reopen the log to read what was.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class FleetChangeLog implements AutoCloseable {
+    /**
+     * Sync interval used for {@link SyncPolicy#PERIODIC} when none is given.
+     */
+    public static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(100);
+
+    private static final int INITIAL_BATCH_SIZE = 64 * 1024;
+    private static final int MAX_BRAND_LENGTH = 0xFFFF;
+
+    private final Path directory;
+    private final SyncPolicy policy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition committed = lock.newCondition();
+    private final ScheduledThreadPoolExecutor background;
+    private final FleetState state;
+
+    private FileChannel segment;
+    private long segmentFirstSequence;
+    private final BitSet segmentBrands = new BitSet();
+    private ByteBuffer pending = newBatch(INITIAL_BATCH_SIZE);
+    private ByteBuffer spare = newBatch(INITIAL_BATCH_SIZE);
+    private long writtenSequence;
+    private long durableSequence;
+    private boolean flushing;
+    private boolean dirty;
+    private boolean closed;
+    private IOException failure;
+    private CompletableFuture<Path> compaction = CompletableFuture.completedFuture(null);
+
+    private FleetChangeLog(Path directory, SyncPolicy policy, Duration syncInterval, FleetState state)
+            throws IOException {
+        this.directory = directory;
+        this.policy = policy;
+        this.state = state;
+        this.writtenSequence = state.lastSequence;
+        this.durableSequence = state.lastSequence;
+        this.segmentFirstSequence = state.lastSequence + 1;
+        this.segment = ChangeLogFiles.createSegment(directory, segmentFirstSequence);
+        this.background = new ScheduledThreadPoolExecutor(2, task -> {
+            Thread thread = new Thread(task, "fleet-change-log-" + directory.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (policy == SyncPolicy.PERIODIC) {
+            long interval = syncInterval.toNanos();
+            background.scheduleWithFixedDelay(this::syncInBackground, interval, interval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Opens the change log in a directory, recovering the fleet it describes,
+     * and syncs with {@link #DEFAULT_SYNC_INTERVAL} under {@link SyncPolicy#PERIODIC}.
+     *
+     * @param directory the log directory; created if it does not exist
+     * @param policy when to force writes to disk
+     * @return the open log
+     * @throws IOException if the directory cannot be read or a log file is corrupt
+     * @throws IllegalArgumentException if directory or policy is null
+     */
+    public static FleetChangeLog open(Path directory, SyncPolicy policy) throws IOException {
+        return open(directory, policy, DEFAULT_SYNC_INTERVAL);
+    }
+
+    /**
+     * Opens the change log in a directory, recovering the fleet it describes.
+     *
+     * @param directory the log directory; created if it does not exist
+     * @param policy when to force writes to disk
+     * @param syncInterval the time between background syncs under {@link SyncPolicy#PERIODIC}
+     * @return the open log
+     * @throws IOException if the directory cannot be read or a log file is corrupt
+     * @throws IllegalArgumentException if any argument is null or syncInterval is not positive
+     */
+    public static FleetChangeLog open(Path directory, SyncPolicy policy, Duration syncInterval) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Sync policy cannot be null");
+        }
+        if (syncInterval == null || syncInterval.isNegative() || syncInterval.isZero()) {
+            throw new IllegalArgumentException("Sync interval must be positive");
+        }
+        Files.createDirectories(directory);
+        return new FleetChangeLog(directory, policy, syncInterval, recover(directory));
+    }
+
+    /**
+     * Inserts a vehicle, replacing any vehicle stored under the same id.
+     *
+     * @param id the vehicle id
+     * @param vehicle the vehicle to store
+     * @return the sequence number of the change
+     * @throws IllegalArgumentException if id is negative, vehicle is null, or its
+     *         brand or door count does not fit the record format
+     * @throws IOException if the change cannot be written; the log then rejects further writes
+     * @throws IllegalStateException if the log is closed
+     */
+    public long insert(long id, Vehicle vehicle) throws IOException {
+        requireId(id);
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null");
+        }
+        VehicleType type = VehicleType.of(vehicle);
+        int attribute = 0;
+        if (vehicle instanceof Car) {
+            attribute = ((Car) vehicle).getNumDoors();
+        } else if (vehicle instanceof Motorcycle) {
+            attribute = ((Motorcycle) vehicle).getHasSideCar() ? 1 : 0;
+        }
+        byte[] brandName = vehicle.getBrand().getBytes(StandardCharsets.UTF_8);
+        if (brandName.length > MAX_BRAND_LENGTH) {
+            throw new IllegalArgumentException("Brand name too long: " + vehicle.getBrand());
+        }
+        lock.lock();
+        try {
+            requireWritable();
+            int brandId = state.brands.register(vehicle.getBrand());
+            long record = RecordTable.pack(vehicle.getYear(), brandId, type, attribute);
+            if (!segmentBrands.get(brandId)) {
+                reserve(7 + brandName.length);
+                ChangeLogFiles.putBrand(pending, brandId, brandName);
+                segmentBrands.set(brandId);
+            }
+            reserve(ChangeLogFiles.INSERT_SIZE);
+            ChangeLogFiles.putInsert(pending, id, record);
+            state.table.put(id, record);
+            long sequence = ++state.lastSequence;
+            awaitCommit(sequence);
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the vehicle stored under an id. Deleting an absent id writes nothing.
+     *
+     * @param id the vehicle id
+     * @return true if a vehicle was deleted, false if the id was absent
+     * @throws IllegalArgumentException if id is negative
+     * @throws IOException if the change cannot be written; the log then rejects further writes
+     * @throws IllegalStateException if the log is closed
+     */
+    public boolean delete(long id) throws IOException {
+        requireId(id);
+        lock.lock();
+        try {
+            requireWritable();
+            if (!state.table.remove(id)) {
+                return false;
+            }
+            reserve(ChangeLogFiles.DELETE_SIZE);
+            ChangeLogFiles.putDelete(pending, id);
+            awaitCommit(++state.lastSequence);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Looks up the vehicle stored under an id.
+     *
+     * @param id the vehicle id
+     * @return a new vehicle holding the stored state, or null if the id is absent
+     * @throws UncheckedIOException if a write has failed
+     */
+    public Vehicle get(long id) {
+        lock.lock();
+        try {
+            requireReadable();
+            long record = id < 0 ? -1 : state.table.get(id);
+            return record < 0 ? null : materialize(record);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Determines whether a vehicle is stored under an id.
+     *
+     * @param id the vehicle id
+     * @return true if the id is present, false otherwise
+     * @throws UncheckedIOException if a write has failed
+     */
+    public boolean containsId(long id) {
+        lock.lock();
+        try {
+            requireReadable();
+            return id >= 0 && state.table.contains(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the number of stored vehicles.
+     *
+     * @return the fleet size
+     * @throws UncheckedIOException if a write has failed
+     */
+    public int size() {
+        lock.lock();
+        try {
+            requireReadable();
+            return state.table.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the sequence number of the last change, counting from one for the
+     * first change ever written to the directory.
+     *
+     * @return the last sequence number, or zero if the log is empty
+     * @throws UncheckedIOException if a write has failed
+     */
+    public long getLastSequence() {
+        lock.lock();
+        try {
+            requireReadable();
+            return state.lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Performs an action for every stored vehicle, in no particular order.
+     * Writers wait until the iteration has finished.
+     *
+     * @param consumer the action receiving each id and a new vehicle instance
+     * @throws IllegalArgumentException if consumer is null
+     * @throws UncheckedIOException if a write has failed
+     */
+    public void forEach(FleetSnapshot.EntryConsumer consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+        lock.lock();
+        try {
+            requireReadable();
+            RecordTable table = state.table;
+            for (int slot = 0; slot < table.capacity(); slot++) {
+                long id = table.idAt(slot);
+                if (id >= 0) {
+                    consumer.accept(id, materialize(table.recordAt(slot)));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Seals the current segment and compacts everything written so far into a
+     * new snapshot on a background thread. If a compaction is already running,
+     * no new one is started.
+     *
+     * @return a future completing with the new snapshot file, or exceptionally
+     *         with an {@link UncheckedIOException} if the compaction failed
+     * @throws IOException if the current segment cannot be sealed
+     * @throws IllegalStateException if the log is closed
+     */
+    public CompletableFuture<Path> compact() throws IOException {
+        lock.lock();
+        try {
+            requireWritable();
+            if (!compaction.isDone()) {
+                return compaction;
+            }
+            sealSegment();
+            long lastSequence = state.lastSequence;
+            compaction = CompletableFuture.supplyAsync(() -> compactUpTo(lastSequence), background);
+            return compaction;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Commits all pending changes, forces them to disk and closes the log. A
+     * running compaction is allowed to finish.
+     *
+     * @throws IOException if pending changes cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            try {
+                if (failure == null) {
+                    commitPending();
+                    segment.force(true);
+                }
+            } finally {
+                closed = true;
+                segment.close();
+            }
+        } finally {
+            lock.unlock();
+            background.shutdown();
+            awaitBackground();
+        }
+    }
+
+    private static FleetState recover(Path directory) throws IOException {
+        FleetState state = new FleetState();
+        ChangeLogFiles.deleteTemporaryFiles(directory);
+        List<Path> snapshots = ChangeLogFiles.snapshots(directory);
+        long snapshotSequence = 0;
+        if (!snapshots.isEmpty()) {
+            Path newest = snapshots.get(snapshots.size() - 1);
+            ChangeLogFiles.loadSnapshot(newest, state);
+            snapshotSequence = state.lastSequence;
+            for (Path older : snapshots.subList(0, snapshots.size() - 1)) {
+                ChangeLogFiles.deleteQuietly(older);
+            }
+        }
+        List<Path> segments = ChangeLogFiles.segments(directory);
+        for (int i = 0; i < segments.size(); i++) {
+            Path file = segments.get(i);
+            long changes = ChangeLogFiles.replaySegment(file, state, i == segments.size() - 1);
+            long lastInSegment = ChangeLogFiles.sequenceOf(file) + changes - 1;
+            if (changes == 0 || lastInSegment <= snapshotSequence) {
+                ChangeLogFiles.deleteQuietly(file);
+            }
+        }
+        return state;
+    }
+
+    private Path compactUpTo(long lastSequence) {
+        try {
+            FleetState merged = new FleetState();
+            List<Path> snapshots = ChangeLogFiles.snapshots(directory);
+            Path previous = snapshots.isEmpty() ? null : snapshots.get(snapshots.size() - 1);
+            if (previous != null) {
+                ChangeLogFiles.loadSnapshot(previous, merged);
+            }
+            List<Path> sealed = ChangeLogFiles.segments(directory);
+            sealed.removeIf(file -> ChangeLogFiles.sequenceOf(file) > lastSequence);
+            for (Path file : sealed) {
+                ChangeLogFiles.replaySegment(file, merged, false);
+            }
+            if (merged.lastSequence != lastSequence) {
+                throw new IOException("Compaction reached change " + merged.lastSequence
+                        + " instead of " + lastSequence);
+            }
+            Path snapshot = previous != null && ChangeLogFiles.sequenceOf(previous) == lastSequence
+                    ? previous
+                    : ChangeLogFiles.writeSnapshot(directory, merged);
+            for (Path file : sealed) {
+                ChangeLogFiles.deleteQuietly(file);
+            }
+            if (previous != null && !previous.equals(snapshot)) {
+                ChangeLogFiles.deleteQuietly(previous);
+            }
+            return snapshot;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void awaitCommit(long sequence) throws IOException {
+        while ((policy == SyncPolicy.ALWAYS ? durableSequence : writtenSequence) < sequence) {
+            requireHealthy();
+            if (flushing) {
+                committed.awaitUninterruptibly();
+            } else {
+                flushBatch();
+            }
+        }
+    }
+
+    private void commitPending() throws IOException {
+        while (flushing || pending.position() > ChangeLogFiles.FRAME_HEADER_SIZE) {
+            requireHealthy();
+            if (flushing) {
+                committed.awaitUninterruptibly();
+            } else {
+                flushBatch();
+            }
+        }
+        requireHealthy();
+    }
+
+    // Called with the lock held and no flush in progress. The lock is released
+    // while the frame is written, so new writers can fill the next batch.
+    private void flushBatch() throws IOException {
+        flushing = true;
+        ByteBuffer batch = pending;
+        long batchSequence = state.lastSequence;
+        FileChannel channel = segment;
+        pending = spare;
+        pending.clear().position(ChangeLogFiles.FRAME_HEADER_SIZE);
+        IOException error = null;
+        lock.unlock();
+        try {
+            ChangeLogFiles.writeFrame(channel, batch);
+            if (policy == SyncPolicy.ALWAYS) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            error = e;
+        } finally {
+            lock.lock();
+        }
+        spare = batch;
+        flushing = false;
+        if (error != null) {
+            failure = error;
+        } else {
+            writtenSequence = batchSequence;
+            if (policy == SyncPolicy.ALWAYS) {
+                durableSequence = batchSequence;
+            } else {
+                dirty = true;
+            }
+        }
+        committed.signalAll();
+        requireHealthy();
+    }
+
+    private void sealSegment() throws IOException {
+        if (segmentFirstSequence == state.lastSequence + 1) {
+            return;
+        }
+        commitPending();
+        segment.force(true);
+        segment.close();
+        segmentFirstSequence = state.lastSequence + 1;
+        segment = ChangeLogFiles.createSegment(directory, segmentFirstSequence);
+        segmentBrands.clear();
+        durableSequence = writtenSequence;
+        dirty = false;
+    }
+
+    private void syncInBackground() {
+        FileChannel channel;
+        long sequence;
+        lock.lock();
+        try {
+            if (!dirty || closed || failure != null) {
+                return;
+            }
+            dirty = false;
+            channel = segment;
+            sequence = writtenSequence;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            channel.force(false);
+            lock.lock();
+            try {
+                durableSequence = Math.max(durableSequence, sequence);
+            } finally {
+                lock.unlock();
+            }
+        } catch (ClosedChannelException e) {
+            // The segment was sealed or the log closed; both force it first
+        } catch (IOException e) {
+            lock.lock();
+            try {
+                failure = e;
+                committed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void reserve(int bytes) {
+        if (pending.remaining() < bytes) {
+            ByteBuffer larger = newBatch(Math.max(pending.capacity() * 2, pending.position() + bytes));
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+    }
+
+    private Vehicle materialize(long record) {
+        return Vehicle.restore(RecordTable.typeOf(record), state.brands.nameOf(RecordTable.brandIdOf(record)),
+                RecordTable.yearOf(record), RecordTable.attributeOf(record));
+    }
+
+    private void requireWritable() throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Change log is closed");
+        }
+        requireHealthy();
+    }
+
+    private void requireReadable() {
+        if (failure != null) {
+            throw new UncheckedIOException(
+                    new IOException("Change log failed; its in-memory state may hold unwritten changes", failure));
+        }
+    }
+
+    private void requireHealthy() throws IOException {
+        if (failure != null) {
+            throw new IOException("Change log failed and rejects further writes", failure);
+        }
+    }
+
+    private void awaitBackground() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (background.awaitTermination(1, TimeUnit.MINUTES)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void requireId(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Vehicle id cannot be negative");
+        }
+    }
+
+    private static ByteBuffer newBatch(int capacity) {
+        ByteBuffer batch = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        batch.position(ChangeLogFiles.FRAME_HEADER_SIZE);
+        return batch;
+    }
+}
@@ -0,0 +1,23 @@
+package org.javalearning.core.oop.inheritance.changelog;
+
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+
+/**
+ * The fleet a change log describes: the live records, the brands their ids
+ * refer to, and the sequence number of the last change applied.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class FleetState {
+    final BrandRegistry brands = new BrandRegistry();
+    RecordTable table = new RecordTable();
+    long lastSequence;
+
+    void ensureCapacity(int expectedSize) {
+        if (table.size() == 0 && table.capacity() < expectedSize * 2L) {
+            table = new RecordTable(expectedSize);
+        }
+    }
+}
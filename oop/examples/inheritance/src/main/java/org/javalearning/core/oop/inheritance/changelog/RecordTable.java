@@ -0,0 +1,183 @@
+package org.javalearning.core.oop.inheritance.changelog;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table from non-negative vehicle ids to packed vehicle
+ * records, sixteen bytes per entry and no object per vehicle.
+ *
+ * <p><strong>Packed Record</strong> (one {@code long}):
+ * <pre>
+ * bits 32-63  year
+ * bits 10-31  brand id
+ * bits  8-9   type tag (see {@link VehicleType})
+ * bits  0-7   door count for cars, 1 or 0 for a motorcycle's sidecar flag, 0 otherwise
+ * </pre>
+ *
+ * <p>Linear probing with backward-shift deletion, so removals leave no
+ * tombstones. Not thread-safe.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class RecordTable {
+    static final int MAX_BRANDS = 1 << 22;
+    static final int MAX_ATTRIBUTE = 0xFF;
+
+    private static final long EMPTY = -1L;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] ids;
+    private long[] records;
+    private int size;
+
+    RecordTable() {
+        this(INITIAL_CAPACITY);
+    }
+
+    RecordTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(INITIAL_CAPACITY, expectedSize) * 2 - 1) * 2;
+        allocate(capacity);
+    }
+
+    static long pack(int year, int brandId, VehicleType type, int attribute) {
+        if (brandId >= MAX_BRANDS) {
+            throw new IllegalStateException("Change log supports at most " + MAX_BRANDS + " brands");
+        }
+        if (attribute > MAX_ATTRIBUTE) {
+            throw new IllegalArgumentException("Number of doors cannot exceed " + MAX_ATTRIBUTE);
+        }
+        return (long) year << 32 | (long) brandId << 10 | type.getTag() << 8 | attribute;
+    }
+
+    static int yearOf(long record) {
+        return (int) (record >>> 32);
+    }
+
+    static int brandIdOf(long record) {
+        return (int) (record >>> 10) & (MAX_BRANDS - 1);
+    }
+
+    static VehicleType typeOf(long record) {
+        return VehicleType.fromTag((byte) (record >>> 8 & 0x3));
+    }
+
+    static int attributeOf(long record) {
+        return (int) record & 0xFF;
+    }
+
+    static long withBrandId(long record, int brandId) {
+        return record & ~((long) (MAX_BRANDS - 1) << 10) | (long) brandId << 10;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(long id) {
+        return slotOf(id) >= 0;
+    }
+
+    /**
+     * Returns the record of an id, or -1 if the id is absent. Packed records are
+     * never negative because years are not.
+     */
+    long get(long id) {
+        int slot = slotOf(id);
+        return slot < 0 ? EMPTY : records[slot];
+    }
+
+    void put(long id, long record) {
+        if ((size + 1) * 2 > ids.length) {
+            resize();
+        }
+        int mask = ids.length - 1;
+        int slot = hash(id) & mask;
+        while (ids[slot] != EMPTY && ids[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        if (ids[slot] == EMPTY) {
+            ids[slot] = id;
+            size++;
+        }
+        records[slot] = record;
+    }
+
+    boolean remove(long id) {
+        int slot = slotOf(id);
+        if (slot < 0) {
+            return false;
+        }
+        int mask = ids.length - 1;
+        int hole = slot;
+        int next = (slot + 1) & mask;
+        while (ids[next] != EMPTY) {
+            int home = hash(ids[next]) & mask;
+            // Move the entry back into the hole unless its home lies cyclically after the hole
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                ids[hole] = ids[next];
+                records[hole] = records[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        ids[hole] = EMPTY;
+        size--;
+        return true;
+    }
+
+    int capacity() {
+        return ids.length;
+    }
+
+    long idAt(int slot) {
+        return ids[slot];
+    }
+
+    long recordAt(int slot) {
+        return records[slot];
+    }
+
+    private int slotOf(long id) {
+        int mask = ids.length - 1;
+        int slot = hash(id) & mask;
+        while (ids[slot] != EMPTY) {
+            if (ids[slot] == id) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize() {
+        long[] oldIds = ids;
+        long[] oldRecords = records;
+        allocate(oldIds.length * 2);
+        int mask = ids.length - 1;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY) {
+                int slot = hash(oldIds[i]) & mask;
+                while (ids[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                ids[slot] = oldIds[i];
+                records[slot] = oldRecords[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        ids = new long[capacity];
+        records = new long[capacity];
+        Arrays.fill(ids, EMPTY);
+    }
+
+    private static int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ h >>> 32);
+    }
+}
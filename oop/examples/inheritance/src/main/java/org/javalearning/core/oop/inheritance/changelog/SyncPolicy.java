@@ -0,0 +1,32 @@
+package org.javalearning.core.oop.inheritance.changelog;
+
+/**
+ * When a {@link FleetChangeLog} forces its writes to stable storage with
+ * {@code fsync}, trading durability against write throughput.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public enum SyncPolicy {
+    /**
+     * Every group commit is forced to disk before its writers return. No
+     * acknowledged change is lost, even if the machine fails.
+     */
+    ALWAYS,
+
+    /**
+     * Group commits are written to the operating system before their writers
+     * return and forced to disk by a background thread once per sync interval.
+     * A machine failure loses at most the changes of the last interval; a
+     * process crash loses nothing.
+     */
+    PERIODIC,
+
+    /**
+     * Group commits are written to the operating system, which decides when to
+     * flush them. Segments are still forced when they are sealed and when the
+     * log is closed.
+     */
+    NEVER
+}
@@ -0,0 +1,73 @@
+package org.javalearning.core.oop.inheritance.dispatch;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+
+import java.util.function.Consumer;
+
+/**
+ * Processes vehicles with one method per concrete type of the sealed
+ * {@link Vehicle} hierarchy. Because every method is abstract, an
+ * implementation must handle each permitted type explicitly.
+ *
+ * <p>{@link VehicleBatchProcessor} calls each method in a tight loop over
+ * vehicles of a single concrete class, so calls inside the handler see one
+ * receiver type and remain inlinable.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public interface VehicleHandler {
+
+    /**
+     * Handles a basic vehicle that is neither a car nor a motorcycle.
+     *
+     * @param vehicle the vehicle to handle
+     */
+    void onVehicle(Vehicle vehicle);
+
+    /**
+     * Handles a car.
+     *
+     * @param car the car to handle
+     */
+    void onCar(Car car);
+
+    /**
+     * Handles a motorcycle.
+     *
+     * @param motorcycle the motorcycle to handle
+     */
+    void onMotorcycle(Motorcycle motorcycle);
+
+    /**
+     * Creates a handler from one callback per concrete type.
+     *
+     * @param onVehicle callback for basic vehicles
+     * @param onCar callback for cars
+     * @param onMotorcycle callback for motorcycles
+     * @return a handler delegating to the callbacks
+     */
+    static VehicleHandler of(Consumer<? super Vehicle> onVehicle,
+                             Consumer<? super Car> onCar,
+                             Consumer<? super Motorcycle> onMotorcycle) {
+        return new VehicleHandler() {
+            @Override
+            public void onVehicle(Vehicle vehicle) {
+                onVehicle.accept(vehicle);
+            }
+
+            @Override
+            public void onCar(Car car) {
+                onCar.accept(car);
+            }
+
+            @Override
+            public void onMotorcycle(Motorcycle motorcycle) {
+                onMotorcycle.accept(motorcycle);
+            }
+        };
+    }
+}
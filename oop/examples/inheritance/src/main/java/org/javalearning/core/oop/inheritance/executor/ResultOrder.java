@@ -0,0 +1,22 @@
+package org.javalearning.core.oop.inheritance.executor;
+
+/**
+ * Order in which a {@link VirtualFleetExecutor} returns per-vehicle results.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public enum ResultOrder {
+    /**
+     * Result {@code i} belongs to input vehicle {@code i}.
+     */
+    INPUT,
+
+    /**
+     * Results appear in the order the vehicles finished processing, for callers
+     * that only need the set of results. Vehicles within one batch finish, and
+     * therefore appear, in input order.
+     */
+    COMPLETION
+}
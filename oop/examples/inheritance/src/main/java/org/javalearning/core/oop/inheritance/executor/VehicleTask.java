@@ -0,0 +1,29 @@
+package org.javalearning.core.oop.inheritance.executor;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+
+/**
+ * Per-vehicle unit of work run by a {@link VirtualFleetExecutor}. Unlike the
+ * handlers of the dispatch package, a task may block (for example on a remote
+ * lookup) and may throw checked exceptions; both are expected on virtual threads.
+ *
+ * <p>Tasks should respond to interruption, which is how the executor cancels
+ * the remaining work after a failure, a timeout or an interrupted caller.
+ *
+ * @param <R> the type of the per-vehicle result
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface VehicleTask<R> {
+
+    /**
+     * Processes one vehicle.
+     *
+     * @param vehicle the vehicle to process
+     * @return the result for this vehicle, may be null
+     * @throws Exception if processing fails; the whole run is then cancelled
+     */
+    R process(Vehicle vehicle) throws Exception;
+}
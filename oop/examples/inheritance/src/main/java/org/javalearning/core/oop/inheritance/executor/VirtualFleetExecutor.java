@@ -0,0 +1,279 @@
+package org.javalearning.core.oop.inheritance.executor;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.metrics.BulkOperationEvent;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs blocking per-vehicle work on virtual threads, one thread per vehicle or
+ * per batch of vehicles.
+ *
+ * <p><strong>Why Virtual Threads:</strong>
+ * A task that waits on a slow lookup parks its virtual thread and frees the
+ * carrier thread for other tasks, so thousands of lookups can be in flight on a
+ * handful of cores. A fixed pool of platform threads caps concurrency at its
+ * pool size instead.
+ *
+ * <p><strong>Structured Execution:</strong>
+ * Every {@code map} call owns the threads it starts and does not return, normally
+ * or exceptionally, before all of them have finished:
+ * <ul>
+ *   <li>The first task failure cancels the run: no further batches start,
+ *       running tasks are interrupted, and the failure is rethrown as the cause
+ *       of an {@link ExecutionException}</li>
+ *   <li>An exceeded deadline cancels the run the same way and throws {@link TimeoutException}</li>
+ *   <li>Interrupting the calling thread cancels the run and throws {@link InterruptedException}</li>
+ * </ul>
+ *
+ * <p><strong>Concurrency Limit:</strong>
+ * At most {@code maxConcurrency} batches run at a time. The limit protects the
+ * downstream service being called, and because new threads are only started
+ * when a permit is free, it also bounds the number of live virtual threads.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>
+ * VirtualFleetExecutor executor = new VirtualFleetExecutor(256);
+ * List&lt;Price&gt; prices = executor.map(fleet, pricingService::lookup, ResultOrder.INPUT);
+ * </pre>
+ *
+ * <p>The executor holds no threads between calls and may be shared by concurrent callers.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class VirtualFleetExecutor {
+    private final int maxConcurrency;
+    private final int batchSize;
+
+    /**
+     * Constructs an executor that runs one virtual thread per vehicle.
+     *
+     * @param maxConcurrency the maximum number of vehicles processed at a time
+     * @throws IllegalArgumentException if maxConcurrency is not positive
+     */
+    public VirtualFleetExecutor(int maxConcurrency) {
+        this(maxConcurrency, 1);
+    }
+
+    /**
+     * Constructs an executor that runs one virtual thread per batch of
+     * consecutive vehicles. Larger batches start fewer threads but serialize
+     * the vehicles within a batch.
+     *
+     * @param maxConcurrency the maximum number of batches processed at a time
+     * @param batchSize the number of vehicles processed by one thread
+     * @throws IllegalArgumentException if maxConcurrency or batchSize is not positive
+     */
+    public VirtualFleetExecutor(int maxConcurrency, int batchSize) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Runs a task for every vehicle and collects the results, without a deadline.
+     *
+     * @param <R> the result type
+     * @param vehicles the vehicles to process
+     * @param task the blocking per-vehicle task
+     * @param order the order of the returned results
+     * @return an unmodifiable list with one result per vehicle
+     * @throws InterruptedException if the calling thread was interrupted; the run is cancelled
+     * @throws ExecutionException if a task failed; the run is cancelled
+     * @throws IllegalArgumentException if any argument is null
+     */
+    public <R> List<R> map(List<? extends Vehicle> vehicles, VehicleTask<? extends R> task, ResultOrder order)
+            throws InterruptedException, ExecutionException {
+        try {
+            return run(vehicles, task, order, Long.MAX_VALUE);
+        } catch (TimeoutException e) {
+            throw new AssertionError("Run without deadline timed out", e);
+        }
+    }
+
+    /**
+     * Runs a task for every vehicle and collects the results, cancelling the run
+     * if it does not finish within a timeout.
+     *
+     * @param <R> the result type
+     * @param vehicles the vehicles to process
+     * @param task the blocking per-vehicle task
+     * @param order the order of the returned results
+     * @param timeout the maximum duration of the whole run
+     * @return an unmodifiable list with one result per vehicle
+     * @throws InterruptedException if the calling thread was interrupted; the run is cancelled
+     * @throws ExecutionException if a task failed; the run is cancelled
+     * @throws TimeoutException if the timeout elapsed; the run is cancelled
+     * @throws IllegalArgumentException if any argument is null
+     */
+    public <R> List<R> map(List<? extends Vehicle> vehicles, VehicleTask<? extends R> task, ResultOrder order,
+                           Duration timeout) throws InterruptedException, ExecutionException, TimeoutException {
+        if (timeout == null) {
+            throw new IllegalArgumentException("Timeout cannot be null");
+        }
+        return run(vehicles, task, order, deadlineAfter(timeout));
+    }
+
+    /**
+     * Retrieves the maximum number of batches processed at a time.
+     *
+     * @return the concurrency limit
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Retrieves the number of vehicles processed by one virtual thread.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    // Timeouts too long for a nanoTime deadline, including those beyond the
+    // range of Duration.toNanos(), mean no deadline (Long.MAX_VALUE)
+    private static long deadlineAfter(Duration timeout) {
+        long now = System.nanoTime();
+        if (timeout.isNegative()) {
+            return now;
+        }
+        try {
+            return Math.addExact(now, timeout.toNanos());
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private <R> List<R> run(List<? extends Vehicle> vehicles, VehicleTask<? extends R> task, ResultOrder order,
+                            long deadline) throws InterruptedException, ExecutionException, TimeoutException {
+        if (vehicles == null) {
+            throw new IllegalArgumentException("Vehicles cannot be null");
+        }
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        if (order == null) {
+            throw new IllegalArgumentException("Result order cannot be null");
+        }
+        BulkOperationEvent event = BulkOperationEvent.start("virtual-map");
+        Run<R> run = new Run<>(vehicles, task, order);
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                run.submitAll(threads, deadline);
+                run.awaitAll(deadline);
+            } catch (InterruptedException | TimeoutException e) {
+                run.cancel(threads);
+                throw e;
+            }
+            Throwable failure = run.failure.get();
+            if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+        }
+        event.complete(vehicles.size(), 0);
+        return run.results();
+    }
+
+    // State of one map call. Results are written by the task threads and read by
+    // the caller after it has re-acquired every permit; the release in each task
+    // happens-before that acquire, which publishes the results.
+    private final class Run<R> {
+        private final List<? extends Vehicle> vehicles;
+        private final VehicleTask<? extends R> task;
+        private final ResultOrder order;
+        private final Object[] results;
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final Semaphore permits = new Semaphore(maxConcurrency);
+        private volatile boolean cancelled;
+
+        Run(List<? extends Vehicle> vehicles, VehicleTask<? extends R> task, ResultOrder order) {
+            this.vehicles = vehicles;
+            this.task = task;
+            this.order = order;
+            this.results = new Object[vehicles.size()];
+        }
+
+        void submitAll(ExecutorService threads, long deadline) throws InterruptedException, TimeoutException {
+            for (int from = 0; from < results.length && !cancelled; from += batchSize) {
+                if (!permits.tryAcquire(remaining(deadline), TimeUnit.NANOSECONDS)) {
+                    throw new TimeoutException("Fleet processing timed out");
+                }
+                if (cancelled) {
+                    permits.release();
+                    break;
+                }
+                int start = from;
+                int end = Math.min(results.length, from + batchSize);
+                try {
+                    threads.execute(() -> runBatch(start, end, threads));
+                } catch (RejectedExecutionException e) {
+                    // A failing task shut the executor down in the meantime
+                    permits.release();
+                    break;
+                }
+            }
+        }
+
+        void awaitAll(long deadline) throws InterruptedException, TimeoutException {
+            if (!permits.tryAcquire(maxConcurrency, remaining(deadline), TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException("Fleet processing timed out");
+            }
+        }
+
+        void cancel(ExecutorService threads) {
+            cancelled = true;
+            threads.shutdownNow();
+        }
+
+        @SuppressWarnings("unchecked")
+        List<R> results() {
+            return Collections.unmodifiableList((List<R>) Arrays.asList(results));
+        }
+
+        private void runBatch(int start, int end, ExecutorService threads) {
+            try {
+                for (int i = start; i < end && !cancelled; i++) {
+                    R result = task.process(vehicles.get(i));
+                    int slot = order == ResultOrder.INPUT ? i : completed.getAndIncrement();
+                    results[slot] = result;
+                }
+            } catch (Throwable t) {
+                if (!cancelled) {
+                    if (failure.compareAndSet(null, t)) {
+                        cancel(threads);
+                    } else if (!(t instanceof InterruptedException)) {
+                        failure.get().addSuppressed(t);
+                    }
+                }
+            } finally {
+                permits.release();
+            }
+        }
+
+        private long remaining(long deadline) {
+            return deadline == Long.MAX_VALUE ? Long.MAX_VALUE : deadline - System.nanoTime();
+        }
+    }
+}
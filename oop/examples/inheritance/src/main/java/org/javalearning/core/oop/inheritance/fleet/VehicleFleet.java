@@ -0,0 +1,362 @@
+package org.javalearning.core.oop.inheritance.fleet;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.metrics.VehicleMetrics;
+import org.javalearning.core.oop.inheritance.validation.ValidationError;
+import org.javalearning.core.oop.inheritance.validation.VehicleRules;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Stores a fleet of vehicles as primitive columns (struct-of-arrays) instead of
+ * an array of {@link Vehicle} objects.
+ *
+ * <p><strong>Memory Layout:</strong>
+ * A {@code Vehicle[]} costs a reference, an object header, padding and a brand
+ * {@code String} reference per element. This container keeps one column per
+ * attribute:
+ * <ul>
+ *   <li>{@code byte[]} type tags (see {@link VehicleType})</li>
+ *   <li>{@code int[]} brand ids assigned by a {@link BrandRegistry}</li>
+ *   <li>{@code int[]} manufacturing years</li>
+ *   <li>{@code byte[]} door counts, used by cars only</li>
+ *   <li>a {@link BitSet} of sidecar flags, used by motorcycles only</li>
+ * </ul>
+ * A record therefore needs roughly ten bytes, and scans over a single
+ * attribute read contiguous memory.
+ *
+ * <p><strong>Validation:</strong>
+ * Records are checked with the same rules as the {@link Vehicle} and
+ * {@link Car} constructors and rejected with the same
+ * {@link IllegalArgumentException} messages. Door counts must additionally fit
+ * in the byte column.
+ *
+ * <p><strong>Brands:</strong>
+ * Brand ids come from the fleet's {@link BrandRegistry}. Fleets that share a
+ * registry share brand ids, so their brand columns can be compared directly.
+ *
+ * <p><strong>Views:</strong>
+ * {@link #get(int)} materializes a regular {@link Vehicle}, {@link Car} or
+ * {@link Motorcycle} on demand, so existing code can consume fleet records.
+ *
+ * <p><strong>Metrics:</strong>
+ * {@link VehicleMetrics} counts a record added through {@code addVehicle},
+ * {@code addCar} or {@code addMotorcycle} as created, and a rejected one per
+ * violated rule, just like a constructor call. Copying an existing object with
+ * {@link #add(Vehicle)} and materializing views do not count again.
+ *
+ * <p>This class is not thread-safe; concurrent writers must synchronize externally.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class VehicleFleet {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final BrandRegistry brands;
+
+    private byte[] types;
+    private int[] brandColumn;
+    private int[] years;
+    private byte[] doors;
+    private final BitSet sideCars = new BitSet();
+    private int size;
+    private int minYear = Integer.MAX_VALUE;
+    private int maxYear = Integer.MIN_VALUE;
+
+    /**
+     * Constructs an empty fleet with a default initial capacity and its own brand registry.
+     */
+    public VehicleFleet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty fleet with its own brand registry, able to hold the
+     * given number of vehicles before its columns need to grow.
+     *
+     * @param initialCapacity the initial number of records per column
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public VehicleFleet(int initialCapacity) {
+        this(initialCapacity, new BrandRegistry());
+    }
+
+    /**
+     * Constructs an empty fleet that encodes brands through a shared registry.
+     *
+     * @param initialCapacity the initial number of records per column
+     * @param brands the registry assigning brand ids
+     * @throws IllegalArgumentException if initialCapacity is negative or brands is null
+     */
+    public VehicleFleet(int initialCapacity, BrandRegistry brands) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+        if (brands == null) {
+            throw new IllegalArgumentException("Brand registry cannot be null");
+        }
+        this.brands = brands;
+        types = new byte[initialCapacity];
+        brandColumn = new int[initialCapacity];
+        years = new int[initialCapacity];
+        doors = new byte[initialCapacity];
+    }
+
+    /**
+     * Appends a basic vehicle record.
+     *
+     * @param brand the manufacturer brand of the vehicle
+     * @param year the manufacturing year of the vehicle
+     * @return the index of the new record
+     * @throws IllegalArgumentException if brand is null or empty, or if year is negative
+     */
+    public int addVehicle(String brand, int year) {
+        int index = insertVehicle(brand, year);
+        VehicleMetrics.recordCreated(VehicleType.VEHICLE);
+        return index;
+    }
+
+    /**
+     * Appends a car record.
+     *
+     * @param brand the manufacturer brand of the car
+     * @param year the manufacturing year of the car
+     * @param numDoors the number of doors the car has
+     * @return the index of the new record
+     * @throws IllegalArgumentException if numDoors is not positive or too large,
+     *         or if brand/year validation fails
+     */
+    public int addCar(String brand, int year, int numDoors) {
+        int index = insertCar(brand, year, numDoors);
+        VehicleMetrics.recordCreated(VehicleType.CAR);
+        return index;
+    }
+
+    /**
+     * Appends a motorcycle record.
+     *
+     * @param brand the manufacturer brand of the motorcycle
+     * @param year the manufacturing year of the motorcycle
+     * @param hasSideCar whether the motorcycle has a sidecar attached
+     * @return the index of the new record
+     * @throws IllegalArgumentException if brand/year validation fails
+     */
+    public int addMotorcycle(String brand, int year, boolean hasSideCar) {
+        int index = insertMotorcycle(brand, year, hasSideCar);
+        VehicleMetrics.recordCreated(VehicleType.MOTORCYCLE);
+        return index;
+    }
+
+    /**
+     * Appends the state of an existing vehicle object, keeping its concrete type.
+     *
+     * @param vehicle the vehicle to copy into the fleet
+     * @return the index of the new record
+     * @throws IllegalArgumentException if vehicle is null or its state cannot be stored
+     */
+    public int add(Vehicle vehicle) {
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null");
+        }
+        // The object was counted when it was constructed
+        if (vehicle instanceof Car) {
+            Car car = (Car) vehicle;
+            return insertCar(car.getBrand(), car.getYear(), car.getNumDoors());
+        } else if (vehicle instanceof Motorcycle) {
+            Motorcycle motorcycle = (Motorcycle) vehicle;
+            return insertMotorcycle(motorcycle.getBrand(), motorcycle.getYear(), motorcycle.getHasSideCar());
+        }
+        return insertVehicle(vehicle.getBrand(), vehicle.getYear());
+    }
+
+    /**
+     * Retrieves the number of records in this fleet.
+     *
+     * @return the fleet size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the concrete type of a record.
+     *
+     * @param index the record index
+     * @return the vehicle type of the record
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public VehicleType getType(int index) {
+        return VehicleType.fromTag(types[checkIndex(index)]);
+    }
+
+    /**
+     * Retrieves the brand of a record.
+     *
+     * @param index the record index
+     * @return the shared brand instance of the record
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public String getBrand(int index) {
+        return brands.nameOf(brandColumn[checkIndex(index)]);
+    }
+
+    /**
+     * Retrieves the registry id of a record's brand.
+     *
+     * @param index the record index
+     * @return the brand id of the record
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public int getBrandId(int index) {
+        return brandColumn[checkIndex(index)];
+    }
+
+    /**
+     * Retrieves the manufacturing year of a record.
+     *
+     * @param index the record index
+     * @return the year of the record
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public int getYear(int index) {
+        return years[checkIndex(index)];
+    }
+
+    /**
+     * Retrieves the door count of a car record.
+     *
+     * @param index the record index
+     * @return the number of doors, or zero if the record is not a car
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public int getNumDoors(int index) {
+        return doors[checkIndex(index)];
+    }
+
+    /**
+     * Determines whether a motorcycle record has a sidecar.
+     *
+     * @param index the record index
+     * @return true if the record is a motorcycle with a sidecar, false otherwise
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public boolean getHasSideCar(int index) {
+        return sideCars.get(checkIndex(index));
+    }
+
+    /**
+     * Materializes a record as a regular vehicle object of its concrete type.
+     * A new instance is created on every call.
+     *
+     * @param index the record index
+     * @return a {@link Vehicle}, {@link Car} or {@link Motorcycle} holding the record's state
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public Vehicle get(int index) {
+        checkIndex(index);
+        VehicleType type = VehicleType.fromTag(types[index]);
+        int attribute = type == VehicleType.MOTORCYCLE ? (sideCars.get(index) ? 1 : 0) : doors[index];
+        return Vehicle.restore(type, brands.nameOf(brandColumn[index]), years[index], attribute);
+    }
+
+    /**
+     * Retrieves the smallest manufacturing year in this fleet.
+     *
+     * @return the minimum year
+     * @throws IllegalStateException if the fleet is empty
+     */
+    public int getMinYear() {
+        if (size == 0) {
+            throw new IllegalStateException("Fleet is empty");
+        }
+        return minYear;
+    }
+
+    /**
+     * Retrieves the largest manufacturing year in this fleet.
+     *
+     * @return the maximum year
+     * @throws IllegalStateException if the fleet is empty
+     */
+    public int getMaxYear() {
+        if (size == 0) {
+            throw new IllegalStateException("Fleet is empty");
+        }
+        return maxYear;
+    }
+
+    /**
+     * Retrieves the registry that assigns this fleet's brand ids.
+     *
+     * @return the brand registry
+     */
+    public BrandRegistry getBrands() {
+        return brands;
+    }
+
+    private int insertVehicle(String brand, int year) {
+        requireValid(VehicleType.VEHICLE, VehicleRules.checkVehicle(brand, year));
+        return append(VehicleType.VEHICLE, brand, year, 0, false);
+    }
+
+    private int insertCar(String brand, int year, int numDoors) {
+        requireValid(VehicleType.CAR, VehicleRules.checkCar(brand, year, numDoors));
+        if (numDoors > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Number of doors cannot exceed " + Byte.MAX_VALUE);
+        }
+        return append(VehicleType.CAR, brand, year, numDoors, false);
+    }
+
+    private int insertMotorcycle(String brand, int year, boolean hasSideCar) {
+        requireValid(VehicleType.MOTORCYCLE, VehicleRules.checkVehicle(brand, year));
+        return append(VehicleType.MOTORCYCLE, brand, year, 0, hasSideCar);
+    }
+
+    // Counts the rejection like a failed Vehicle constructor would, so the
+    // metrics do not depend on whether vehicles enter as objects or as rows
+    private static void requireValid(VehicleType type, ValidationError error) {
+        if (error != ValidationError.NONE) {
+            VehicleMetrics.recordRejected(type, error);
+            throw new IllegalArgumentException(error.getMessage());
+        }
+    }
+
+    private int append(VehicleType type, String brand, int year, int numDoors, boolean hasSideCar) {
+        if (size == types.length) {
+            grow();
+        }
+        int index = size;
+        types[index] = type.getTag();
+        brandColumn[index] = brands.register(brand);
+        years[index] = year;
+        doors[index] = (byte) numDoors;
+        if (hasSideCar) {
+            sideCars.set(index);
+        }
+        minYear = Math.min(minYear, year);
+        maxYear = Math.max(maxYear, year);
+        size++;
+        return index;
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, types.length + (types.length >> 1));
+        types = Arrays.copyOf(types, capacity);
+        brandColumn = Arrays.copyOf(brandColumn, capacity);
+        years = Arrays.copyOf(years, capacity);
+        doors = Arrays.copyOf(doors, capacity);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for fleet size " + size);
+        }
+        return index;
+    }
+}
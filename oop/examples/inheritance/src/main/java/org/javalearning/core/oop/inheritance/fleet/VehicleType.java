@@ -0,0 +1,75 @@
+package org.javalearning.core.oop.inheritance.fleet;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+
+/**
+ * Identifies the concrete type of a vehicle stored in a columnar or binary
+ * representation, where the Java class of the record is no longer available.
+ * Each constant carries a compact one-byte tag suitable for primitive columns
+ * and file formats.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public enum VehicleType {
+    VEHICLE((byte) 0),
+    CAR((byte) 1),
+    MOTORCYCLE((byte) 2);
+
+    private static final VehicleType[] BY_TAG = values();
+
+    private final byte tag;
+
+    VehicleType(byte tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * Retrieves the compact tag stored in type columns.
+     *
+     * @return the one-byte type tag
+     */
+    public byte getTag() {
+        return tag;
+    }
+
+    /**
+     * Resolves a type from its compact tag.
+     *
+     * @param tag the one-byte type tag
+     * @return the matching vehicle type
+     * @throws IllegalArgumentException if the tag is unknown
+     */
+    public static VehicleType fromTag(byte tag) {
+        if (tag < 0 || tag >= BY_TAG.length) {
+            throw new IllegalArgumentException("Unknown vehicle type tag: " + tag);
+        }
+        return BY_TAG[tag];
+    }
+
+    /**
+     * Determines the concrete type of a vehicle instance.
+     *
+     * <p>{@link Vehicle} is itself instantiable, so the last case of the switch
+     * matches every vehicle that is not a {@link Car} or a {@link Motorcycle}.
+     * It is guarded by the exact class: a subtype added to the sealed
+     * hierarchy without a case of its own fails here instead of being stored
+     * with the {@link #VEHICLE} tag.
+     *
+     * @param vehicle the vehicle to classify
+     * @return the matching vehicle type
+     * @throws IllegalArgumentException if the vehicle's class has no type
+     */
+    public static VehicleType of(Vehicle vehicle) {
+        return switch (vehicle) {
+            case Car car -> CAR;
+            case Motorcycle motorcycle -> MOTORCYCLE;
+            case Vehicle plain when plain.getClass() == Vehicle.class -> VEHICLE;
+            case Vehicle other -> throw new IllegalArgumentException(
+                    "No vehicle type for " + other.getClass().getName());
+        };
+    }
+}
@@ -0,0 +1,230 @@
+package org.javalearning.core.oop.inheritance.index;
+
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+import java.util.Arrays;
+
+/**
+ * Secondary indexes over a {@link VehicleFleet}, answering attribute filters
+ * without scanning the fleet. Every query returns a {@link RowBitmap} of fleet
+ * row indexes, and bitmaps combine with AND, OR and AND NOT:
+ * <pre>
+ * FleetIndex index = new FleetIndex(fleet);
+ * RowBitmap recentToyotas = index.brand("Toyota").and(index.yearRange(2020, 2023));
+ * RowBitmap twoDoorCarsOrBikes = index.carsWithDoors(2).or(index.type(VehicleType.MOTORCYCLE));
+ * recentToyotas.forEach(row -&gt; System.out.println(fleet.get(row)));
+ * </pre>
+ *
+ * <p><strong>Indexes:</strong>
+ * <ul>
+ *   <li>a compressed bitmap per brand id, per {@link VehicleType} and per car door count</li>
+ *   <li>a sorted array of the distinct years with one bitmap per year, so the
+ *       years of a range are located by binary search</li>
+ * </ul>
+ * Brand, type and door queries return prebuilt bitmaps in constant time. A year
+ * range unites the bitmaps of its years in one multi-way merge, and combining
+ * bitmaps costs time proportional to their compressed sizes rather than to the
+ * fleet size.
+ *
+ * <p><strong>Snapshot Semantics:</strong>
+ * The index covers the rows present when it was built. Rows appended to the
+ * fleet afterwards are not visible until a new index is built. Once built, the
+ * index is immutable and safe to query from any thread.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class FleetIndex {
+    private static final int MAX_DOORS = Byte.MAX_VALUE;
+
+    private final BrandRegistry brands;
+    private final int size;
+    private final RowBitmap[] byBrand;
+    private final RowBitmap[] byType;
+    private final RowBitmap[] carsByDoors;
+    private final int[] years;
+    private final RowBitmap[] byYear;
+    private final int[] rowsBeforeYear;
+
+    /**
+     * Builds all indexes over the current rows of a fleet.
+     *
+     * @param fleet the fleet to index
+     * @throws IllegalArgumentException if fleet is null
+     */
+    public FleetIndex(VehicleFleet fleet) {
+        if (fleet == null) {
+            throw new IllegalArgumentException("Fleet cannot be null");
+        }
+        this.brands = fleet.getBrands();
+        this.size = fleet.size();
+
+        RowBitmap.Builder[] brandBuilders = new RowBitmap.Builder[brands.size()];
+        RowBitmap.Builder[] typeBuilders = new RowBitmap.Builder[VehicleType.values().length];
+        RowBitmap.Builder[] doorBuilders = new RowBitmap.Builder[MAX_DOORS + 1];
+        this.years = distinctYears(fleet);
+        RowBitmap.Builder[] yearBuilders = new RowBitmap.Builder[years.length];
+        for (int row = 0; row < size; row++) {
+            builder(yearBuilders, Arrays.binarySearch(years, fleet.getYear(row))).add(row);
+            builder(brandBuilders, fleet.getBrandId(row)).add(row);
+            VehicleType type = fleet.getType(row);
+            builder(typeBuilders, type.ordinal()).add(row);
+            if (type == VehicleType.CAR) {
+                builder(doorBuilders, fleet.getNumDoors(row)).add(row);
+            }
+        }
+        this.byBrand = build(brandBuilders);
+        this.byType = build(typeBuilders);
+        this.carsByDoors = build(doorBuilders);
+        this.byYear = build(yearBuilders);
+        this.rowsBeforeYear = new int[years.length + 1];
+        for (int i = 0; i < years.length; i++) {
+            rowsBeforeYear[i + 1] = rowsBeforeYear[i] + byYear[i].cardinality();
+        }
+    }
+
+    /**
+     * Retrieves the number of fleet rows covered by this index.
+     *
+     * @return the indexed row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the rows of a brand.
+     *
+     * @param brand the brand name, matched exactly
+     * @return the rows with this brand, empty if the brand is unknown
+     */
+    public RowBitmap brand(String brand) {
+        return brandId(brands.idOf(brand));
+    }
+
+    /**
+     * Finds the rows of a brand id assigned by the fleet's {@link BrandRegistry}.
+     *
+     * @param brandId the brand id
+     * @return the rows with this brand id, empty if no indexed row has it
+     */
+    public RowBitmap brandId(int brandId) {
+        return brandId >= 0 && brandId < byBrand.length ? byBrand[brandId] : RowBitmap.empty();
+    }
+
+    /**
+     * Finds the rows of a vehicle type.
+     *
+     * @param type the vehicle type
+     * @return the rows of this type
+     * @throws IllegalArgumentException if type is null
+     */
+    public RowBitmap type(VehicleType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Vehicle type cannot be null");
+        }
+        return byType[type.ordinal()];
+    }
+
+    /**
+     * Finds the car rows with a given number of doors.
+     *
+     * @param numDoors the number of doors
+     * @return the matching car rows, empty if no car has this door count
+     */
+    public RowBitmap carsWithDoors(int numDoors) {
+        return numDoors > 0 && numDoors <= MAX_DOORS ? carsByDoors[numDoors] : RowBitmap.empty();
+    }
+
+    /**
+     * Finds the rows manufactured within a year range.
+     *
+     * @param fromYear the first year of the range, inclusive
+     * @param toYear the last year of the range, inclusive
+     * @return the matching rows, empty if fromYear is greater than toYear
+     */
+    public RowBitmap yearRange(int fromYear, int toYear) {
+        int from = lowerBound(fromYear);
+        int to = upperBound(toYear);
+        return from >= to ? RowBitmap.empty() : RowBitmap.union(byYear, from, to);
+    }
+
+    /**
+     * Counts the rows manufactured within a year range in {@code O(log y)}
+     * without materializing them.
+     *
+     * @param fromYear the first year of the range, inclusive
+     * @param toYear the last year of the range, inclusive
+     * @return the number of matching rows
+     */
+    public int countYearRange(int fromYear, int toYear) {
+        int from = lowerBound(fromYear);
+        int to = upperBound(toYear);
+        return from >= to ? 0 : rowsBeforeYear[to] - rowsBeforeYear[from];
+    }
+
+    private static RowBitmap.Builder builder(RowBitmap.Builder[] builders, int index) {
+        RowBitmap.Builder builder = builders[index];
+        if (builder == null) {
+            builder = new RowBitmap.Builder();
+            builders[index] = builder;
+        }
+        return builder;
+    }
+
+    private static RowBitmap[] build(RowBitmap.Builder[] builders) {
+        RowBitmap[] bitmaps = new RowBitmap[builders.length];
+        for (int i = 0; i < builders.length; i++) {
+            bitmaps[i] = builders[i] == null ? RowBitmap.empty() : builders[i].build();
+        }
+        return bitmaps;
+    }
+
+    private static int[] distinctYears(VehicleFleet fleet) {
+        int[] sorted = new int[fleet.size()];
+        for (int row = 0; row < sorted.length; row++) {
+            sorted[row] = fleet.getYear(row);
+        }
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+
+    // First distinct year at least the given year
+    private int lowerBound(int year) {
+        int low = 0;
+        int high = years.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (years[mid] < year) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First distinct year greater than the given year
+    private int upperBound(int year) {
+        int low = 0;
+        int high = years.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (years[mid] <= year) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
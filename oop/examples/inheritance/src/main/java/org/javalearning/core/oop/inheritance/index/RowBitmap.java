@@ -0,0 +1,512 @@
+package org.javalearning.core.oop.inheritance.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable compressed set of fleet row indexes, the result type of every
+ * {@link FleetIndex} query. Bitmaps are combined with {@link #and(RowBitmap)},
+ * {@link #or(RowBitmap)} and {@link #andNot(RowBitmap)} to express boolean filters.
+ *
+ * <p><strong>Layout:</strong>
+ * Rows are split into chunks of 65536 by their upper 16 bits. Only non-empty
+ * chunks are stored, each in the cheaper of two representations:
+ * <ul>
+ *   <li>a sorted {@code char[]} of the lower 16 bits, for up to 4096 rows (2 bytes per row)</li>
+ *   <li>a 1024-word {@code long[]} bitmap, for denser chunks (8 KiB per chunk)</li>
+ * </ul>
+ * Sparse results therefore cost memory and time proportional to their size,
+ * while dense results never cost more than one bit per row of the fleet.
+ *
+ * <p>Chunks are never modified once built, so combined bitmaps share unchanged
+ * chunks with their operands and bitmaps can be used from any thread.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class RowBitmap {
+    static final int ARRAY_LIMIT = 4096;
+    private static final int WORDS = 1024;
+    private static final RowBitmap EMPTY = new RowBitmap(new char[0], new Object[0], 0);
+
+    private final char[] keys;
+    private final Object[] chunks;
+    private final int cardinality;
+
+    private RowBitmap(char[] keys, Object[] chunks, int count) {
+        if (count == 0) {
+            this.keys = new char[0];
+            this.chunks = new Object[0];
+            this.cardinality = 0;
+            return;
+        }
+        this.keys = count == keys.length ? keys : Arrays.copyOf(keys, count);
+        this.chunks = count == chunks.length ? chunks : Arrays.copyOf(chunks, count);
+        int total = 0;
+        for (Object chunk : this.chunks) {
+            total += cardinalityOf(chunk);
+        }
+        this.cardinality = total;
+    }
+
+    /**
+     * Returns the empty bitmap.
+     *
+     * @return a bitmap without rows
+     */
+    public static RowBitmap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Retrieves the number of rows in this bitmap.
+     *
+     * @return the cardinality
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Checks whether this bitmap contains no rows.
+     *
+     * @return true if the cardinality is zero
+     */
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Checks whether a row is part of this bitmap.
+     *
+     * @param row the row index
+     * @return true if the row is contained
+     */
+    public boolean contains(int row) {
+        if (row < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, (char) (row >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        return contains(chunks[index], (char) row);
+    }
+
+    /**
+     * Passes every row of this bitmap to an action, in ascending order.
+     *
+     * @param action the action receiving each row index
+     * @throws IllegalArgumentException if action is null
+     */
+    public void forEach(IntConsumer action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+        for (int i = 0; i < keys.length; i++) {
+            int high = keys[i] << 16;
+            Object chunk = chunks[i];
+            if (chunk instanceof char[]) {
+                for (char low : (char[]) chunk) {
+                    action.accept(high | low);
+                }
+            } else {
+                long[] words = (long[]) chunk;
+                for (int w = 0; w < WORDS; w++) {
+                    long word = words[w];
+                    while (word != 0) {
+                        action.accept(high | (w << 6) | Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the rows of this bitmap into a new array, in ascending order.
+     *
+     * @return the row indexes
+     */
+    public int[] toArray() {
+        int[] rows = new int[cardinality];
+        int[] position = new int[1];
+        forEach(row -> rows[position[0]++] = row);
+        return rows;
+    }
+
+    /**
+     * Intersects this bitmap with another one.
+     *
+     * @param other the bitmap to intersect with
+     * @return a bitmap with the rows contained in both bitmaps
+     * @throws IllegalArgumentException if other is null
+     */
+    public RowBitmap and(RowBitmap other) {
+        requireBitmap(other);
+        char[] resultKeys = new char[Math.min(keys.length, other.keys.length)];
+        Object[] resultChunks = new Object[resultKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Object chunk = and(chunks[i], other.chunks[j]);
+                if (chunk != null) {
+                    resultKeys[count] = keys[i];
+                    resultChunks[count++] = chunk;
+                }
+                i++;
+                j++;
+            }
+        }
+        return count == 0 ? EMPTY : new RowBitmap(resultKeys, resultChunks, count);
+    }
+
+    /**
+     * Unites this bitmap with another one.
+     *
+     * @param other the bitmap to unite with
+     * @return a bitmap with the rows contained in either bitmap
+     * @throws IllegalArgumentException if other is null
+     */
+    public RowBitmap or(RowBitmap other) {
+        requireBitmap(other);
+        char[] resultKeys = new char[keys.length + other.keys.length];
+        Object[] resultChunks = new Object[resultKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < other.keys.length) {
+            if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+                resultKeys[count] = keys[i];
+                resultChunks[count++] = chunks[i++];
+            } else if (i == keys.length || keys[i] > other.keys[j]) {
+                resultKeys[count] = other.keys[j];
+                resultChunks[count++] = other.chunks[j++];
+            } else {
+                resultKeys[count] = keys[i];
+                resultChunks[count++] = or(chunks[i++], other.chunks[j++]);
+            }
+        }
+        return count == 0 ? EMPTY : new RowBitmap(resultKeys, resultChunks, count);
+    }
+
+    /**
+     * Removes the rows of another bitmap from this one.
+     *
+     * @param other the bitmap whose rows are excluded
+     * @return a bitmap with the rows contained in this bitmap but not in other
+     * @throws IllegalArgumentException if other is null
+     */
+    public RowBitmap andNot(RowBitmap other) {
+        requireBitmap(other);
+        char[] resultKeys = new char[keys.length];
+        Object[] resultChunks = new Object[keys.length];
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Object chunk = j < other.keys.length && other.keys[j] == keys[i]
+                    ? andNot(chunks[i], other.chunks[j])
+                    : chunks[i];
+            if (chunk != null) {
+                resultKeys[count] = keys[i];
+                resultChunks[count++] = chunk;
+            }
+        }
+        return count == 0 ? EMPTY : new RowBitmap(resultKeys, resultChunks, count);
+    }
+
+    // Multi-way union of bitmaps[from, to): chunks present in a single operand
+    // are shared, overlapping chunks are merged once into a word bitmap.
+    static RowBitmap union(RowBitmap[] bitmaps, int from, int to) {
+        if (to - from == 1) {
+            return bitmaps[from];
+        }
+        int[] cursors = new int[to - from];
+        int total = 0;
+        for (int b = from; b < to; b++) {
+            total += bitmaps[b].keys.length;
+        }
+        char[] resultKeys = new char[total];
+        Object[] resultChunks = new Object[total];
+        int count = 0;
+        while (true) {
+            int key = Integer.MAX_VALUE;
+            int owners = 0;
+            int owner = -1;
+            for (int b = from; b < to; b++) {
+                RowBitmap bitmap = bitmaps[b];
+                int cursor = cursors[b - from];
+                if (cursor < bitmap.keys.length) {
+                    int candidate = bitmap.keys[cursor];
+                    if (candidate < key) {
+                        key = candidate;
+                        owners = 1;
+                        owner = b;
+                    } else if (candidate == key) {
+                        owners++;
+                    }
+                }
+            }
+            if (owners == 0) {
+                break;
+            }
+            if (owners == 1) {
+                resultChunks[count] = bitmaps[owner].chunks[cursors[owner - from]++];
+            } else {
+                long[] words = new long[WORDS];
+                for (int b = from; b < to; b++) {
+                    RowBitmap bitmap = bitmaps[b];
+                    int cursor = cursors[b - from];
+                    if (cursor < bitmap.keys.length && bitmap.keys[cursor] == key) {
+                        Object chunk = bitmap.chunks[cursor];
+                        if (chunk instanceof char[]) {
+                            set(words, (char[]) chunk);
+                        } else {
+                            long[] other = (long[]) chunk;
+                            for (int w = 0; w < WORDS; w++) {
+                                words[w] |= other[w];
+                            }
+                        }
+                        cursors[b - from]++;
+                    }
+                }
+                resultChunks[count] = compact(words);
+            }
+            resultKeys[count++] = (char) key;
+        }
+        return count == 0 ? EMPTY : new RowBitmap(resultKeys, resultChunks, count);
+    }
+
+    private static void requireBitmap(RowBitmap other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Bitmap cannot be null");
+        }
+    }
+
+    private static int cardinalityOf(Object chunk) {
+        if (chunk instanceof char[]) {
+            return ((char[]) chunk).length;
+        }
+        int count = 0;
+        for (long word : (long[]) chunk) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static boolean contains(Object chunk, char low) {
+        if (chunk instanceof char[]) {
+            return Arrays.binarySearch((char[]) chunk, low) >= 0;
+        }
+        return (((long[]) chunk)[low >>> 6] & (1L << low)) != 0;
+    }
+
+    private static Object and(Object a, Object b) {
+        if (a instanceof char[] && b instanceof char[]) {
+            char[] left = (char[]) a;
+            char[] right = (char[]) b;
+            char[] result = new char[Math.min(left.length, right.length)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < left.length && j < right.length) {
+                if (left[i] < right[j]) {
+                    i++;
+                } else if (left[i] > right[j]) {
+                    j++;
+                } else {
+                    result[count++] = left[i];
+                    i++;
+                    j++;
+                }
+            }
+            return count == 0 ? null : Arrays.copyOf(result, count);
+        }
+        if (a instanceof char[] || b instanceof char[]) {
+            char[] array = (char[]) (a instanceof char[] ? a : b);
+            long[] words = (long[]) (a instanceof char[] ? b : a);
+            char[] result = new char[array.length];
+            int count = 0;
+            for (char low : array) {
+                if ((words[low >>> 6] & (1L << low)) != 0) {
+                    result[count++] = low;
+                }
+            }
+            return count == 0 ? null : Arrays.copyOf(result, count);
+        }
+        long[] left = (long[]) a;
+        long[] right = (long[]) b;
+        long[] result = new long[WORDS];
+        for (int w = 0; w < WORDS; w++) {
+            result[w] = left[w] & right[w];
+        }
+        return compact(result);
+    }
+
+    private static Object or(Object a, Object b) {
+        if (a instanceof char[] && b instanceof char[]) {
+            char[] left = (char[]) a;
+            char[] right = (char[]) b;
+            if (left.length + right.length > ARRAY_LIMIT) {
+                long[] result = new long[WORDS];
+                set(result, left);
+                set(result, right);
+                return compact(result);
+            }
+            char[] result = new char[left.length + right.length];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < left.length || j < right.length) {
+                if (j == right.length || (i < left.length && left[i] < right[j])) {
+                    result[count++] = left[i++];
+                } else if (i == left.length || left[i] > right[j]) {
+                    result[count++] = right[j++];
+                } else {
+                    result[count++] = left[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+        if (a instanceof char[] || b instanceof char[]) {
+            char[] array = (char[]) (a instanceof char[] ? a : b);
+            long[] result = ((long[]) (a instanceof char[] ? b : a)).clone();
+            set(result, array);
+            return result;
+        }
+        long[] left = (long[]) a;
+        long[] right = (long[]) b;
+        long[] result = new long[WORDS];
+        for (int w = 0; w < WORDS; w++) {
+            result[w] = left[w] | right[w];
+        }
+        return result;
+    }
+
+    private static Object andNot(Object a, Object b) {
+        if (a instanceof char[]) {
+            char[] left = (char[]) a;
+            char[] result = new char[left.length];
+            int count = 0;
+            for (char low : left) {
+                if (!contains(b, low)) {
+                    result[count++] = low;
+                }
+            }
+            return count == 0 ? null : Arrays.copyOf(result, count);
+        }
+        long[] result = ((long[]) a).clone();
+        if (b instanceof char[]) {
+            for (char low : (char[]) b) {
+                result[low >>> 6] &= ~(1L << low);
+            }
+        } else {
+            long[] right = (long[]) b;
+            for (int w = 0; w < WORDS; w++) {
+                result[w] &= ~right[w];
+            }
+        }
+        return compact(result);
+    }
+
+    private static void set(long[] words, char[] lows) {
+        for (char low : lows) {
+            words[low >>> 6] |= 1L << low;
+        }
+    }
+
+    // Returns null for an empty chunk and converts sparse bitmaps back to arrays
+    private static Object compact(long[] words) {
+        int count = cardinalityOf(words);
+        if (count == 0) {
+            return null;
+        }
+        if (count > ARRAY_LIMIT) {
+            return words;
+        }
+        char[] array = new char[count];
+        int position = 0;
+        for (int w = 0; w < WORDS; w++) {
+            long word = words[w];
+            while (word != 0) {
+                array[position++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Accumulates rows in strictly ascending order into a new bitmap.
+     */
+    static final class Builder {
+        private char[] keys = new char[4];
+        private Object[] chunks = new Object[4];
+        private int count;
+        private int currentKey = -1;
+        private char[] array = new char[16];
+        private int arraySize;
+        private long[] words;
+        private int last = -1;
+
+        void add(int row) {
+            if (row <= last) {
+                throw new IllegalArgumentException("Rows must be added in ascending order");
+            }
+            last = row;
+            int key = row >>> 16;
+            if (key != currentKey) {
+                flush();
+                currentKey = key;
+            }
+            char low = (char) row;
+            if (words != null) {
+                words[low >>> 6] |= 1L << low;
+            } else if (arraySize < ARRAY_LIMIT) {
+                if (arraySize == array.length) {
+                    array = Arrays.copyOf(array, arraySize * 2);
+                }
+                array[arraySize++] = low;
+            } else {
+                words = new long[WORDS];
+                for (int i = 0; i < arraySize; i++) {
+                    words[array[i] >>> 6] |= 1L << array[i];
+                }
+                words[low >>> 6] |= 1L << low;
+                arraySize = 0;
+            }
+        }
+
+        RowBitmap build() {
+            flush();
+            currentKey = -1;
+            return count == 0 ? EMPTY : new RowBitmap(keys, chunks, count);
+        }
+
+        private void flush() {
+            if (currentKey < 0) {
+                return;
+            }
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count * 2);
+                chunks = Arrays.copyOf(chunks, count * 2);
+            }
+            keys[count] = (char) currentKey;
+            chunks[count++] = words != null ? words : Arrays.copyOf(array, arraySize);
+            words = null;
+            arraySize = 0;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.javalearning.core.oop.inheritance.ingest;
+
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.validation.VehicleRules;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Turns the UTF-8 bytes of a brand field into a String, reusing the String
+ * decoded the last time the same bytes were seen.
+ *
+ * <p>Fleets repeat a small set of brands, so after warm-up almost every
+ * lookup is a hash and a byte comparison against the input buffer, with no
+ * allocation. The cache is an open-addressing table that stops accepting new
+ * entries once half full, which bounds its memory regardless of the input.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class BrandDecoder {
+    private static final int CAPACITY = 4096;
+    private static final int MAX_ENTRIES = CAPACITY / 2;
+
+    private final BrandRegistry registry;
+    private final byte[][] keys = new byte[CAPACITY][];
+    private final int[] hashes = new int[CAPACITY];
+    private final String[] values = new String[CAPACITY];
+    private int count;
+
+    BrandDecoder(BrandRegistry registry) {
+        this.registry = registry;
+    }
+
+    String decode(byte[] data, int from, int to) {
+        int hash = 1;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + data[i];
+        }
+        int mask = CAPACITY - 1;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (keys[slot] != null) {
+            if (hashes[slot] == hash && Arrays.equals(keys[slot], 0, keys[slot].length, data, from, to)) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        String brand = new String(data, from, to - from, StandardCharsets.UTF_8);
+        if (registry != null && !VehicleRules.isBlank(brand)) {
+            brand = registry.intern(brand);
+        }
+        if (count < MAX_ENTRIES) {
+            keys[slot] = Arrays.copyOfRange(data, from, to);
+            hashes[slot] = hash;
+            values[slot] = brand;
+            count++;
+        }
+        return brand;
+    }
+}
@@ -0,0 +1,133 @@
+package org.javalearning.core.oop.inheritance.ingest;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+/**
+ * Parses {@link RecordFormat#CSV} lines of the form
+ * {@code type,brand,year,numDoors,hasSideCar}.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class CsvRecordParser extends RecordParser {
+    private static final byte[] HEADER = {'t', 'y', 'p', 'e'};
+
+    CsvRecordParser(BrandDecoder brands) {
+        super(brands);
+    }
+
+    @Override
+    boolean isHeader(byte[] data, int from, int to) {
+        int end = indexOf(data, from, to, (byte) ',');
+        return end >= 0 && equalsIgnoreCase(data, skipSpaces(data, from, end), trimEnd(data, from, end), HEADER);
+    }
+
+    @Override
+    IngestError parse(byte[] data, int from, int to, ParsedRecord record) {
+        int end = indexOf(data, from, to, (byte) ',');
+        if (end < 0) {
+            return IngestError.MALFORMED_RECORD;
+        }
+        record.type = parseType(data, skipSpaces(data, from, end), trimEnd(data, from, end));
+        if (record.type == null) {
+            return IngestError.UNKNOWN_TYPE;
+        }
+
+        int position = end + 1;
+        if (position < to && data[position] == '"') {
+            position = parseQuotedBrand(data, position + 1, to, record);
+            if (position < 0) {
+                return IngestError.MALFORMED_RECORD;
+            }
+        } else {
+            end = indexOf(data, position, to, (byte) ',');
+            if (end < 0) {
+                return IngestError.MALFORMED_RECORD;
+            }
+            record.brand = brands.decode(data, position, end);
+            position = end;
+        }
+        if (position >= to || data[position] != ',') {
+            return IngestError.MALFORMED_RECORD;
+        }
+
+        position++;
+        end = fieldEnd(data, position, to);
+        long year = parseInt(data, skipSpaces(data, position, end), trimEnd(data, position, end));
+        if (year == INVALID_NUMBER) {
+            return IngestError.INVALID_NUMBER;
+        }
+        record.hasYear = true;
+        record.year = (int) year;
+
+        position = end + 1;
+        if (position <= to) {
+            end = fieldEnd(data, position, to);
+            int start = skipSpaces(data, position, end);
+            int stop = trimEnd(data, start, end);
+            if (record.type == VehicleType.CAR && start < stop) {
+                long doors = parseInt(data, start, stop);
+                if (doors == INVALID_NUMBER) {
+                    return IngestError.INVALID_NUMBER;
+                }
+                record.hasDoors = true;
+                record.numDoors = (int) doors;
+            }
+            position = end + 1;
+        }
+        if (position <= to) {
+            end = fieldEnd(data, position, to);
+            int start = skipSpaces(data, position, end);
+            int stop = trimEnd(data, start, end);
+            if (record.type == VehicleType.MOTORCYCLE && start < stop) {
+                int sideCar = parseBoolean(data, start, stop);
+                if (sideCar < 0) {
+                    return IngestError.INVALID_BOOLEAN;
+                }
+                record.hasSideCar = sideCar == 1;
+            }
+        }
+        if (record.type == VehicleType.CAR && !record.hasDoors) {
+            return IngestError.MALFORMED_RECORD;
+        }
+        return null;
+    }
+
+    private int parseQuotedBrand(byte[] data, int position, int to, ParsedRecord record) {
+        int start = position;
+        boolean escaped = false;
+        while (position < to) {
+            if (data[position] == '"') {
+                if (position + 1 < to && data[position + 1] == '"') {
+                    escaped = true;
+                    position += 2;
+                    continue;
+                }
+                break;
+            }
+            position++;
+        }
+        if (position >= to) {
+            return -1;
+        }
+        if (!escaped) {
+            record.brand = brands.decode(data, start, position);
+        } else {
+            clearScratch();
+            for (int i = start; i < position; i++) {
+                appendScratch(data[i]);
+                if (data[i] == '"') {
+                    i++;
+                }
+            }
+            record.brand = decodeScratch();
+        }
+        return position + 1;
+    }
+
+    private static int fieldEnd(byte[] data, int from, int to) {
+        int end = indexOf(data, from, to, (byte) ',');
+        return end < 0 ? to : end;
+    }
+}
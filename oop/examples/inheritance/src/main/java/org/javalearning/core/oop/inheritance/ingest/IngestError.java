@@ -0,0 +1,50 @@
+package org.javalearning.core.oop.inheritance.ingest;
+
+import org.javalearning.core.oop.inheritance.validation.ValidationError;
+
+/**
+ * Enumerates the reasons an input record can be rejected during ingest:
+ * either it cannot be parsed, or it parses but violates a vehicle rule.
+ * Rule violations reuse the constructor messages from {@link ValidationError}.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public enum IngestError {
+    MALFORMED_RECORD("Record is malformed or misses a required field"),
+    UNKNOWN_TYPE("Vehicle type must be Vehicle, Car or Motorcycle"),
+    INVALID_NUMBER("Numeric field is not a valid integer"),
+    INVALID_BOOLEAN("Boolean field must be true or false"),
+    INVALID_BRAND(ValidationError.INVALID_BRAND.getMessage()),
+    NEGATIVE_YEAR(ValidationError.NEGATIVE_YEAR.getMessage()),
+    NON_POSITIVE_DOORS(ValidationError.NON_POSITIVE_DOORS.getMessage());
+
+    private final String message;
+
+    IngestError(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Retrieves a human-readable description of the rejection reason.
+     *
+     * @return the error message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    static IngestError of(ValidationError error) {
+        switch (error) {
+            case INVALID_BRAND:
+                return INVALID_BRAND;
+            case NEGATIVE_YEAR:
+                return NEGATIVE_YEAR;
+            case NON_POSITIVE_DOORS:
+                return NON_POSITIVE_DOORS;
+            default:
+                throw new IllegalArgumentException("Not a rule violation: " + error);
+        }
+    }
+}
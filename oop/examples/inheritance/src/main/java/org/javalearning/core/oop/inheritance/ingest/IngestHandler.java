@@ -0,0 +1,33 @@
+package org.javalearning.core.oop.inheritance.ingest;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+
+/**
+ * Receives the results of a {@link VehicleIngestor} run as they are produced.
+ * Vehicles are delivered one at a time while the input is still being read,
+ * so a handler that does not retain them keeps memory use constant.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface IngestHandler {
+
+    /**
+     * Receives a vehicle built from a valid input record.
+     *
+     * @param vehicle the new vehicle
+     */
+    void onVehicle(Vehicle vehicle);
+
+    /**
+     * Receives the position and reason of a rejected input record.
+     * Ignores rejections by default.
+     *
+     * @param lineNumber the one-based line number of the record
+     * @param error the reason the record was rejected
+     */
+    default void onRejected(long lineNumber, IngestError error) {
+    }
+}
@@ -0,0 +1,88 @@
+package org.javalearning.core.oop.inheritance.ingest;
+
+/**
+ * Summarizes one {@link VehicleIngestor} run: record counts, bytes read and
+ * elapsed time, with derived throughput figures.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class IngestStats {
+    private final long acceptedCount;
+    private final long rejectedCount;
+    private final long bytesRead;
+    private final long elapsedNanos;
+
+    IngestStats(long acceptedCount, long rejectedCount, long bytesRead, long elapsedNanos) {
+        this.acceptedCount = acceptedCount;
+        this.rejectedCount = rejectedCount;
+        this.bytesRead = bytesRead;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Retrieves the number of records that produced a vehicle.
+     *
+     * @return the accepted record count
+     */
+    public long getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    /**
+     * Retrieves the number of records that were rejected.
+     *
+     * @return the rejected record count
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Retrieves the number of bytes read from the input.
+     *
+     * @return the input size in bytes
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Retrieves the wall-clock duration of the run.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Computes the number of records (accepted and rejected) processed per second.
+     *
+     * @return the record throughput
+     */
+    public double getRecordsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : (acceptedCount + rejectedCount) * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Computes the number of megabytes (10^6 bytes) read per second.
+     *
+     * @return the byte throughput in MB/s
+     */
+    public double getMegabytesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : bytesRead * 1e3 / elapsedNanos;
+    }
+
+    /**
+     * Provides a one-line summary of the run.
+     *
+     * @return the formatted statistics
+     */
+    @Override
+    public String toString() {
+        return String.format("IngestStats{accepted=%d, rejected=%d, bytes=%d, records/s=%.0f, MB/s=%.1f}",
+                acceptedCount, rejectedCount, bytesRead, getRecordsPerSecond(), getMegabytesPerSecond());
+    }
+}
@@ -0,0 +1,289 @@
+package org.javalearning.core.oop.inheritance.ingest;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses {@link RecordFormat#NDJSON} lines, each holding one flat JSON object.
+ * Known fields are decoded in place; unknown fields, including nested objects
+ * and arrays, are skipped.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class NdjsonRecordParser extends RecordParser {
+    private static final byte[] TYPE = "type".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BRAND = "brand".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] YEAR = "year".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NUM_DOORS = "numDoors".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HAS_SIDE_CAR = "hasSideCar".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    /** End of the string or value scanned last, set by the scanning helpers. */
+    private int valueEnd;
+    private boolean valueEscaped;
+    private long parsedNumber;
+
+    NdjsonRecordParser(BrandDecoder brands) {
+        super(brands);
+    }
+
+    @Override
+    IngestError parse(byte[] data, int from, int to, ParsedRecord record) {
+        int position = skipWhitespace(data, from, to);
+        if (position >= to || data[position] != '{') {
+            return IngestError.MALFORMED_RECORD;
+        }
+        position = skipWhitespace(data, position + 1, to);
+        if (position < to && data[position] == '}') {
+            return IngestError.MALFORMED_RECORD;
+        }
+        while (true) {
+            if (position >= to || data[position] != '"' || !scanString(data, position + 1, to)) {
+                return IngestError.MALFORMED_RECORD;
+            }
+            int keyStart = position + 1;
+            int keyEnd = valueEnd;
+            boolean keyEscaped = valueEscaped;
+            position = skipWhitespace(data, keyEnd + 1, to);
+            if (position >= to || data[position] != ':') {
+                return IngestError.MALFORMED_RECORD;
+            }
+            position = skipWhitespace(data, position + 1, to);
+            if (position >= to) {
+                return IngestError.MALFORMED_RECORD;
+            }
+
+            IngestError error;
+            if (keyEscaped) {
+                error = skipValue(data, position, to);
+            } else if (matches(data, keyStart, keyEnd, TYPE)) {
+                error = parseTypeValue(data, position, to, record);
+            } else if (matches(data, keyStart, keyEnd, BRAND)) {
+                error = parseBrandValue(data, position, to, record);
+            } else if (matches(data, keyStart, keyEnd, YEAR)) {
+                error = parseIntValue(data, position, to);
+                if (error == null) {
+                    record.hasYear = true;
+                    record.year = (int) parsedNumber;
+                }
+            } else if (matches(data, keyStart, keyEnd, NUM_DOORS)) {
+                error = parseIntValue(data, position, to);
+                if (error == null) {
+                    record.hasDoors = true;
+                    record.numDoors = (int) parsedNumber;
+                }
+            } else if (matches(data, keyStart, keyEnd, HAS_SIDE_CAR)) {
+                error = parseBooleanValue(data, position, to, record);
+            } else {
+                error = skipValue(data, position, to);
+            }
+            if (error != null) {
+                return error;
+            }
+
+            position = skipWhitespace(data, valueEnd, to);
+            if (position < to && data[position] == ',') {
+                position = skipWhitespace(data, position + 1, to);
+            } else if (position < to && data[position] == '}') {
+                break;
+            } else {
+                return IngestError.MALFORMED_RECORD;
+            }
+        }
+        if (skipWhitespace(data, position + 1, to) != to) {
+            return IngestError.MALFORMED_RECORD;
+        }
+        if (record.type == null || !record.hasYear || (record.type == VehicleType.CAR && !record.hasDoors)) {
+            return IngestError.MALFORMED_RECORD;
+        }
+        return null;
+    }
+
+    private IngestError parseTypeValue(byte[] data, int position, int to, ParsedRecord record) {
+        if (data[position] != '"' || !scanString(data, position + 1, to)) {
+            return IngestError.MALFORMED_RECORD;
+        }
+        record.type = valueEscaped ? null : parseType(data, position + 1, valueEnd);
+        valueEnd++;
+        return record.type == null ? IngestError.UNKNOWN_TYPE : null;
+    }
+
+    private IngestError parseBrandValue(byte[] data, int position, int to, ParsedRecord record) {
+        if (equalsIgnoreCase(data, position, Math.min(to, position + NULL.length), NULL)) {
+            record.brand = null;
+            valueEnd = position + NULL.length;
+            return null;
+        }
+        if (data[position] != '"' || !scanString(data, position + 1, to)) {
+            return IngestError.MALFORMED_RECORD;
+        }
+        if (!valueEscaped) {
+            record.brand = brands.decode(data, position + 1, valueEnd);
+        } else if (unescape(data, position + 1, valueEnd)) {
+            record.brand = decodeScratch();
+        } else {
+            return IngestError.MALFORMED_RECORD;
+        }
+        valueEnd++;
+        return null;
+    }
+
+    private IngestError parseIntValue(byte[] data, int position, int to) {
+        int end = scanLiteral(data, position, to);
+        parsedNumber = parseInt(data, position, end);
+        valueEnd = end;
+        return parsedNumber == INVALID_NUMBER ? IngestError.INVALID_NUMBER : null;
+    }
+
+    private IngestError parseBooleanValue(byte[] data, int position, int to, ParsedRecord record) {
+        int end = scanLiteral(data, position, to);
+        int value = parseBoolean(data, position, end);
+        valueEnd = end;
+        if (value < 0) {
+            return IngestError.INVALID_BOOLEAN;
+        }
+        record.hasSideCar = value == 1;
+        return null;
+    }
+
+    private IngestError skipValue(byte[] data, int position, int to) {
+        byte first = data[position];
+        if (first == '"') {
+            if (!scanString(data, position + 1, to)) {
+                return IngestError.MALFORMED_RECORD;
+            }
+            valueEnd++;
+            return null;
+        }
+        if (first == '{' || first == '[') {
+            int depth = 0;
+            for (int i = position; i < to; i++) {
+                byte value = data[i];
+                if (value == '"') {
+                    if (!scanString(data, i + 1, to)) {
+                        return IngestError.MALFORMED_RECORD;
+                    }
+                    i = valueEnd;
+                } else if (value == '{' || value == '[') {
+                    depth++;
+                } else if ((value == '}' || value == ']') && --depth == 0) {
+                    valueEnd = i + 1;
+                    return null;
+                }
+            }
+            return IngestError.MALFORMED_RECORD;
+        }
+        valueEnd = scanLiteral(data, position, to);
+        return valueEnd == position ? IngestError.MALFORMED_RECORD : null;
+    }
+
+    /**
+     * Finds the closing quote of a string starting at from; on success
+     * {@link #valueEnd} points at the closing quote.
+     */
+    private boolean scanString(byte[] data, int from, int to) {
+        valueEscaped = false;
+        for (int i = from; i < to; i++) {
+            if (data[i] == '\\') {
+                valueEscaped = true;
+                i++;
+            } else if (data[i] == '"') {
+                valueEnd = i;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean unescape(byte[] data, int from, int to) {
+        clearScratch();
+        for (int i = from; i < to; i++) {
+            byte value = data[i];
+            if (value != '\\') {
+                appendScratch(value);
+                continue;
+            }
+            if (++i >= to) {
+                return false;
+            }
+            switch (data[i]) {
+                case '"': appendScratch((byte) '"'); break;
+                case '\\': appendScratch((byte) '\\'); break;
+                case '/': appendScratch((byte) '/'); break;
+                case 'b': appendScratch((byte) '\b'); break;
+                case 'f': appendScratch((byte) '\f'); break;
+                case 'n': appendScratch((byte) '\n'); break;
+                case 'r': appendScratch((byte) '\r'); break;
+                case 't': appendScratch((byte) '\t'); break;
+                case 'u':
+                    int codePoint = hex4(data, i + 1, to);
+                    if (codePoint < 0) {
+                        return false;
+                    }
+                    i += 4;
+                    if (Character.isHighSurrogate((char) codePoint) && i + 6 < to
+                            && data[i + 1] == '\\' && data[i + 2] == 'u') {
+                        int low = hex4(data, i + 3, to);
+                        if (low >= 0 && Character.isLowSurrogate((char) low)) {
+                            codePoint = Character.toCodePoint((char) codePoint, (char) low);
+                            i += 6;
+                        }
+                    }
+                    appendScratchCodePoint(codePoint);
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hex4(byte[] data, int from, int to) {
+        if (from + 4 > to) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = from; i < from + 4; i++) {
+            int digit = Character.digit(data[i], 16);
+            if (digit < 0) {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private static int scanLiteral(byte[] data, int from, int to) {
+        int i = from;
+        while (i < to) {
+            byte value = data[i];
+            if (value == ',' || value == '}' || value == ']' || value == ' ' || value == '\t' || value == '\r') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipWhitespace(byte[] data, int from, int to) {
+        while (from < to && (data[from] == ' ' || data[from] == '\t' || data[from] == '\r')) {
+            from++;
+        }
+        return from;
+    }
+
+    private static boolean matches(byte[] data, int from, int to, byte[] expected) {
+        if (to - from != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (data[from + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,31 @@
+package org.javalearning.core.oop.inheritance.ingest;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+/**
+ * Mutable holder for the fields of one input record, reused for every line
+ * so that parsing does not allocate per record.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class ParsedRecord {
+    VehicleType type;
+    String brand;
+    boolean hasYear;
+    int year;
+    boolean hasDoors;
+    int numDoors;
+    boolean hasSideCar;
+
+    void reset() {
+        type = null;
+        brand = null;
+        hasYear = false;
+        year = 0;
+        hasDoors = false;
+        numDoors = 0;
+        hasSideCar = false;
+    }
+}
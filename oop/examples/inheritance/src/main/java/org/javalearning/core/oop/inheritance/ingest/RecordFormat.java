@@ -0,0 +1,30 @@
+package org.javalearning.core.oop.inheritance.ingest;
+
+/**
+ * Input formats understood by {@link VehicleIngestor}. Both are line-oriented
+ * with one vehicle per line.
+ *
+ * <p><strong>CSV:</strong> {@code type,brand,year,numDoors,hasSideCar}. An
+ * optional header line starting with {@code type} is skipped; the brand may be
+ * double-quoted. Fields that do not apply to a type are left empty:
+ * <pre>
+ * Car,BMW,2021,4,
+ * Motorcycle,Harley Davidson,2020,,true
+ * Vehicle,Generic Brand,2022,,
+ * </pre>
+ *
+ * <p><strong>NDJSON:</strong> one flat JSON object per line with the same
+ * field names; unknown fields are ignored:
+ * <pre>
+ * {"type":"Car","brand":"BMW","year":2021,"numDoors":4}
+ * {"type":"Motorcycle","brand":"Harley Davidson","year":2020,"hasSideCar":true}
+ * </pre>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public enum RecordFormat {
+    CSV,
+    NDJSON
+}
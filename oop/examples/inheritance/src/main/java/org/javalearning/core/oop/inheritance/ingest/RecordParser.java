@@ -0,0 +1,158 @@
+package org.javalearning.core.oop.inheritance.ingest;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+import java.util.Arrays;
+
+/**
+ * Base class of the line parsers used by {@link VehicleIngestor}. Parsers work
+ * directly on the ingest buffer and decode numbers and booleans from bytes,
+ * so no intermediate Strings are created for them.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+abstract class RecordParser {
+    static final long INVALID_NUMBER = Long.MIN_VALUE;
+
+    private static final byte[] VEHICLE = {'v', 'e', 'h', 'i', 'c', 'l', 'e'};
+    private static final byte[] CAR = {'c', 'a', 'r'};
+    private static final byte[] MOTORCYCLE = {'m', 'o', 't', 'o', 'r', 'c', 'y', 'c', 'l', 'e'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+    final BrandDecoder brands;
+    private byte[] scratch = new byte[64];
+    private int scratchLength;
+
+    RecordParser(BrandDecoder brands) {
+        this.brands = brands;
+    }
+
+    /**
+     * Parses the bytes of one line, excluding the line terminator.
+     *
+     * @return null on success, or the reason the line cannot be parsed
+     */
+    abstract IngestError parse(byte[] data, int from, int to, ParsedRecord record);
+
+    /**
+     * Determines whether a line is a header that should be skipped.
+     */
+    boolean isHeader(byte[] data, int from, int to) {
+        return false;
+    }
+
+    static VehicleType parseType(byte[] data, int from, int to) {
+        if (equalsIgnoreCase(data, from, to, CAR)) {
+            return VehicleType.CAR;
+        } else if (equalsIgnoreCase(data, from, to, MOTORCYCLE)) {
+            return VehicleType.MOTORCYCLE;
+        } else if (equalsIgnoreCase(data, from, to, VEHICLE)) {
+            return VehicleType.VEHICLE;
+        }
+        return null;
+    }
+
+    static long parseInt(byte[] data, int from, int to) {
+        if (from >= to) {
+            return INVALID_NUMBER;
+        }
+        boolean negative = data[from] == '-';
+        int i = negative ? from + 1 : from;
+        if (i == to) {
+            return INVALID_NUMBER;
+        }
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = data[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID_NUMBER;
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return INVALID_NUMBER;
+            }
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE ? INVALID_NUMBER : value;
+    }
+
+    static int parseBoolean(byte[] data, int from, int to) {
+        if (equalsIgnoreCase(data, from, to, TRUE)) {
+            return 1;
+        } else if (equalsIgnoreCase(data, from, to, FALSE)) {
+            return 0;
+        }
+        return -1;
+    }
+
+    static boolean equalsIgnoreCase(byte[] data, int from, int to, byte[] lowerCase) {
+        if (to - from != lowerCase.length) {
+            return false;
+        }
+        for (int i = 0; i < lowerCase.length; i++) {
+            if ((data[from + i] | 0x20) != lowerCase[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int skipSpaces(byte[] data, int from, int to) {
+        while (from < to && (data[from] == ' ' || data[from] == '\t')) {
+            from++;
+        }
+        return from;
+    }
+
+    static int trimEnd(byte[] data, int from, int to) {
+        while (to > from && (data[to - 1] == ' ' || data[to - 1] == '\t')) {
+            to--;
+        }
+        return to;
+    }
+
+    static int indexOf(byte[] data, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    void clearScratch() {
+        scratchLength = 0;
+    }
+
+    void appendScratch(byte value) {
+        if (scratchLength == scratch.length) {
+            scratch = Arrays.copyOf(scratch, scratch.length * 2);
+        }
+        scratch[scratchLength++] = value;
+    }
+
+    void appendScratchCodePoint(int codePoint) {
+        if (codePoint < 0x80) {
+            appendScratch((byte) codePoint);
+        } else if (codePoint < 0x800) {
+            appendScratch((byte) (0xC0 | (codePoint >> 6)));
+            appendScratch((byte) (0x80 | (codePoint & 0x3F)));
+        } else if (codePoint < 0x10000) {
+            appendScratch((byte) (0xE0 | (codePoint >> 12)));
+            appendScratch((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+            appendScratch((byte) (0x80 | (codePoint & 0x3F)));
+        } else {
+            appendScratch((byte) (0xF0 | (codePoint >> 18)));
+            appendScratch((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+            appendScratch((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+            appendScratch((byte) (0x80 | (codePoint & 0x3F)));
+        }
+    }
+
+    String decodeScratch() {
+        return brands.decode(scratch, 0, scratchLength);
+    }
+}
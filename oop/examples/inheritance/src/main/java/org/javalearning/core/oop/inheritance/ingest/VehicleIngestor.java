@@ -0,0 +1,222 @@
+package org.javalearning.core.oop.inheritance.ingest;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.metrics.BulkOperationEvent;
+import org.javalearning.core.oop.inheritance.metrics.VehicleMetrics;
+import org.javalearning.core.oop.inheritance.validation.ValidationError;
+import org.javalearning.core.oop.inheritance.validation.VehicleRules;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams vehicle records from CSV or NDJSON input into vehicles, in constant
+ * memory regardless of the input size.
+ *
+ * <p><strong>Pipeline:</strong>
+ * <ul>
+ *   <li>Input is read through an NIO channel into one large reusable buffer</li>
+ *   <li>Each complete line is parsed in place: numbers and booleans are decoded
+ *       straight from the bytes, and brands go through a small decoding cache
+ *       that reuses the String of previously seen brands</li>
+ *   <li>The record is checked with the same {@link VehicleRules} as the
+ *       {@link Vehicle}, {@link Car} and {@link Motorcycle} constructors</li>
+ *   <li>Valid records become vehicles and are handed to the
+ *       {@link IngestHandler} immediately; invalid ones are reported with
+ *       their line number and an {@link IngestError}</li>
+ * </ul>
+ * Only the current buffer is held in memory, so files far larger than the
+ * heap can be processed as long as the handler does not retain every vehicle.
+ * The buffer grows only when a single line does not fit into it.
+ *
+ * <p>An ingestor reuses its parsing state between runs and is not thread-safe;
+ * use one per thread.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class VehicleIngestor {
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    private final RecordParser parser;
+    private final RecordFormat format;
+    private final ParsedRecord record = new ParsedRecord();
+    private ByteBuffer buffer;
+
+    /**
+     * Constructs an ingestor with a 1 MiB buffer that keeps brands as decoded.
+     *
+     * @param format the input format
+     * @throws IllegalArgumentException if format is null
+     */
+    public VehicleIngestor(RecordFormat format) {
+        this(format, null, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs an ingestor.
+     *
+     * @param format the input format
+     * @param brands the registry canonicalizing brands, or null to keep brands as decoded
+     * @param bufferSize the size of the read buffer in bytes
+     * @throws IllegalArgumentException if format is null or bufferSize is not positive
+     */
+    public VehicleIngestor(RecordFormat format, BrandRegistry brands, int bufferSize) {
+        if (format == null) {
+            throw new IllegalArgumentException("Format cannot be null");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        BrandDecoder decoder = new BrandDecoder(brands);
+        this.format = format;
+        this.parser = format == RecordFormat.CSV ? new CsvRecordParser(decoder) : new NdjsonRecordParser(decoder);
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Ingests a file.
+     *
+     * @param path the file to read
+     * @param handler receives vehicles and rejections as they are produced
+     * @return the statistics of the run
+     * @throws IOException if the file cannot be read
+     */
+    public IngestStats ingest(Path path, IngestHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return ingest(channel, handler);
+        }
+    }
+
+    /**
+     * Ingests everything readable from a channel. The channel is not closed.
+     *
+     * @param channel the channel to read
+     * @param handler receives vehicles and rejections as they are produced
+     * @return the statistics of the run
+     * @throws IOException if reading from the channel fails
+     */
+    public IngestStats ingest(ReadableByteChannel channel, IngestHandler handler) throws IOException {
+        BulkOperationEvent event = BulkOperationEvent.start("ingest");
+        long started = System.nanoTime();
+        long bytesRead = 0;
+        long lineNumber = 0;
+        long accepted = 0;
+        long rejected = 0;
+        boolean firstLine = true;
+
+        buffer.clear();
+        int head = 0;
+        int tail = 0;
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            buffer.limit(buffer.capacity()).position(tail);
+            int read = channel.read(buffer);
+            if (read < 0) {
+                endOfInput = true;
+            } else {
+                bytesRead += read;
+                tail += read;
+            }
+            byte[] data = buffer.array();
+            int scan = head;
+            while (true) {
+                int newline = RecordParser.indexOf(data, scan, tail, (byte) '\n');
+                int lineEnd;
+                if (newline >= 0) {
+                    lineEnd = newline;
+                } else if (endOfInput && head < tail) {
+                    lineEnd = tail;
+                } else {
+                    break;
+                }
+                lineNumber++;
+                int end = lineEnd > head && data[lineEnd - 1] == '\r' ? lineEnd - 1 : lineEnd;
+                // Blank lines before the header do not make it a data line
+                if (!isBlankLine(data, head, end)) {
+                    if (!(firstLine && parser.isHeader(data, head, end))) {
+                        IngestError error = process(data, head, end, handler);
+                        if (error == null) {
+                            accepted++;
+                        } else {
+                            rejected++;
+                            handler.onRejected(lineNumber, error);
+                        }
+                    }
+                    firstLine = false;
+                }
+                head = lineEnd + 1;
+                scan = head;
+            }
+            if (head >= tail) {
+                head = 0;
+                tail = 0;
+            } else if (head > 0) {
+                System.arraycopy(data, head, data, 0, tail - head);
+                tail -= head;
+                head = 0;
+            } else if (tail == buffer.capacity()) {
+                ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+                larger.put(data, 0, tail);
+                buffer = larger;
+            }
+        }
+        event.complete(accepted + rejected, rejected);
+        return new IngestStats(accepted, rejected, bytesRead, System.nanoTime() - started);
+    }
+
+    /**
+     * Retrieves the input format of this ingestor.
+     *
+     * @return the record format
+     */
+    public RecordFormat getFormat() {
+        return format;
+    }
+
+    private IngestError process(byte[] data, int from, int to, IngestHandler handler) {
+        record.reset();
+        IngestError error = parser.parse(data, from, to, record);
+        if (error != null) {
+            return error;
+        }
+        ValidationError violation = record.type == VehicleType.CAR
+                ? VehicleRules.checkCar(record.brand, record.year, record.numDoors)
+                : VehicleRules.checkVehicle(record.brand, record.year);
+        if (violation != ValidationError.NONE) {
+            VehicleMetrics.recordBulkRejected(violation);
+            return IngestError.of(violation);
+        }
+        handler.onVehicle(build(record));
+        return null;
+    }
+
+    private static Vehicle build(ParsedRecord record) {
+        switch (record.type) {
+            case CAR:
+                return new Car(record.brand, record.year, record.numDoors);
+            case MOTORCYCLE:
+                return new Motorcycle(record.brand, record.year, record.hasSideCar);
+            default:
+                return new Vehicle(record.brand, record.year);
+        }
+    }
+
+    private static boolean isBlankLine(byte[] data, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (data[i] != ' ' && data[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,75 @@
+package org.javalearning.core.oop.inheritance.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one bulk operation, such as validating a batch or
+ * ingesting a file. The event duration is the operation's wall-clock time.
+ *
+ * <p><strong>Usage:</strong>
+ * <pre>
+ * BulkOperationEvent event = BulkOperationEvent.start("validate");
+ * // ... process the batch ...
+ * event.complete(records, rejected);
+ * </pre>
+ * Unless a flight recording is running, {@link #start(String)} and
+ * {@link #complete(long, long)} do no work and the short-lived event object is
+ * removed by escape analysis.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@Name("org.javalearning.BulkOperation")
+@Label("Bulk Vehicle Operation")
+@Category({"Java Learning", "Vehicles"})
+@Description("A batch of vehicle records was processed")
+@StackTrace(false)
+public final class BulkOperationEvent extends Event {
+    @Label("Operation")
+    private String operation;
+
+    @Label("Records")
+    @Description("Number of records processed")
+    private long records;
+
+    @Label("Rejected")
+    @Description("Number of records rejected")
+    private long rejected;
+
+    private BulkOperationEvent(String operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Starts timing a bulk operation.
+     *
+     * @param operation a short name of the operation, e.g. {@code "validate"}
+     * @return the started event
+     */
+    public static BulkOperationEvent start(String operation) {
+        BulkOperationEvent event = new BulkOperationEvent(operation);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the operation and commits the event if a recording wants it.
+     *
+     * @param records the number of records processed
+     * @param rejected the number of records rejected
+     */
+    public void complete(long records, long rejected) {
+        end();
+        if (shouldCommit()) {
+            this.records = records;
+            this.rejected = rejected;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.javalearning.core.oop.inheritance.metrics;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.validation.ValidationError;
+
+/**
+ * Immutable point-in-time copy of the {@link VehicleMetrics} counters.
+ * Rates are computed from two snapshots:
+ * <pre>
+ * MetricsSnapshot before = VehicleMetrics.snapshot();
+ * // ... process a feed ...
+ * double perSecond = VehicleMetrics.snapshot().getCreatedPerSecond(before);
+ * </pre>
+ *
+ * <p>Each counter is read atomically, but counters are read one after another,
+ * so a snapshot taken while other threads are recording may be off by the
+ * events recorded during the capture.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class MetricsSnapshot {
+    private final long[] created;
+    private final long[] rejected;
+    private final long timestampNanos;
+
+    MetricsSnapshot(long[] created, long[] rejected, long timestampNanos) {
+        this.created = created;
+        this.rejected = rejected;
+        this.timestampNanos = timestampNanos;
+    }
+
+    /**
+     * Retrieves the number of vehicles constructed of a given type.
+     *
+     * @param type the concrete vehicle type
+     * @return the construction count
+     */
+    public long getCreatedCount(VehicleType type) {
+        return created[type.ordinal()];
+    }
+
+    /**
+     * Retrieves the number of vehicles constructed of any type.
+     *
+     * @return the total construction count
+     */
+    public long getTotalCreatedCount() {
+        return sum(created);
+    }
+
+    /**
+     * Retrieves the number of rejections caused by a given rule violation.
+     *
+     * @param error the violated rule
+     * @return the rejection count, always zero for {@link ValidationError#NONE}
+     */
+    public long getRejectedCount(ValidationError error) {
+        return rejected[error.ordinal()];
+    }
+
+    /**
+     * Retrieves the number of rejections of any reason.
+     *
+     * @return the total rejection count
+     */
+    public long getTotalRejectedCount() {
+        return sum(rejected);
+    }
+
+    /**
+     * Retrieves the {@link System#nanoTime()} value at which this snapshot was taken.
+     *
+     * @return the capture time in nanoseconds
+     */
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+
+    /**
+     * Computes the counter increments between an earlier snapshot and this one.
+     *
+     * @param earlier a snapshot taken before this one
+     * @return a snapshot holding the differences, timestamped like this one
+     * @throws IllegalArgumentException if earlier is null
+     */
+    public MetricsSnapshot since(MetricsSnapshot earlier) {
+        if (earlier == null) {
+            throw new IllegalArgumentException("Snapshot cannot be null");
+        }
+        return new MetricsSnapshot(minus(created, earlier.created), minus(rejected, earlier.rejected), timestampNanos);
+    }
+
+    /**
+     * Computes the construction rate between an earlier snapshot and this one.
+     *
+     * @param earlier a snapshot taken before this one
+     * @return vehicles constructed per second, or 0.0 if no time has passed
+     * @throws IllegalArgumentException if earlier is null
+     */
+    public double getCreatedPerSecond(MetricsSnapshot earlier) {
+        if (earlier == null) {
+            throw new IllegalArgumentException("Snapshot cannot be null");
+        }
+        long elapsed = timestampNanos - earlier.timestampNanos;
+        long count = getTotalCreatedCount() - earlier.getTotalCreatedCount();
+        return elapsed <= 0 ? 0.0 : count * 1_000_000_000.0 / elapsed;
+    }
+
+    /**
+     * Provides a compact summary of all counters.
+     *
+     * <p>The output format follows the pattern:
+     * MetricsSnapshot{created={VEHICLE=n, CAR=n, MOTORCYCLE=n}, rejected={INVALID_BRAND=n, ...}}
+     *
+     * @return a formatted string of the counter values
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(160).append("MetricsSnapshot{created={");
+        for (VehicleType type : VehicleType.values()) {
+            if (type.ordinal() > 0) {
+                sb.append(", ");
+            }
+            sb.append(type).append('=').append(created[type.ordinal()]);
+        }
+        sb.append("}, rejected={");
+        for (ValidationError error : ValidationError.values()) {
+            if (error == ValidationError.NONE) {
+                continue;
+            }
+            if (error.ordinal() > 1) {
+                sb.append(", ");
+            }
+            sb.append(error).append('=').append(rejected[error.ordinal()]);
+        }
+        return sb.append("}}").toString();
+    }
+
+    private static long sum(long[] values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    private static long[] minus(long[] values, long[] earlier) {
+        long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i] - earlier[i];
+        }
+        return result;
+    }
+}
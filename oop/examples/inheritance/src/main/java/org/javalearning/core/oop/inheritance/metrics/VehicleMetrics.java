@@ -0,0 +1,144 @@
+package org.javalearning.core.oop.inheritance.metrics;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.validation.ValidationError;
+import org.javalearning.core.oop.inheritance.validation.ValidationReport;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Always-on, process-wide counters for the vehicle hierarchy.
+ *
+ * <p><strong>What Is Counted:</strong>
+ * <ul>
+ *   <li>vehicles successfully created, per concrete type: constructed as
+ *       objects, or added as rows to a {@code VehicleFleet} or {@code VehicleArena};
+ *       views recreated from stored state with {@code Vehicle.restore} are not counted</li>
+ *   <li>rejected input, per {@link ValidationError}, from the constructors,
+ *       the {@code BulkVehicleValidator} and the {@code VehicleIngestor}</li>
+ * </ul>
+ * Counters are {@link LongAdder}s, so concurrent producers increment separate
+ * cells instead of contending on one cache line. {@link #snapshot()} captures
+ * all counters at once for reporting or rate computation.
+ *
+ * <p><strong>Disabling:</strong>
+ * Starting the JVM with {@code -Dorg.javalearning.metrics.disabled=true} turns
+ * every recording method into a no-op. The flag is a {@code static final}
+ * constant, so the JIT removes the counting code entirely.
+ *
+ * <p>For per-event detail, see the JFR events {@link VehicleRejectedEvent} and
+ * {@link BulkOperationEvent}, which cost nothing unless a recording is running.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class VehicleMetrics {
+    /**
+     * System property that disables all counters when set to {@code true}.
+     */
+    public static final String DISABLED_PROPERTY = "org.javalearning.metrics.disabled";
+
+    private static final boolean ENABLED = !Boolean.getBoolean(DISABLED_PROPERTY);
+    private static final LongAdder[] CREATED = adders(VehicleType.values().length);
+    private static final LongAdder[] REJECTED = adders(ValidationError.values().length);
+
+    private VehicleMetrics() {
+    }
+
+    /**
+     * Checks whether the counters are active in this JVM.
+     *
+     * @return false if the counters were disabled through {@link #DISABLED_PROPERTY}
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Counts one successfully constructed vehicle.
+     *
+     * @param type the concrete type of the vehicle
+     */
+    public static void recordCreated(VehicleType type) {
+        if (ENABLED) {
+            CREATED[type.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Counts one rejected construction and emits a {@link VehicleRejectedEvent}
+     * if a flight recording is running.
+     *
+     * @param type the concrete type being constructed
+     * @param error the violated rule
+     */
+    public static void recordRejected(VehicleType type, ValidationError error) {
+        if (ENABLED) {
+            REJECTED[error.ordinal()].increment();
+        }
+        VehicleRejectedEvent event = new VehicleRejectedEvent();
+        if (event.isEnabled()) {
+            event.set(type, error);
+            event.commit();
+        }
+    }
+
+    /**
+     * Counts one record rejected by a bulk operation such as ingesting a file.
+     * Unlike {@link #recordRejected(VehicleType, ValidationError)} this emits no
+     * JFR event; the enclosing {@link BulkOperationEvent} carries the count, so
+     * a feed full of bad lines does not flood the recording.
+     *
+     * @param error the violated rule
+     */
+    public static void recordBulkRejected(ValidationError error) {
+        if (ENABLED) {
+            REJECTED[error.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Counts every rejection in a validation report, one counter update per
+     * violated rule rather than per record. Bulk rejections do not emit
+     * individual JFR events; the enclosing {@link BulkOperationEvent} carries
+     * their count.
+     *
+     * @param report the report of a validated batch
+     */
+    public static void recordRejected(ValidationReport report) {
+        if (ENABLED && report.getInvalidCount() > 0) {
+            for (ValidationError error : ValidationError.values()) {
+                int count = error == ValidationError.NONE ? 0 : report.getErrorCount(error);
+                if (count > 0) {
+                    REJECTED[error.ordinal()].add(count);
+                }
+            }
+        }
+    }
+
+    /**
+     * Captures the current value of every counter.
+     *
+     * @return an immutable snapshot of the counters
+     */
+    public static MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(sums(CREATED), sums(REJECTED), System.nanoTime());
+    }
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        long[] sums = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) {
+            sums[i] = adders[i].sum();
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,43 @@
+package org.javalearning.core.oop.inheritance.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.validation.ValidationError;
+
+/**
+ * JFR event emitted for every vehicle constructor call that rejects its input.
+ * The event's stack trace points at the offending caller. Records rejected by
+ * the {@code BulkVehicleValidator} or the {@code VehicleIngestor} are summarized
+ * by {@link BulkOperationEvent} instead, since a per-record event would dominate
+ * the cost of bulk validation and flood the recording on a dirty feed.
+ *
+ * <p>Record with {@code -XX:StartFlightRecording} or {@code jcmd <pid> JFR.start}
+ * and inspect with {@code jfr print --events org.javalearning.VehicleRejected}.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@Name("org.javalearning.VehicleRejected")
+@Label("Vehicle Rejected")
+@Category({"Java Learning", "Vehicles"})
+@Description("A vehicle record failed validation")
+public final class VehicleRejectedEvent extends Event {
+    @Label("Vehicle Type")
+    private String vehicleType;
+
+    @Label("Reason")
+    private String reason;
+
+    VehicleRejectedEvent() {
+    }
+
+    void set(VehicleType type, ValidationError error) {
+        this.vehicleType = type.name();
+        this.reason = error.name();
+    }
+}
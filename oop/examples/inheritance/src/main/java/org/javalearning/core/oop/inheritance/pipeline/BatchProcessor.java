@@ -0,0 +1,117 @@
+package org.javalearning.core.oop.inheritance.pipeline;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * A {@link Flow.Processor} that runs a {@link PipelineStage} on every batch it
+ * receives and publishes the results to its own subscribers.
+ *
+ * <p><strong>Demand:</strong>
+ * The processor requests at most {@code maxBufferedBatches} batches ahead and
+ * one more for each batch it has finished. Each of its subscribers gets a
+ * buffer of {@code maxBufferedBatches} batches; when a buffer is full,
+ * publishing blocks until that subscriber catches up. A slow stage therefore
+ * stops its upstream from requesting more, and the stall travels back to the
+ * source instead of growing queues, so a chain of processors holds a bounded
+ * number of batches however fast the source produces.
+ *
+ * <p><strong>Parallelism:</strong>
+ * Each subscriber is driven by its own task on the executor. Consecutive stages
+ * therefore run concurrently on different batches, and several subscribers of
+ * one processor, such as independent sinks, process the same batch in parallel.
+ *
+ * <p><strong>Failure:</strong>
+ * If the stage throws, the processor cancels its upstream subscription and
+ * signals the exception to its subscribers. Once every subscriber has cancelled,
+ * the processor cancels its upstream subscription as well.
+ *
+ * @param <I> the type of the incoming batches
+ * @param <O> the type of the published batches
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class BatchProcessor<I, O> extends SubmissionPublisher<O> implements Flow.Processor<I, O> {
+    private final PipelineStage<? super I, ? extends O> stage;
+    private final int maxBufferedBatches;
+    private Flow.Subscription subscription;
+
+    /**
+     * Constructs a processor for a stage.
+     *
+     * @param stage the stage applied to every batch
+     * @param executor the executor running the tasks that deliver to subscribers
+     * @param maxBufferedBatches the maximum number of batches requested ahead and
+     *        buffered per subscriber; rounded up to a power of two
+     * @throws IllegalArgumentException if stage or executor is null, or
+     *         maxBufferedBatches is not positive
+     */
+    public BatchProcessor(PipelineStage<? super I, ? extends O> stage, Executor executor, int maxBufferedBatches) {
+        super(requireExecutor(executor), requireBufferSize(maxBufferedBatches));
+        if (stage == null) {
+            throw new IllegalArgumentException("Stage cannot be null");
+        }
+        this.stage = stage;
+        this.maxBufferedBatches = maxBufferedBatches;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(maxBufferedBatches);
+    }
+
+    @Override
+    public void onNext(I batch) {
+        if (isClosed()) {
+            return;
+        }
+        O result;
+        try {
+            result = stage.process(batch);
+        } catch (Exception e) {
+            subscription.cancel();
+            closeExceptionally(e);
+            return;
+        }
+        if (result != null) {
+            submit(result);
+        }
+        if (getNumberOfSubscribers() == 0) {
+            subscription.cancel();
+            close();
+            return;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        close();
+    }
+
+    static Executor requireExecutor(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        return executor;
+    }
+
+    static int requireBufferSize(int maxBufferedBatches) {
+        if (maxBufferedBatches <= 0) {
+            throw new IllegalArgumentException("Max buffered batches must be positive");
+        }
+        return maxBufferedBatches;
+    }
+}
@@ -0,0 +1,101 @@
+package org.javalearning.core.oop.inheritance.pipeline;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * A terminal {@link Flow.Subscriber} that runs a {@link PipelineStage} on every
+ * batch and discards its result.
+ *
+ * <p>Like {@link BatchProcessor}, the subscriber requests a bounded number of
+ * batches ahead and one more for each batch it has finished, so a slow sink
+ * throttles its publisher instead of letting batches pile up.
+ *
+ * @param <T> the type of the received batches
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class BatchSubscriber<T> implements Flow.Subscriber<T> {
+    private final PipelineStage<? super T, ?> stage;
+    private final int maxBufferedBatches;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private volatile Flow.Subscription subscription;
+
+    /**
+     * Constructs a subscriber for a stage.
+     *
+     * @param stage the stage applied to every batch
+     * @param maxBufferedBatches the maximum number of batches requested ahead
+     * @throws IllegalArgumentException if stage is null or maxBufferedBatches is not positive
+     */
+    public BatchSubscriber(PipelineStage<? super T, ?> stage, int maxBufferedBatches) {
+        if (stage == null) {
+            throw new IllegalArgumentException("Stage cannot be null");
+        }
+        this.stage = stage;
+        this.maxBufferedBatches = BatchProcessor.requireBufferSize(maxBufferedBatches);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        if (completion.isDone()) {
+            subscription.cancel();
+        } else {
+            subscription.request(maxBufferedBatches);
+        }
+    }
+
+    @Override
+    public void onNext(T batch) {
+        if (completion.isDone()) {
+            return;
+        }
+        try {
+            stage.process(batch);
+        } catch (Exception e) {
+            subscription.cancel();
+            completion.completeExceptionally(e);
+            return;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        completion.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        completion.complete(null);
+    }
+
+    /**
+     * Stops receiving batches. The completion future fails with a
+     * {@link java.util.concurrent.CancellationException}.
+     */
+    public void cancel() {
+        completion.cancel(false);
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    /**
+     * Retrieves the future that completes when the publisher has completed and
+     * every batch has been processed.
+     *
+     * @return a future completing normally after the last batch, or
+     *         exceptionally if the stage or the publisher failed
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+}
@@ -0,0 +1,41 @@
+package org.javalearning.core.oop.inheritance.pipeline;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A batch of vehicles partitioned by concrete type, so later stages can run one
+ * loop per type with monomorphic call sites. Within a partition the batch order
+ * is preserved.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class ClassifiedBatch {
+    final List<Car> cars = new ArrayList<>();
+    final List<Motorcycle> motorcycles = new ArrayList<>();
+    final List<Vehicle> vehicles = new ArrayList<>();
+
+    static ClassifiedBatch classify(List<Vehicle> batch) {
+        ClassifiedBatch classified = new ClassifiedBatch();
+        for (Vehicle vehicle : batch) {
+            if (vehicle instanceof Car car) {
+                classified.cars.add(car);
+            } else if (vehicle instanceof Motorcycle motorcycle) {
+                classified.motorcycles.add(motorcycle);
+            } else {
+                classified.vehicles.add(vehicle);
+            }
+        }
+        return classified;
+    }
+
+    int size() {
+        return cars.size() + motorcycles.size() + vehicles.size();
+    }
+}
@@ -0,0 +1,64 @@
+package org.javalearning.core.oop.inheritance.pipeline;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+/**
+ * A vehicle together with the attributes the enrich stage of a
+ * {@link VehiclePipeline} derives from its concrete type.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class EnrichedVehicle {
+    private final Vehicle vehicle;
+    private final VehicleType type;
+    private final int age;
+    private final String description;
+
+    EnrichedVehicle(Vehicle vehicle, VehicleType type, int age, String description) {
+        this.vehicle = vehicle;
+        this.type = type;
+        this.age = age;
+        this.description = description;
+    }
+
+    /**
+     * Retrieves the vehicle.
+     *
+     * @return the vehicle
+     */
+    public Vehicle getVehicle() {
+        return vehicle;
+    }
+
+    /**
+     * Retrieves the concrete type the classify stage assigned.
+     *
+     * @return the vehicle type
+     */
+    public VehicleType getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves the age of the vehicle in years, relative to the year the
+     * pipeline was created. Vehicles from later years have age zero.
+     *
+     * @return the age in years
+     */
+    public int getAge() {
+        return age;
+    }
+
+    /**
+     * Retrieves a short type-specific description, such as
+     * {@code "Car with 4 doors"} or {@code "Motorcycle with sidecar"}.
+     *
+     * @return the description
+     */
+    public String getDescription() {
+        return description;
+    }
+}
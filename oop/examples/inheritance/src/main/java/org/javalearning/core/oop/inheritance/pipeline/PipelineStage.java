@@ -0,0 +1,28 @@
+package org.javalearning.core.oop.inheritance.pipeline;
+
+/**
+ * One step of a batch pipeline, run by a {@link BatchProcessor} or a
+ * {@link BatchSubscriber}. A stage receives whole batches, so per-element
+ * overhead such as signalling and queueing is paid once per batch.
+ *
+ * <p>A stage is called by one thread at a time and sees batches in publication
+ * order, so it may keep unsynchronized state between calls.
+ *
+ * @param <I> the type of the incoming batch
+ * @param <O> the type of the outgoing batch
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface PipelineStage<I, O> {
+
+    /**
+     * Processes one batch.
+     *
+     * @param batch the batch to process
+     * @return the batch passed downstream, or null to pass nothing on
+     * @throws Exception if processing fails; the pipeline is then cancelled
+     */
+    O process(I batch) throws Exception;
+}
@@ -0,0 +1,60 @@
+package org.javalearning.core.oop.inheritance.pipeline;
+
+import org.javalearning.core.oop.inheritance.analytics.AggregateSnapshot;
+
+/**
+ * The outcome of a completed {@link VehiclePipeline} run.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class PipelineSummary {
+    private final long recordCount;
+    private final long rejectedCount;
+    private final long renderedCount;
+    private final AggregateSnapshot aggregates;
+
+    PipelineSummary(long recordCount, long rejectedCount, long renderedCount, AggregateSnapshot aggregates) {
+        this.recordCount = recordCount;
+        this.rejectedCount = rejectedCount;
+        this.renderedCount = renderedCount;
+        this.aggregates = aggregates;
+    }
+
+    /**
+     * Retrieves the number of raw records added to the pipeline.
+     *
+     * @return the record count
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Retrieves the number of records the validate stage rejected.
+     *
+     * @return the rejected count
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Retrieves the number of vehicles written by the render stage.
+     *
+     * @return the rendered count
+     */
+    public long getRenderedCount() {
+        return renderedCount;
+    }
+
+    /**
+     * Retrieves the aggregates computed over every valid vehicle.
+     *
+     * @return the aggregate snapshot
+     */
+    public AggregateSnapshot getAggregates() {
+        return aggregates;
+    }
+}
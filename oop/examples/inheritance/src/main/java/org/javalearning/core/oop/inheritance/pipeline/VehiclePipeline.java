@@ -0,0 +1,351 @@
+package org.javalearning.core.oop.inheritance.pipeline;
+
+import org.javalearning.core.oop.inheritance.analytics.LiveFleetAggregates;
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.report.FleetReportWriter;
+import org.javalearning.core.oop.inheritance.validation.BulkVehicleValidator;
+import org.javalearning.core.oop.inheritance.validation.RawVehicleBatch;
+import org.javalearning.core.oop.inheritance.validation.ValidationReport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Processes raw vehicle records through a backpressured chain of
+ * {@link java.util.concurrent.Flow} stages that pass batches, not single vehicles.
+ *
+ * <p><strong>Stages:</strong>
+ * <pre>
+ *                                               ┌─&gt; aggregate
+ * source ─&gt; validate ─&gt; classify ─&gt; enrich ─┤
+ *                                               └─&gt; render
+ * </pre>
+ * <ul>
+ *   <li><b>validate</b> checks a {@link RawVehicleBatch} with
+ *       {@link BulkVehicleValidator} and builds vehicles for the valid records</li>
+ *   <li><b>classify</b> partitions the vehicles into cars, motorcycles and basic vehicles</li>
+ *   <li><b>enrich</b> derives the age and a type-specific description, one
+ *       monomorphic loop per partition</li>
+ *   <li><b>aggregate</b> counts the vehicles in {@link LiveFleetAggregates}</li>
+ *   <li><b>render</b> writes one report line per vehicle with {@link FleetReportWriter}</li>
+ * </ul>
+ *
+ * <p><strong>Concurrency and Backpressure:</strong>
+ * Every stage runs as its own task on the executor, so the stages work on
+ * consecutive batches at the same time, and aggregate and render, which do not
+ * depend on each other, process the same batch in parallel. Between two stages
+ * at most {@code maxBufferedBatches} batches are queued. When a stage falls
+ * behind, the stages before it block until it catches up, and finally so does
+ * the thread adding records. Memory stays bounded under sustained load, however
+ * slow the sink.
+ *
+ * <p><strong>Ordering:</strong>
+ * Batches keep their order. Within a batch, cars are rendered first, then
+ * motorcycles, then basic vehicles, each in the order they were added.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>
+ * VehiclePipeline pipeline = new VehiclePipeline(Channels.newChannel(System.out));
+ * pipeline.addCar("BMW", 2021, 4);
+ * pipeline.addMotorcycle("Ducati", 2022, false);
+ * PipelineSummary summary = pipeline.complete().join();
+ * </pre>
+ *
+ * <p>Records are added by a single producer thread; the pipeline is not safe
+ * for concurrent producers. The report channel is flushed but not closed.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class VehiclePipeline {
+    /**
+     * Number of records per batch used when none is given.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    /**
+     * Number of batches buffered between two stages when none is given.
+     */
+    public static final int DEFAULT_MAX_BUFFERED_BATCHES = 8;
+
+    private final int batchSize;
+    private final int referenceYear = Year.now().getValue();
+    private final LiveFleetAggregates aggregates = new LiveFleetAggregates(Duration.ofMinutes(1), 60);
+    private final BulkVehicleValidator validator = new BulkVehicleValidator(aggregates.getBrands());
+    private final ValidationReport validationReport;
+    private final FleetReportWriter report;
+    private final SubmissionPublisher<RawVehicleBatch> source;
+    private final BatchProcessor<ClassifiedBatch, List<EnrichedVehicle>> enrich;
+    private final BatchSubscriber<List<EnrichedVehicle>> aggregateSink;
+    private final BatchSubscriber<List<EnrichedVehicle>> renderSink;
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong renderedCount = new AtomicLong();
+    private final ExecutorService ownedExecutor;
+    private RawVehicleBatch current;
+    private long recordCount;
+    private volatile Throwable failure;
+    private boolean completed;
+
+    /**
+     * Constructs a pipeline with default batch and buffer sizes that runs each
+     * stage on a virtual thread. Stages block while their successor is full,
+     * which parks a virtual thread without tying up a carrier thread. The
+     * pipeline owns that executor and shuts it down once aggregate and render
+     * have finished.
+     *
+     * @param reportChannel the channel receiving the rendered report
+     * @throws IllegalArgumentException if reportChannel is null
+     */
+    public VehiclePipeline(WritableByteChannel reportChannel) {
+        this(reportChannel, Executors.newVirtualThreadPerTaskExecutor(), DEFAULT_BATCH_SIZE,
+                DEFAULT_MAX_BUFFERED_BATCHES, true);
+    }
+
+    /**
+     * Constructs a pipeline.
+     *
+     * @param reportChannel the channel receiving the rendered report
+     * @param executor the executor running the stages; it must be able to run all
+     *        five stages at once, since a stage blocks while its successor is full.
+     *        The caller keeps ownership and shuts it down.
+     * @param batchSize the number of records passed between stages at a time
+     * @param maxBufferedBatches the number of batches buffered between two stages
+     * @throws IllegalArgumentException if reportChannel or executor is null, or
+     *         batchSize or maxBufferedBatches is not positive
+     */
+    public VehiclePipeline(WritableByteChannel reportChannel, Executor executor, int batchSize,
+                           int maxBufferedBatches) {
+        this(reportChannel, executor, batchSize, maxBufferedBatches, false);
+    }
+
+    private VehiclePipeline(WritableByteChannel reportChannel, Executor executor, int batchSize,
+                            int maxBufferedBatches, boolean ownsExecutor) {
+        BatchProcessor.requireExecutor(executor);
+        BatchProcessor.requireBufferSize(maxBufferedBatches);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.report = new FleetReportWriter(reportChannel);
+        this.batchSize = batchSize;
+        this.validationReport = new ValidationReport(batchSize);
+        this.current = new RawVehicleBatch(batchSize);
+        this.ownedExecutor = ownsExecutor ? (ExecutorService) executor : null;
+
+        source = new SubmissionPublisher<>(executor, maxBufferedBatches);
+        BatchProcessor<RawVehicleBatch, List<Vehicle>> validate =
+                new BatchProcessor<>(this::validate, executor, maxBufferedBatches);
+        BatchProcessor<List<Vehicle>, ClassifiedBatch> classify =
+                new BatchProcessor<>(ClassifiedBatch::classify, executor, maxBufferedBatches);
+        enrich = new BatchProcessor<>(this::enrich, executor, maxBufferedBatches);
+        aggregateSink = new BatchSubscriber<>(this::aggregate, maxBufferedBatches);
+        renderSink = new BatchSubscriber<>(this::render, maxBufferedBatches);
+
+        enrich.subscribe(aggregateSink);
+        enrich.subscribe(renderSink);
+        classify.subscribe(enrich);
+        validate.subscribe(classify);
+        source.subscribe(validate);
+
+        aggregateSink.getCompletion().whenComplete((ignored, error) -> fail(error, renderSink));
+        renderSink.getCompletion().whenComplete((ignored, error) -> fail(error, aggregateSink));
+        if (ownedExecutor != null) {
+            // Both sinks settle on completion, failure and cancellation alike
+            CompletableFuture.allOf(aggregateSink.getCompletion(), renderSink.getCompletion())
+                    .whenComplete((ignored, error) -> ownedExecutor.shutdown());
+        }
+    }
+
+    /**
+     * Adds an unvalidated basic vehicle record. Blocks while the pipeline is full.
+     *
+     * @param brand the manufacturer brand, possibly invalid
+     * @param year the manufacturing year, possibly invalid
+     * @throws IllegalStateException if the pipeline was completed or has failed
+     */
+    public void addVehicle(String brand, int year) {
+        requireRunning();
+        current.addVehicle(brand, year);
+        submitIfFull();
+    }
+
+    /**
+     * Adds an unvalidated car record. Blocks while the pipeline is full.
+     *
+     * @param brand the manufacturer brand, possibly invalid
+     * @param year the manufacturing year, possibly invalid
+     * @param numDoors the number of doors, possibly invalid
+     * @throws IllegalStateException if the pipeline was completed or has failed
+     */
+    public void addCar(String brand, int year, int numDoors) {
+        requireRunning();
+        current.addCar(brand, year, numDoors);
+        submitIfFull();
+    }
+
+    /**
+     * Adds an unvalidated motorcycle record. Blocks while the pipeline is full.
+     *
+     * @param brand the manufacturer brand, possibly invalid
+     * @param year the manufacturing year, possibly invalid
+     * @param hasSideCar whether the motorcycle has a sidecar attached
+     * @throws IllegalStateException if the pipeline was completed or has failed
+     */
+    public void addMotorcycle(String brand, int year, boolean hasSideCar) {
+        requireRunning();
+        current.addMotorcycle(brand, year, hasSideCar);
+        submitIfFull();
+    }
+
+    /**
+     * Retrieves the publisher of enriched batches, so further consumers can run
+     * in parallel with aggregate and render. Subscribe before adding the first
+     * record; a slow subscriber throttles the whole pipeline.
+     *
+     * @return the publisher of enriched batches
+     */
+    public Flow.Publisher<List<EnrichedVehicle>> getEnrichedPublisher() {
+        return enrich;
+    }
+
+    /**
+     * Submits the last partial batch and signals the end of input. Calling it
+     * again returns a future for the same outcome.
+     *
+     * @return a future completing with the summary once every stage has
+     *         finished and the report is flushed, or exceptionally if a stage failed
+     */
+    public CompletableFuture<PipelineSummary> complete() {
+        if (!completed) {
+            completed = true;
+            if (failure == null && current.size() > 0) {
+                submit();
+            }
+            source.close();
+        }
+        return CompletableFuture.allOf(aggregateSink.getCompletion(), renderSink.getCompletion())
+                .handle((ignored, error) -> {
+                    // This relay may run before the sinks' fail callbacks have set
+                    // failure, so fall back to the error it was handed
+                    Throwable cause = failure;
+                    if (cause == null && error != null) {
+                        cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause()
+                                : error;
+                        if (cause instanceof CancellationException) {
+                            cause = null;
+                        }
+                    }
+                    if (cause != null) {
+                        throw new CompletionException(cause);
+                    }
+                    try {
+                        report.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return new PipelineSummary(recordCount, rejectedCount.get(), renderedCount.get(),
+                            aggregates.snapshot());
+                });
+    }
+
+    private List<Vehicle> validate(RawVehicleBatch batch) {
+        List<Vehicle> vehicles = new ArrayList<>(batch.size());
+        validator.process(batch, validationReport, vehicles::add);
+        rejectedCount.addAndGet(validationReport.getInvalidCount());
+        return vehicles.isEmpty() ? null : vehicles;
+    }
+
+    private List<EnrichedVehicle> enrich(ClassifiedBatch batch) {
+        List<EnrichedVehicle> enriched = new ArrayList<>(batch.size());
+        for (Car car : batch.cars) {
+            enriched.add(new EnrichedVehicle(car, VehicleType.CAR, ageOf(car),
+                    "Car with " + car.getNumDoors() + " doors"));
+        }
+        for (Motorcycle motorcycle : batch.motorcycles) {
+            enriched.add(new EnrichedVehicle(motorcycle, VehicleType.MOTORCYCLE, ageOf(motorcycle),
+                    motorcycle.getHasSideCar() ? "Motorcycle with sidecar" : "Motorcycle without sidecar"));
+        }
+        for (Vehicle vehicle : batch.vehicles) {
+            enriched.add(new EnrichedVehicle(vehicle, VehicleType.VEHICLE, ageOf(vehicle), "Basic vehicle"));
+        }
+        return enriched;
+    }
+
+    private Void aggregate(List<EnrichedVehicle> batch) {
+        for (EnrichedVehicle vehicle : batch) {
+            aggregates.add(vehicle.getVehicle());
+        }
+        return null;
+    }
+
+    private Void render(List<EnrichedVehicle> batch) throws IOException {
+        for (EnrichedVehicle vehicle : batch) {
+            report.append("► ").append(vehicle.getVehicle())
+                    .append(" ➜ ").append(vehicle.getDescription())
+                    .append(", age ").append(Integer.toString(vehicle.getAge()))
+                    .newLine();
+        }
+        renderedCount.addAndGet(batch.size());
+        return null;
+    }
+
+    private int ageOf(Vehicle vehicle) {
+        return Math.max(0, referenceYear - vehicle.getYear());
+    }
+
+    private void submitIfFull() {
+        if (current.isFull()) {
+            submit();
+        }
+    }
+
+    private void submit() {
+        RawVehicleBatch batch = current;
+        current = new RawVehicleBatch(batchSize);
+        recordCount += batch.size();
+        source.submit(batch);
+    }
+
+    private void requireRunning() {
+        if (completed) {
+            throw new IllegalStateException("Pipeline was already completed");
+        }
+        Throwable error = failure;
+        if (error != null) {
+            throw new IllegalStateException("Pipeline failed", error);
+        }
+    }
+
+    // A failed sink closes the source, which makes the producer's next add fail
+    // instead of blocking on a pipeline that has stopped, then stops the other
+    // sink. The source is closed first: settling both sinks shuts down an owned
+    // executor, which must not reject a batch the producer is still submitting.
+    private void fail(Throwable error, BatchSubscriber<?> other) {
+        if (error == null || error instanceof CancellationException) {
+            return;
+        }
+        if (failure == null) {
+            failure = error;
+        }
+        source.closeExceptionally(error);
+        other.cancel();
+    }
+}
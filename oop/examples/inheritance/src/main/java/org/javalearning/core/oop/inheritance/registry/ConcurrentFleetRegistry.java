@@ -0,0 +1,223 @@
+package org.javalearning.core.oop.inheritance.registry;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent map from vehicle ids to immutable vehicles, built for many
+ * readers, steady writers and long-running scans.
+ *
+ * <p><strong>Structure:</strong>
+ * Ids are spread over a power-of-two number of stripes. Each stripe holds the
+ * volatile root of a persistent hash array mapped trie: an update copies the
+ * few nodes on the path to the changed slot and publishes a new root, while
+ * all other nodes are shared with the previous version.
+ *
+ * <p><strong>Concurrency:</strong>
+ * <ul>
+ *   <li>Point reads are wait-free: one volatile read of the stripe root, then at
+ *       most 13 steps through immutable nodes</li>
+ *   <li>Writes are striped: a write locks only its own stripe, so writers to
+ *       different stripes proceed in parallel and readers are never blocked</li>
+ *   <li>{@link #snapshot()} briefly locks every stripe to capture all roots at
+ *       one instant, then releases them. The snapshot is an immutable
+ *       point-in-time view that costs no copying, however long it is kept</li>
+ * </ul>
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>
+ * ConcurrentFleetRegistry registry = new ConcurrentFleetRegistry();
+ * registry.put(42L, new Car("Toyota", 2023, 4));
+ * FleetSnapshot snapshot = registry.snapshot();
+ * snapshot.forEach((id, vehicle) -&gt; report(id, vehicle));   // unaffected by later writes
+ * </pre>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class ConcurrentFleetRegistry {
+    /**
+     * Number of stripes used by the no-argument constructor.
+     */
+    public static final int DEFAULT_STRIPES = 16;
+
+    private static final int MAX_STRIPES = 1 << 16;
+
+    private final Stripe[] stripes;
+    private final int stripeShift;
+
+    /**
+     * Constructs an empty registry with {@link #DEFAULT_STRIPES} stripes.
+     */
+    public ConcurrentFleetRegistry() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Constructs an empty registry with the given number of write stripes.
+     * More stripes allow more parallel writers and make snapshots slightly
+     * more expensive.
+     *
+     * @param stripes the number of stripes, a power of two
+     * @throws IllegalArgumentException if stripes is not a power of two between 1 and 65536
+     */
+    public ConcurrentFleetRegistry(int stripes) {
+        if (stripes <= 0 || stripes > MAX_STRIPES || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Stripes must be a power of two between 1 and " + MAX_STRIPES);
+        }
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeShift = Long.SIZE - Integer.numberOfTrailingZeros(stripes);
+    }
+
+    /**
+     * Looks up the vehicle registered under an id.
+     *
+     * @param id the vehicle id
+     * @return the vehicle, or null if the id is not registered
+     */
+    public Vehicle get(long id) {
+        return TrieNode.get(stripe(TrieNode.hash(id)).root, id);
+    }
+
+    /**
+     * Checks whether an id is registered.
+     *
+     * @param id the vehicle id
+     * @return true if a vehicle is registered under the id
+     */
+    public boolean containsId(long id) {
+        return get(id) != null;
+    }
+
+    /**
+     * Registers a vehicle under an id, replacing any previous registration.
+     *
+     * @param id the vehicle id
+     * @param vehicle the vehicle to register
+     * @return the previously registered vehicle, or null if there was none
+     * @throws IllegalArgumentException if vehicle is null
+     */
+    public Vehicle put(long id, Vehicle vehicle) {
+        return put(id, vehicle, false);
+    }
+
+    /**
+     * Registers a vehicle under an id unless the id is already registered.
+     *
+     * @param id the vehicle id
+     * @param vehicle the vehicle to register
+     * @return the already registered vehicle, or null if vehicle was registered
+     * @throws IllegalArgumentException if vehicle is null
+     */
+    public Vehicle putIfAbsent(long id, Vehicle vehicle) {
+        return put(id, vehicle, true);
+    }
+
+    /**
+     * Removes the registration of an id.
+     *
+     * @param id the vehicle id
+     * @return the removed vehicle, or null if the id was not registered
+     */
+    public Vehicle remove(long id) {
+        long hash = TrieNode.hash(id);
+        Stripe stripe = stripe(hash);
+        Vehicle[] removed = new Vehicle[1];
+        stripe.lock.lock();
+        try {
+            Object root = TrieNode.remove(stripe.root, id, hash, 0, removed);
+            if (removed[0] != null) {
+                stripe.root = (TrieNode) root;
+                stripe.size--;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+        return removed[0];
+    }
+
+    /**
+     * Retrieves the number of registered vehicles. The stripes are summed
+     * without locking, so the result may be stale while writes are in flight;
+     * use {@link FleetSnapshot#size()} for an exact count.
+     *
+     * @return the approximate registry size
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    /**
+     * Captures an immutable point-in-time view of all registrations.
+     * Writers are paused only while the stripe roots are read; readers are
+     * never paused.
+     *
+     * @return a consistent snapshot of the registry
+     */
+    public FleetSnapshot snapshot() {
+        TrieNode[] roots = new TrieNode[stripes.length];
+        int size = 0;
+        int locked = 0;
+        try {
+            for (Stripe stripe : stripes) {
+                stripe.lock.lock();
+                locked++;
+            }
+            for (int i = 0; i < stripes.length; i++) {
+                roots[i] = stripes[i].root;
+                size += stripes[i].size;
+            }
+        } finally {
+            for (int i = 0; i < locked; i++) {
+                stripes[i].lock.unlock();
+            }
+        }
+        return new FleetSnapshot(roots, size, stripeShift);
+    }
+
+    private Vehicle put(long id, Vehicle vehicle, boolean onlyIfAbsent) {
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null");
+        }
+        long hash = TrieNode.hash(id);
+        Stripe stripe = stripe(hash);
+        Vehicle[] previous = new Vehicle[1];
+        stripe.lock.lock();
+        try {
+            if (onlyIfAbsent) {
+                Vehicle existing = TrieNode.get(stripe.root, id);
+                if (existing != null) {
+                    return existing;
+                }
+            }
+            stripe.root = TrieNode.put(stripe.root, id, hash, vehicle, 0, previous);
+            if (previous[0] == null) {
+                stripe.size++;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+        return previous[0];
+    }
+
+    // The trie consumes the hash from the low bits, the stripe index from the
+    // high bits, so both stay well distributed
+    private Stripe stripe(long hash) {
+        return stripes[stripeShift == Long.SIZE ? 0 : (int) (hash >>> stripeShift)];
+    }
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        volatile TrieNode root = TrieNode.EMPTY;
+        volatile int size;
+    }
+}
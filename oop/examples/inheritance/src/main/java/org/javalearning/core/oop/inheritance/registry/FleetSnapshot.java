@@ -0,0 +1,80 @@
+package org.javalearning.core.oop.inheritance.registry;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+
+/**
+ * Immutable point-in-time view of a {@link ConcurrentFleetRegistry}.
+ *
+ * <p>A snapshot shares the registry's trie nodes as they were when it was
+ * taken. Later writes build new nodes instead of changing these, so a scan of
+ * the snapshot sees exactly the captured registrations no matter how long it
+ * runs, and keeping a snapshot costs memory only for the nodes that writes
+ * have replaced since. Snapshots are safe to use from any thread.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class FleetSnapshot {
+    private final TrieNode[] roots;
+    private final int size;
+    private final int stripeShift;
+
+    FleetSnapshot(TrieNode[] roots, int size, int stripeShift) {
+        this.roots = roots;
+        this.size = size;
+        this.stripeShift = stripeShift;
+    }
+
+    /**
+     * Receives the registrations of a snapshot.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        /**
+         * Accepts one registration.
+         *
+         * @param id the vehicle id
+         * @param vehicle the registered vehicle
+         */
+        void accept(long id, Vehicle vehicle);
+    }
+
+    /**
+     * Looks up the vehicle registered under an id at snapshot time.
+     *
+     * @param id the vehicle id
+     * @return the vehicle, or null if the id was not registered
+     */
+    public Vehicle get(long id) {
+        long hash = TrieNode.hash(id);
+        TrieNode root = roots[stripeShift == Long.SIZE ? 0 : (int) (hash >>> stripeShift)];
+        return TrieNode.get(root, id);
+    }
+
+    /**
+     * Retrieves the exact number of registrations at snapshot time.
+     *
+     * @return the snapshot size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Passes every registration to a consumer. The order is unspecified but
+     * stable for a given snapshot.
+     *
+     * @param consumer receives each id and vehicle
+     * @throws IllegalArgumentException if consumer is null
+     */
+    public void forEach(EntryConsumer consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+        for (TrieNode root : roots) {
+            TrieNode.forEach(root, consumer::accept);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.javalearning.core.oop.inheritance.registry;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+
+/**
+ * Immutable node of a hash array mapped trie from vehicle ids to vehicles.
+ *
+ * <p>Each level consumes five bits of the id's hash and stores only occupied
+ * slots, indexed through a 32-bit bitmap. A slot holds either an {@link Entry}
+ * or a child node. Updates copy the path from the root to the changed slot and
+ * share everything else, so an old root stays a valid, unchanging snapshot.
+ *
+ * <p>The hash is a bijective 64-bit mix of the id, so distinct ids never
+ * collide and the trie depth is at most 13 levels.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class TrieNode {
+    static final TrieNode EMPTY = new TrieNode(0, new Object[0]);
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    final int bitmap;
+    final Object[] slots;
+
+    private TrieNode(int bitmap, Object[] slots) {
+        this.bitmap = bitmap;
+        this.slots = slots;
+    }
+
+    /**
+     * One id-to-vehicle mapping.
+     */
+    static final class Entry {
+        final long id;
+        final Vehicle vehicle;
+
+        Entry(long id, Vehicle vehicle) {
+            this.id = id;
+            this.vehicle = vehicle;
+        }
+    }
+
+    /**
+     * Visitor over the mappings of a trie.
+     */
+    @FunctionalInterface
+    interface Visitor {
+        void visit(long id, Vehicle vehicle);
+    }
+
+    // Stafford variant 13 of the 64-bit MurmurHash3 finalizer; every step is
+    // invertible, so the mix is a bijection on long values
+    static long hash(long id) {
+        long h = id;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    static Vehicle get(TrieNode root, long id) {
+        long hash = hash(id);
+        TrieNode node = root;
+        for (int shift = 0; ; shift += BITS) {
+            int bit = bit(hash, shift);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = node.slots[index(node.bitmap, bit)];
+            if (slot instanceof Entry entry) {
+                return entry.id == id ? entry.vehicle : null;
+            }
+            node = (TrieNode) slot;
+        }
+    }
+
+    /**
+     * Returns a trie with the mapping added or replaced. The previous vehicle,
+     * or null, is stored in {@code previous[0]}.
+     */
+    static TrieNode put(TrieNode node, long id, long hash, Vehicle vehicle, int shift, Vehicle[] previous) {
+        int bit = bit(hash, shift);
+        int index = index(node.bitmap, bit);
+        if ((node.bitmap & bit) == 0) {
+            Object[] slots = new Object[node.slots.length + 1];
+            System.arraycopy(node.slots, 0, slots, 0, index);
+            slots[index] = new Entry(id, vehicle);
+            System.arraycopy(node.slots, index, slots, index + 1, node.slots.length - index);
+            return new TrieNode(node.bitmap | bit, slots);
+        }
+        Object slot = node.slots[index];
+        Object replacement;
+        if (slot instanceof Entry entry) {
+            if (entry.id == id) {
+                previous[0] = entry.vehicle;
+                if (entry.vehicle == vehicle) {
+                    return node;
+                }
+                replacement = new Entry(id, vehicle);
+            } else {
+                replacement = merge(entry, hash(entry.id), new Entry(id, vehicle), hash, shift + BITS);
+            }
+        } else {
+            TrieNode child = (TrieNode) slot;
+            TrieNode updated = put(child, id, hash, vehicle, shift + BITS, previous);
+            if (updated == child) {
+                return node;
+            }
+            replacement = updated;
+        }
+        Object[] slots = node.slots.clone();
+        slots[index] = replacement;
+        return new TrieNode(node.bitmap, slots);
+    }
+
+    /**
+     * Returns the trie without the mapping. The removed vehicle, or null, is
+     * stored in {@code removed[0]}. Below the root, the result may be null for
+     * an emptied node or a lone {@link Entry} to be inlined into the parent.
+     */
+    static Object remove(TrieNode node, long id, long hash, int shift, Vehicle[] removed) {
+        int bit = bit(hash, shift);
+        if ((node.bitmap & bit) == 0) {
+            return node;
+        }
+        int index = index(node.bitmap, bit);
+        Object slot = node.slots[index];
+        Object replacement;
+        if (slot instanceof Entry entry) {
+            if (entry.id != id) {
+                return node;
+            }
+            removed[0] = entry.vehicle;
+            replacement = null;
+        } else {
+            TrieNode child = (TrieNode) slot;
+            replacement = remove(child, id, hash, shift + BITS, removed);
+            if (replacement == child) {
+                return node;
+            }
+        }
+        if (replacement != null) {
+            if (shift > 0 && node.slots.length == 1 && replacement instanceof Entry) {
+                return replacement;
+            }
+            Object[] slots = node.slots.clone();
+            slots[index] = replacement;
+            return new TrieNode(node.bitmap, slots);
+        }
+        if (node.slots.length == 1) {
+            return shift == 0 ? EMPTY : null;
+        }
+        if (shift > 0 && node.slots.length == 2 && node.slots[1 - index] instanceof Entry) {
+            return node.slots[1 - index];
+        }
+        Object[] slots = new Object[node.slots.length - 1];
+        System.arraycopy(node.slots, 0, slots, 0, index);
+        System.arraycopy(node.slots, index + 1, slots, index, slots.length - index);
+        return new TrieNode(node.bitmap & ~bit, slots);
+    }
+
+    static void forEach(TrieNode node, Visitor visitor) {
+        for (Object slot : node.slots) {
+            if (slot instanceof Entry entry) {
+                visitor.visit(entry.id, entry.vehicle);
+            } else {
+                forEach((TrieNode) slot, visitor);
+            }
+        }
+    }
+
+    private static TrieNode merge(Entry first, long firstHash, Entry second, long secondHash, int shift) {
+        int firstBit = bit(firstHash, shift);
+        int secondBit = bit(secondHash, shift);
+        if (firstBit == secondBit) {
+            return new TrieNode(firstBit, new Object[] {merge(first, firstHash, second, secondHash, shift + BITS)});
+        }
+        Object[] slots = Integer.compareUnsigned(firstBit, secondBit) < 0
+                ? new Object[] {first, second}
+                : new Object[] {second, first};
+        return new TrieNode(firstBit | secondBit, slots);
+    }
+
+    private static int bit(long hash, int shift) {
+        return 1 << (int) ((hash >>> shift) & MASK);
+    }
+
+    private static int index(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+}
@@ -0,0 +1,234 @@
+package org.javalearning.core.oop.inheritance.report;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Renders fleet reports into a reused buffer and writes them to an NIO channel
+ * in large chunks.
+ *
+ * <p><strong>Why Not System.out.println?</strong>
+ * Printing each vehicle with {@code System.out.println(vehicle)} builds one
+ * String per vehicle, takes the {@code PrintStream} lock per line and flushes
+ * per line. This writer avoids all three:
+ * <ul>
+ *   <li>Vehicles are rendered with {@link Vehicle#appendTo(StringBuilder)} into a single reused builder</li>
+ *   <li>Text is encoded as UTF-8 through reused array-backed buffers, which
+ *       keeps the encoder on its fast path</li>
+ *   <li>The channel is written only when a chunk is full or on {@link #flush()}</li>
+ * </ul>
+ *
+ * <p>The writer is not thread-safe. Use one writer per thread, or render
+ * separate reports and concatenate them.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class FleetReportWriter implements Flushable, Closeable {
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final StringBuilder text;
+    private final char[] chars;
+    private final CharBuffer charBuffer;
+    private final ByteBuffer bytes;
+    private final CharsetEncoder encoder;
+    private final int chunkSize;
+
+    /**
+     * Constructs a writer with a 64 KiB chunk size.
+     *
+     * @param channel the channel receiving the encoded report
+     * @throws IllegalArgumentException if channel is null
+     */
+    public FleetReportWriter(WritableByteChannel channel) {
+        this(channel, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs a writer that writes to the channel in chunks of roughly the given size.
+     *
+     * @param channel the channel receiving the encoded report
+     * @param chunkSize the number of characters buffered before a write
+     * @throws IllegalArgumentException if channel is null or chunkSize is not positive
+     */
+    public FleetReportWriter(WritableByteChannel channel, int chunkSize) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.channel = channel;
+        this.chunkSize = chunkSize;
+        this.text = new StringBuilder(chunkSize + 256);
+        // One spare char, so a window never ends between the halves of a surrogate pair
+        this.chars = new char[chunkSize + 1];
+        this.charBuffer = CharBuffer.wrap(chars);
+        this.encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        // Room for a whole window, so a surrogate pair's four bytes always fit
+        this.bytes = ByteBuffer.allocate((int) encoder.maxBytesPerChar() * chars.length);
+    }
+
+    /**
+     * Appends free text to the report.
+     *
+     * @param value the text to append
+     * @return this writer, for call chaining
+     * @throws IOException if a full chunk cannot be written to the channel
+     */
+    public FleetReportWriter append(CharSequence value) throws IOException {
+        text.append(value);
+        return flushIfFull();
+    }
+
+    /**
+     * Appends the representation of a vehicle, identical to its {@code toString()}.
+     *
+     * @param vehicle the vehicle to render
+     * @return this writer, for call chaining
+     * @throws IOException if a full chunk cannot be written to the channel
+     */
+    public FleetReportWriter append(Vehicle vehicle) throws IOException {
+        vehicle.appendTo(text);
+        return flushIfFull();
+    }
+
+    /**
+     * Ends the current report line.
+     *
+     * @return this writer, for call chaining
+     * @throws IOException if a full chunk cannot be written to the channel
+     */
+    public FleetReportWriter newLine() throws IOException {
+        text.append('\n');
+        return flushIfFull();
+    }
+
+    /**
+     * Writes one line per vehicle, each starting with a prefix.
+     *
+     * @param prefix the text written before each vehicle, such as a bullet
+     * @param vehicles the vehicles to render
+     * @return the number of vehicles written
+     * @throws IOException if the report cannot be written to the channel
+     */
+    public long writeLines(String prefix, Iterable<? extends Vehicle> vehicles) throws IOException {
+        long count = 0;
+        for (Vehicle vehicle : vehicles) {
+            vehicle.appendTo(text.append(prefix)).append('\n');
+            flushIfFull();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Writes one line per vehicle, each starting with a prefix.
+     *
+     * @param prefix the text written before each vehicle, such as a bullet
+     * @param vehicles the vehicles to render
+     * @return the number of vehicles written
+     * @throws IOException if the report cannot be written to the channel
+     */
+    public long writeLines(String prefix, Vehicle[] vehicles) throws IOException {
+        for (Vehicle vehicle : vehicles) {
+            vehicle.appendTo(text.append(prefix)).append('\n');
+            flushIfFull();
+        }
+        return vehicles.length;
+    }
+
+    /**
+     * Encodes all buffered text and writes it to the channel. A trailing high
+     * surrogate stays buffered until its low surrogate is appended.
+     *
+     * @throws IOException if the channel write fails
+     */
+    @Override
+    public void flush() throws IOException {
+        int length = text.length();
+        int start = 0;
+        while (start < length) {
+            int end = Math.min(length, start + chunkSize);
+            if (end < length && Character.isHighSurrogate(text.charAt(end - 1))) {
+                end++;
+            }
+            text.getChars(start, end, chars, 0);
+            charBuffer.clear().limit(end - start);
+            encode(false);
+            start = end - charBuffer.remaining();
+            if (end == length) {
+                break;
+            }
+        }
+        text.delete(0, start);
+        drain();
+    }
+
+    /**
+     * Flushes buffered text and closes the underlying channel. A dangling high
+     * surrogate at the end of the report is written as the UTF-8 replacement
+     * byte {@code ?}.
+     *
+     * @throws IOException if flushing or closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            int length = text.length();
+            text.getChars(0, length, chars, 0);
+            charBuffer.clear().limit(length);
+            encode(true);
+            text.setLength(0);
+            while (encoder.flush(bytes).isOverflow()) {
+                drain();
+            }
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private FleetReportWriter flushIfFull() throws IOException {
+        if (text.length() >= chunkSize) {
+            flush();
+        }
+        return this;
+    }
+
+    private void encode(boolean endOfInput) throws IOException {
+        while (true) {
+            CoderResult result = encoder.encode(charBuffer, bytes, endOfInput);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (result.isUnderflow()) {
+                return;
+            }
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+}
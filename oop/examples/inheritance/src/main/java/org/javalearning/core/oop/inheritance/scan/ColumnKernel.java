@@ -0,0 +1,33 @@
+package org.javalearning.core.oop.inheritance.scan;
+
+/**
+ * The column loops a {@link ScanKernel} provides. Implementations are stateless
+ * and may be shared between threads.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+interface ColumnKernel {
+
+    /**
+     * Determines whether this kernel is worth using on the current hardware.
+     */
+    boolean isAccelerated();
+
+    /**
+     * Sets the bit of every matching row in words, which must be zeroed and hold
+     * at least one bit per row.
+     */
+    void select(ScanColumns columns, ScanPredicate predicate, long[] words);
+
+    /**
+     * Counts the matching rows.
+     */
+    int count(ScanColumns columns, ScanPredicate predicate);
+
+    /**
+     * Adds every matching row to aggregate.
+     */
+    void aggregate(ScanColumns columns, ScanPredicate predicate, ScanAggregate aggregate);
+}
@@ -0,0 +1,147 @@
+package org.javalearning.core.oop.inheritance.scan;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+
+/**
+ * Evaluates {@link ScanPredicate}s over the year, door and type columns of a
+ * {@link VehicleFleet} with tight column loops instead of per-object checks.
+ * <pre>
+ * FleetScanner scanner = new FleetScanner(fleet);
+ * ScanPredicate predicate = ScanPredicate.all().yearAtLeast(2020).doors(4);
+ * int matches = scanner.count(predicate);
+ * Selection rows = scanner.select(predicate);
+ * ScanAggregate stats = scanner.aggregate(predicate);
+ * </pre>
+ *
+ * <p><strong>Kernels:</strong>
+ * The loops run on a {@link ScanKernel}. The default constructor picks
+ * {@link ScanKernel#best()}, which uses SIMD instructions through
+ * {@code jdk.incubator.vector} when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, and plain scalar loops otherwise.
+ * Results never depend on the kernel.
+ *
+ * <p><strong>Snapshot Semantics:</strong>
+ * The scanner copies the three columns when it is built, at four bytes per
+ * column and row, so that every column has the same lane width. Rows appended
+ * to the fleet afterwards are not visible until a new scanner is built. Once
+ * built, the scanner is immutable and safe to use from any thread.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class FleetScanner {
+    private final ScanColumns columns;
+    private final ScanKernel kernel;
+    private final ColumnKernel implementation;
+
+    /**
+     * Builds a scanner over the current rows of a fleet, using the fastest
+     * available kernel.
+     *
+     * @param fleet the fleet to scan
+     * @throws IllegalArgumentException if fleet is null
+     */
+    public FleetScanner(VehicleFleet fleet) {
+        this(fleet, ScanKernel.best());
+    }
+
+    /**
+     * Builds a scanner over the current rows of a fleet, using a specific kernel.
+     *
+     * @param fleet the fleet to scan
+     * @param kernel the kernel running the column loops
+     * @throws IllegalArgumentException if fleet or kernel is null
+     * @throws UnsupportedOperationException if the kernel is not available on this JVM
+     */
+    public FleetScanner(VehicleFleet fleet, ScanKernel kernel) {
+        if (fleet == null) {
+            throw new IllegalArgumentException("Fleet cannot be null");
+        }
+        if (kernel == null) {
+            throw new IllegalArgumentException("Scan kernel cannot be null");
+        }
+        this.implementation = kernel.implementation();
+        this.kernel = kernel;
+        this.columns = new ScanColumns(fleet);
+    }
+
+    /**
+     * Retrieves the number of fleet rows covered by this scanner.
+     *
+     * @return the scanned row count
+     */
+    public int size() {
+        return columns.size;
+    }
+
+    /**
+     * Retrieves the kernel running this scanner's loops.
+     *
+     * @return the scan kernel
+     */
+    public ScanKernel getKernel() {
+        return kernel;
+    }
+
+    /**
+     * Finds the rows matching a predicate.
+     *
+     * @param predicate the conditions to evaluate
+     * @return a selection bitmap with one bit per row
+     * @throws IllegalArgumentException if predicate is null
+     */
+    public Selection select(ScanPredicate predicate) {
+        requirePredicate(predicate);
+        long[] words = new long[(columns.size + Long.SIZE - 1) / Long.SIZE];
+        if (!predicate.isEmpty()) {
+            implementation.select(columns, predicate, words);
+        }
+        return new Selection(words, columns.size);
+    }
+
+    /**
+     * Counts the rows matching a predicate without materializing them.
+     *
+     * @param predicate the conditions to evaluate
+     * @return the number of matching rows
+     * @throws IllegalArgumentException if predicate is null
+     */
+    public int count(ScanPredicate predicate) {
+        requirePredicate(predicate);
+        return predicate.isEmpty() ? 0 : implementation.count(columns, predicate);
+    }
+
+    /**
+     * Collects the indexes of the rows matching a predicate.
+     *
+     * @param predicate the conditions to evaluate
+     * @return the matching row indexes in ascending order
+     * @throws IllegalArgumentException if predicate is null
+     */
+    public int[] filter(ScanPredicate predicate) {
+        return select(predicate).toArray();
+    }
+
+    /**
+     * Aggregates the year and door columns over the rows matching a predicate.
+     *
+     * @param predicate the conditions to evaluate
+     * @return the count, year statistics and door total of the matching rows
+     * @throws IllegalArgumentException if predicate is null
+     */
+    public ScanAggregate aggregate(ScanPredicate predicate) {
+        requirePredicate(predicate);
+        ScanAggregate aggregate = new ScanAggregate();
+        if (!predicate.isEmpty()) {
+            implementation.aggregate(columns, predicate, aggregate);
+        }
+        return aggregate;
+    }
+
+    private static void requirePredicate(ScanPredicate predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.javalearning.core.oop.inheritance.scan;
+
+/**
+ * Column loops that evaluate one row per iteration. The predicate is tested
+ * without data-dependent branches where possible, so the loops run at the same
+ * speed whatever the selectivity.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class ScalarColumnKernel implements ColumnKernel {
+
+    @Override
+    public boolean isAccelerated() {
+        return false;
+    }
+
+    @Override
+    public void select(ScanColumns columns, ScanPredicate predicate, long[] words) {
+        int[] years = columns.years;
+        int[] doors = columns.doors;
+        int[] types = columns.types;
+        for (int row = 0; row < columns.size; row++) {
+            long match = predicate.test(years[row], doors[row], types[row]) ? 1L : 0L;
+            words[row >>> 6] |= match << row;
+        }
+    }
+
+    @Override
+    public int count(ScanColumns columns, ScanPredicate predicate) {
+        int[] years = columns.years;
+        int[] doors = columns.doors;
+        int[] types = columns.types;
+        int count = 0;
+        for (int row = 0; row < columns.size; row++) {
+            count += predicate.test(years[row], doors[row], types[row]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Override
+    public void aggregate(ScanColumns columns, ScanPredicate predicate, ScanAggregate aggregate) {
+        int[] years = columns.years;
+        int[] doors = columns.doors;
+        int[] types = columns.types;
+        for (int row = 0; row < columns.size; row++) {
+            if (predicate.test(years[row], doors[row], types[row])) {
+                aggregate.add(years[row], doors[row]);
+            }
+        }
+    }
+}
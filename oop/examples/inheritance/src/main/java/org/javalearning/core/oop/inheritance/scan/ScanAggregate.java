@@ -0,0 +1,101 @@
+package org.javalearning.core.oop.inheritance.scan;
+
+/**
+ * Aggregates over the rows matched by a {@link FleetScanner} scan: the row
+ * count, the year minimum, maximum and sum, and the door total.
+ *
+ * <p>Instances are mutable while a scan accumulates into them and should be
+ * treated as read-only once returned to the caller.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ScanAggregate {
+    long count;
+    long yearSum;
+    int minYear = Integer.MAX_VALUE;
+    int maxYear = Integer.MIN_VALUE;
+    long doorSum;
+
+    ScanAggregate() {
+    }
+
+    /**
+     * Retrieves the number of matching rows.
+     *
+     * @return the match count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Retrieves the smallest year among the matching rows.
+     *
+     * @return the minimum year
+     * @throws IllegalStateException if no row matched
+     */
+    public int getMinYear() {
+        requireMatches();
+        return minYear;
+    }
+
+    /**
+     * Retrieves the largest year among the matching rows.
+     *
+     * @return the maximum year
+     * @throws IllegalStateException if no row matched
+     */
+    public int getMaxYear() {
+        requireMatches();
+        return maxYear;
+    }
+
+    /**
+     * Retrieves the average year of the matching rows.
+     *
+     * @return the mean year, or zero if no row matched
+     */
+    public double getAverageYear() {
+        return count == 0 ? 0.0 : (double) yearSum / count;
+    }
+
+    /**
+     * Retrieves the sum of the door counts of the matching rows. Records that
+     * are not cars contribute zero doors.
+     *
+     * @return the door total
+     */
+    public long getDoorSum() {
+        return doorSum;
+    }
+
+    /**
+     * Returns a readable summary of the aggregates.
+     *
+     * @return the count, year range and door total
+     */
+    @Override
+    public String toString() {
+        if (count == 0) {
+            return "ScanAggregate{count=0}";
+        }
+        return "ScanAggregate{count=" + count + ", years=" + minYear + ".." + maxYear
+                + ", averageYear=" + getAverageYear() + ", doors=" + doorSum + "}";
+    }
+
+    void add(int year, int numDoors) {
+        count++;
+        yearSum += year;
+        minYear = Math.min(minYear, year);
+        maxYear = Math.max(maxYear, year);
+        doorSum += numDoors;
+    }
+
+    private void requireMatches() {
+        if (count == 0) {
+            throw new IllegalStateException("No rows matched");
+        }
+    }
+}
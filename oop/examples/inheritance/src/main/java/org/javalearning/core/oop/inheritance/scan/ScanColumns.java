@@ -0,0 +1,33 @@
+package org.javalearning.core.oop.inheritance.scan;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+
+/**
+ * Snapshot of the year, door and type columns of a {@link VehicleFleet}, widened
+ * to {@code int} so that all three columns line up lane for lane in the same
+ * vector shape. Immutable once built.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class ScanColumns {
+    final int size;
+    final int[] years;
+    final int[] doors;
+    final int[] types;
+    final int maxYear;
+
+    ScanColumns(VehicleFleet fleet) {
+        this.size = fleet.size();
+        this.years = new int[size];
+        this.doors = new int[size];
+        this.types = new int[size];
+        for (int row = 0; row < size; row++) {
+            years[row] = fleet.getYear(row);
+            doors[row] = fleet.getNumDoors(row);
+            types[row] = fleet.getType(row).getTag();
+        }
+        this.maxYear = size == 0 ? 0 : fleet.getMaxYear();
+    }
+}
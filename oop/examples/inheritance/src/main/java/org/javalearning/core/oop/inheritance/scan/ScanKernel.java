@@ -0,0 +1,69 @@
+package org.javalearning.core.oop.inheritance.scan;
+
+/**
+ * Implementations of the column loops behind {@link FleetScanner}.
+ *
+ * <p><strong>Kernels:</strong>
+ * <ul>
+ *   <li>{@link #SCALAR} - plain loops over the columns, one row per iteration;
+ *       available on every JVM</li>
+ *   <li>{@link #VECTOR} - SIMD loops over the columns using the incubating
+ *       {@code jdk.incubator.vector} module; available only when the JVM was
+ *       started with {@code --add-modules jdk.incubator.vector} and the
+ *       platform has vector registers the API can use</li>
+ * </ul>
+ * Both kernels produce identical results.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public enum ScanKernel {
+    SCALAR,
+    VECTOR;
+
+    private static final ColumnKernel SCALAR_KERNEL = new ScalarColumnKernel();
+    private static final ColumnKernel VECTOR_KERNEL = loadVectorKernel();
+
+    /**
+     * Determines whether this kernel can run on the current JVM.
+     *
+     * @return true if the kernel is available, false otherwise
+     */
+    public boolean isAvailable() {
+        return this == SCALAR || VECTOR_KERNEL != null;
+    }
+
+    /**
+     * Selects the fastest kernel available on the current JVM.
+     *
+     * @return {@link #VECTOR} if it is available, {@link #SCALAR} otherwise
+     */
+    public static ScanKernel best() {
+        return VECTOR.isAvailable() ? VECTOR : SCALAR;
+    }
+
+    ColumnKernel implementation() {
+        if (!isAvailable()) {
+            throw new UnsupportedOperationException("Scan kernel " + this
+                    + " needs --add-modules jdk.incubator.vector and vector hardware");
+        }
+        return this == VECTOR ? VECTOR_KERNEL : SCALAR_KERNEL;
+    }
+
+    // The vector kernel is loaded reflectively, so this class never links against
+    // jdk.incubator.vector on a JVM where the module is not in the boot layer.
+    private static ColumnKernel loadVectorKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            ColumnKernel kernel = (ColumnKernel) Class.forName(ScanKernel.class.getPackageName() + ".VectorColumnKernel")
+                    .getDeclaredConstructor()
+                    .newInstance();
+            return kernel.isAccelerated() ? kernel : null;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package org.javalearning.core.oop.inheritance.scan;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+/**
+ * An immutable conjunction of column conditions evaluated by {@link FleetScanner}:
+ * a year range, a door count range and a set of vehicle types.
+ *
+ * <p><strong>Usage:</strong>
+ * <pre>
+ * ScanPredicate recentFourDoorCars = ScanPredicate.all()
+ *         .yearAtLeast(2020)
+ *         .doors(4)
+ *         .types(VehicleType.CAR);
+ * </pre>
+ * Every method narrows the predicate, so calling one twice keeps only the rows
+ * that satisfy both conditions. Records that are not cars count as zero doors.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ScanPredicate {
+    private static final int ALL_TYPES = (1 << VehicleType.values().length) - 1;
+    private static final ScanPredicate ALL = new ScanPredicate(
+            Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, ALL_TYPES);
+
+    private final int minYear;
+    private final int maxYear;
+    private final int minDoors;
+    private final int maxDoors;
+    private final int typeMask;
+
+    private ScanPredicate(int minYear, int maxYear, int minDoors, int maxDoors, int typeMask) {
+        this.minYear = minYear;
+        this.maxYear = maxYear;
+        this.minDoors = minDoors;
+        this.maxDoors = maxDoors;
+        this.typeMask = typeMask;
+    }
+
+    /**
+     * Returns the predicate that matches every record.
+     *
+     * @return a predicate without conditions
+     */
+    public static ScanPredicate all() {
+        return ALL;
+    }
+
+    /**
+     * Restricts this predicate to records built in or after a year.
+     *
+     * @param year the smallest matching year
+     * @return the narrowed predicate; this predicate is unchanged
+     */
+    public ScanPredicate yearAtLeast(int year) {
+        return yearBetween(year, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Restricts this predicate to records built in or before a year.
+     *
+     * @param year the largest matching year
+     * @return the narrowed predicate; this predicate is unchanged
+     */
+    public ScanPredicate yearAtMost(int year) {
+        return yearBetween(Integer.MIN_VALUE, year);
+    }
+
+    /**
+     * Restricts this predicate to records built within a year range.
+     *
+     * @param fromYear the smallest matching year, inclusive
+     * @param toYear the largest matching year, inclusive
+     * @return the narrowed predicate; this predicate is unchanged
+     * @throws IllegalArgumentException if fromYear is greater than toYear
+     */
+    public ScanPredicate yearBetween(int fromYear, int toYear) {
+        requireRange(fromYear, toYear);
+        return new ScanPredicate(Math.max(minYear, fromYear), Math.min(maxYear, toYear),
+                minDoors, maxDoors, typeMask);
+    }
+
+    /**
+     * Restricts this predicate to records with an exact door count.
+     *
+     * @param numDoors the matching door count
+     * @return the narrowed predicate; this predicate is unchanged
+     */
+    public ScanPredicate doors(int numDoors) {
+        return doorsBetween(numDoors, numDoors);
+    }
+
+    /**
+     * Restricts this predicate to records whose door count lies within a range.
+     *
+     * @param fromDoors the smallest matching door count, inclusive
+     * @param toDoors the largest matching door count, inclusive
+     * @return the narrowed predicate; this predicate is unchanged
+     * @throws IllegalArgumentException if fromDoors is greater than toDoors
+     */
+    public ScanPredicate doorsBetween(int fromDoors, int toDoors) {
+        requireRange(fromDoors, toDoors);
+        return new ScanPredicate(minYear, maxYear,
+                Math.max(minDoors, fromDoors), Math.min(maxDoors, toDoors), typeMask);
+    }
+
+    /**
+     * Restricts this predicate to records of the given types.
+     *
+     * @param types the matching vehicle types
+     * @return the narrowed predicate; this predicate is unchanged
+     * @throws IllegalArgumentException if types is null, empty or contains null
+     */
+    public ScanPredicate types(VehicleType... types) {
+        if (types == null || types.length == 0) {
+            throw new IllegalArgumentException("Types cannot be null or empty");
+        }
+        int mask = 0;
+        for (VehicleType type : types) {
+            if (type == null) {
+                throw new IllegalArgumentException("Type cannot be null");
+            }
+            mask |= 1 << type.getTag();
+        }
+        return new ScanPredicate(minYear, maxYear, minDoors, maxDoors, typeMask & mask);
+    }
+
+    /**
+     * Evaluates this predicate for one record's column values.
+     *
+     * @param year the record's year
+     * @param numDoors the record's door count, zero if it is not a car
+     * @param typeTag the record's {@link VehicleType} tag
+     * @return true if the record matches, false otherwise
+     */
+    public boolean test(int year, int numDoors, int typeTag) {
+        return year >= minYear & year <= maxYear
+                & numDoors >= minDoors & numDoors <= maxDoors
+                & (typeMask >>> typeTag & 1) != 0;
+    }
+
+    /**
+     * Returns a readable form of this predicate, e.g.
+     * {@code year >= 2020 && doors == 4 && type in [CAR]}.
+     *
+     * @return the conditions of this predicate, or {@code true} if there are none
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        appendRange(text, "year", minYear, maxYear);
+        appendRange(text, "doors", minDoors, maxDoors);
+        if (typeMask != ALL_TYPES) {
+            separate(text).append("type in [");
+            String separator = "";
+            for (VehicleType type : VehicleType.values()) {
+                if (hasType(type.getTag())) {
+                    text.append(separator).append(type);
+                    separator = ", ";
+                }
+            }
+            text.append(']');
+        }
+        return text.length() == 0 ? "true" : text.toString();
+    }
+
+    /**
+     * Retrieves the smallest matching year.
+     *
+     * @return the lower year bound, {@link Integer#MIN_VALUE} if unbounded
+     */
+    public int getMinYear() {
+        return minYear;
+    }
+
+    /**
+     * Retrieves the largest matching year.
+     *
+     * @return the upper year bound, {@link Integer#MAX_VALUE} if unbounded
+     */
+    public int getMaxYear() {
+        return maxYear;
+    }
+
+    /**
+     * Retrieves the smallest matching door count.
+     *
+     * @return the lower door bound, {@link Integer#MIN_VALUE} if unbounded
+     */
+    public int getMinDoors() {
+        return minDoors;
+    }
+
+    /**
+     * Retrieves the largest matching door count.
+     *
+     * @return the upper door bound, {@link Integer#MAX_VALUE} if unbounded
+     */
+    public int getMaxDoors() {
+        return maxDoors;
+    }
+
+    /**
+     * Retrieves the matching vehicle types as a bit mask.
+     *
+     * @return a mask with bit {@code 1 << tag} set for every matching {@link VehicleType} tag
+     */
+    public int getTypeMask() {
+        return typeMask;
+    }
+
+    /**
+     * Determines whether this predicate rejects every record, because one of
+     * its ranges is inverted or no type is allowed.
+     *
+     * @return true if no record can match, false otherwise
+     */
+    public boolean isEmpty() {
+        return minYear > maxYear || minDoors > maxDoors || typeMask == 0;
+    }
+
+    private boolean hasType(int typeTag) {
+        return (typeMask >>> typeTag & 1) != 0;
+    }
+
+    private static void requireRange(int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("Range start " + from + " is greater than end " + to);
+        }
+    }
+
+    private static void appendRange(StringBuilder text, String name, int min, int max) {
+        if (min == max) {
+            separate(text).append(name).append(" == ").append(min);
+            return;
+        }
+        if (min != Integer.MIN_VALUE) {
+            separate(text).append(name).append(" >= ").append(min);
+        }
+        if (max != Integer.MAX_VALUE) {
+            separate(text).append(name).append(" <= ").append(max);
+        }
+    }
+
+    private static StringBuilder separate(StringBuilder text) {
+        return text.length() == 0 ? text : text.append(" && ");
+    }
+}
@@ -0,0 +1,169 @@
+package org.javalearning.core.oop.inheritance.scan;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable selection bitmap produced by a {@link FleetScanner} scan: one bit
+ * per scanned row, set if the row matched the predicate.
+ *
+ * <p>Unlike the compressed {@link org.javalearning.core.oop.inheritance.index.RowBitmap},
+ * a selection is a flat {@code long[]} covering every scanned row, because the
+ * scan writes one machine word per 64 rows as it goes. Selections over the same
+ * scanner combine with {@link #and(Selection)}, {@link #or(Selection)} and
+ * {@link #andNot(Selection)} word by word.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class Selection {
+    private final long[] words;
+    private final int size;
+    private final int cardinality;
+
+    Selection(long[] words, int size) {
+        this.words = words;
+        this.size = size;
+        int total = 0;
+        for (long word : words) {
+            total += Long.bitCount(word);
+        }
+        this.cardinality = total;
+    }
+
+    /**
+     * Retrieves the number of rows the scan covered.
+     *
+     * @return the scanned row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of selected rows.
+     *
+     * @return the count of matching rows
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Determines whether no row is selected.
+     *
+     * @return true if no row matched, false otherwise
+     */
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Determines whether a row is selected.
+     *
+     * @param row the fleet row index
+     * @return true if the row matched, false otherwise
+     * @throws IndexOutOfBoundsException if row is outside the scanned rows
+     */
+    public boolean contains(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for selection size " + size);
+        }
+        return (words[row >>> 6] & 1L << row) != 0;
+    }
+
+    /**
+     * Performs an action for every selected row, in ascending order.
+     *
+     * @param action the action to perform
+     * @throws IllegalArgumentException if action is null
+     */
+    public void forEach(IntConsumer action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                action.accept(w << 6 | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    /**
+     * Copies the selected rows into an array.
+     *
+     * @return the selected row indexes in ascending order
+     */
+    public int[] toArray() {
+        int[] rows = new int[cardinality];
+        int count = 0;
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                rows[count++] = w << 6 | Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Selects the rows present in both selections.
+     *
+     * @param other the selection to intersect with
+     * @return a new selection
+     * @throws IllegalArgumentException if other is null or covers a different number of rows
+     */
+    public Selection and(Selection other) {
+        long[] result = new long[words.length];
+        long[] otherWords = requireCompatible(other);
+        for (int w = 0; w < result.length; w++) {
+            result[w] = words[w] & otherWords[w];
+        }
+        return new Selection(result, size);
+    }
+
+    /**
+     * Selects the rows present in either selection.
+     *
+     * @param other the selection to unite with
+     * @return a new selection
+     * @throws IllegalArgumentException if other is null or covers a different number of rows
+     */
+    public Selection or(Selection other) {
+        long[] result = new long[words.length];
+        long[] otherWords = requireCompatible(other);
+        for (int w = 0; w < result.length; w++) {
+            result[w] = words[w] | otherWords[w];
+        }
+        return new Selection(result, size);
+    }
+
+    /**
+     * Selects the rows of this selection that are not in another one.
+     *
+     * @param other the selection to subtract
+     * @return a new selection
+     * @throws IllegalArgumentException if other is null or covers a different number of rows
+     */
+    public Selection andNot(Selection other) {
+        long[] result = new long[words.length];
+        long[] otherWords = requireCompatible(other);
+        for (int w = 0; w < result.length; w++) {
+            result[w] = words[w] & ~otherWords[w];
+        }
+        return new Selection(result, size);
+    }
+
+    private long[] requireCompatible(Selection other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Selection cannot be null");
+        }
+        if (other.size != size) {
+            throw new IllegalArgumentException("Selection covers " + other.size + " rows, expected " + size);
+        }
+        return other.words;
+    }
+}
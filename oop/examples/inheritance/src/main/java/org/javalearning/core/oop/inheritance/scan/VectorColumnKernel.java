@@ -0,0 +1,118 @@
+package org.javalearning.core.oop.inheritance.scan;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Column loops that evaluate a full vector of rows per iteration with the
+ * incubating Vector API. Each condition becomes a lane-wise compare, the
+ * compares are combined into one mask, and the mask is written, counted or used
+ * to blend the aggregates. Rows past the last full vector are handled one at a
+ * time.
+ *
+ * <p>This class references {@code jdk.incubator.vector} and is only ever loaded
+ * through {@link ScanKernel}, after the module has been found in the boot layer.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class VectorColumnKernel implements ColumnKernel {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int MIN_ACCELERATED_LANES = 4;
+
+    @Override
+    public boolean isAccelerated() {
+        return SPECIES.length() >= MIN_ACCELERATED_LANES;
+    }
+
+    @Override
+    public void select(ScanColumns columns, ScanPredicate predicate, long[] words) {
+        int bound = SPECIES.loopBound(columns.size);
+        int row = 0;
+        for (; row < bound; row += SPECIES.length()) {
+            long bits = match(columns, predicate, row).toLong();
+            words[row >>> 6] |= bits << row;
+        }
+        for (; row < columns.size; row++) {
+            long match = test(columns, predicate, row) ? 1L : 0L;
+            words[row >>> 6] |= match << row;
+        }
+    }
+
+    @Override
+    public int count(ScanColumns columns, ScanPredicate predicate) {
+        int bound = SPECIES.loopBound(columns.size);
+        int count = 0;
+        int row = 0;
+        for (; row < bound; row += SPECIES.length()) {
+            count += match(columns, predicate, row).trueCount();
+        }
+        for (; row < columns.size; row++) {
+            count += test(columns, predicate, row) ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Override
+    public void aggregate(ScanColumns columns, ScanPredicate predicate, ScanAggregate aggregate) {
+        int bound = SPECIES.loopBound(columns.size);
+        // Lane sums are kept in int vectors and flushed into the long totals
+        // before any lane could overflow.
+        int flushInterval = Math.max(1, Integer.MAX_VALUE / (Math.max(columns.maxYear, Byte.MAX_VALUE) + 1));
+        IntVector yearSums = IntVector.zero(SPECIES);
+        IntVector doorSums = IntVector.zero(SPECIES);
+        IntVector minYears = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        IntVector maxYears = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+        long count = 0;
+        int pending = 0;
+        int row = 0;
+        for (; row < bound; row += SPECIES.length()) {
+            VectorMask<Integer> match = match(columns, predicate, row);
+            IntVector years = IntVector.fromArray(SPECIES, columns.years, row);
+            IntVector doors = IntVector.fromArray(SPECIES, columns.doors, row);
+            count += match.trueCount();
+            yearSums = yearSums.add(years, match);
+            doorSums = doorSums.add(doors, match);
+            minYears = minYears.lanewise(VectorOperators.MIN, years, match);
+            maxYears = maxYears.lanewise(VectorOperators.MAX, years, match);
+            if (++pending == flushInterval) {
+                aggregate.yearSum += yearSums.reduceLanesToLong(VectorOperators.ADD);
+                aggregate.doorSum += doorSums.reduceLanesToLong(VectorOperators.ADD);
+                yearSums = IntVector.zero(SPECIES);
+                doorSums = IntVector.zero(SPECIES);
+                pending = 0;
+            }
+        }
+        aggregate.count += count;
+        aggregate.yearSum += yearSums.reduceLanesToLong(VectorOperators.ADD);
+        aggregate.doorSum += doorSums.reduceLanesToLong(VectorOperators.ADD);
+        aggregate.minYear = Math.min(aggregate.minYear, minYears.reduceLanes(VectorOperators.MIN));
+        aggregate.maxYear = Math.max(aggregate.maxYear, maxYears.reduceLanes(VectorOperators.MAX));
+        for (; row < columns.size; row++) {
+            if (test(columns, predicate, row)) {
+                aggregate.add(columns.years[row], columns.doors[row]);
+            }
+        }
+    }
+
+    private static VectorMask<Integer> match(ScanColumns columns, ScanPredicate predicate, int row) {
+        IntVector years = IntVector.fromArray(SPECIES, columns.years, row);
+        IntVector doors = IntVector.fromArray(SPECIES, columns.doors, row);
+        IntVector types = IntVector.fromArray(SPECIES, columns.types, row);
+        return years.compare(VectorOperators.GE, predicate.getMinYear())
+                .and(years.compare(VectorOperators.LE, predicate.getMaxYear()))
+                .and(doors.compare(VectorOperators.GE, predicate.getMinDoors()))
+                .and(doors.compare(VectorOperators.LE, predicate.getMaxDoors()))
+                .and(IntVector.broadcast(SPECIES, predicate.getTypeMask())
+                        .lanewise(VectorOperators.LSHR, types)
+                        .and(1)
+                        .compare(VectorOperators.NE, 0));
+    }
+
+    private static boolean test(ScanColumns columns, ScanPredicate predicate, int row) {
+        return predicate.test(columns.years[row], columns.doors[row], columns.types[row]);
+    }
+}
@@ -0,0 +1,75 @@
+package org.javalearning.core.oop.inheritance.shard;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.scan.ScanPredicate;
+import org.javalearning.core.oop.inheritance.sort.FleetSortOrder;
+
+import java.util.List;
+
+/**
+ * One partition of a {@link ShardedFleetStore}.
+ *
+ * <p>Every argument and result is a plain value (vehicles, predicates, sort
+ * orders, numbers) rather than a row index or a reference into the shard's
+ * storage, so a shard can live in another process. {@link LocalFleetShard}
+ * holds its vehicles in memory; {@link RemoteFleetShard} forwards every call
+ * through a {@link ShardTransport}.
+ *
+ * <p>Implementations must be thread-safe: the store calls a shard from several
+ * threads at once.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public interface FleetShard {
+
+    /**
+     * Stores vehicles in this shard.
+     *
+     * @param vehicles the vehicles to store
+     * @throws IllegalArgumentException if vehicles is null or a vehicle cannot be stored
+     * @throws java.io.UncheckedIOException if a remote shard cannot be reached
+     */
+    void addAll(List<? extends Vehicle> vehicles);
+
+    /**
+     * Retrieves the number of vehicles in this shard.
+     *
+     * @return the shard size
+     * @throws java.io.UncheckedIOException if a remote shard cannot be reached
+     */
+    int size();
+
+    /**
+     * Counts the vehicles matching a predicate.
+     *
+     * @param predicate the conditions to evaluate
+     * @return the number of matching vehicles
+     * @throws IllegalArgumentException if predicate is null
+     * @throws java.io.UncheckedIOException if a remote shard cannot be reached
+     */
+    long count(ScanPredicate predicate);
+
+    /**
+     * Collects the vehicles matching a predicate, in insertion order.
+     *
+     * @param predicate the conditions to evaluate
+     * @return the matching vehicles
+     * @throws IllegalArgumentException if predicate is null
+     * @throws java.io.UncheckedIOException if a remote shard cannot be reached
+     */
+    List<Vehicle> filter(ScanPredicate predicate);
+
+    /**
+     * Selects the first k vehicles matching a predicate in sort order.
+     *
+     * @param predicate the conditions to evaluate
+     * @param order the sort order
+     * @param k the maximum number of vehicles to return
+     * @return up to k matching vehicles in sorted order
+     * @throws IllegalArgumentException if predicate or order is null, or k is negative
+     * @throws java.io.UncheckedIOException if a remote shard cannot be reached
+     */
+    List<Vehicle> topK(ScanPredicate predicate, FleetSortOrder order, int k);
+}
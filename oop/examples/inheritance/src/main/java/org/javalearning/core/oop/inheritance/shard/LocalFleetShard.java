@@ -0,0 +1,128 @@
+package org.javalearning.core.oop.inheritance.shard;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.javalearning.core.oop.inheritance.scan.FleetScanner;
+import org.javalearning.core.oop.inheritance.scan.ScanPredicate;
+import org.javalearning.core.oop.inheritance.sort.FleetSortOrder;
+import org.javalearning.core.oop.inheritance.sort.FleetSorter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A {@link FleetShard} holding its vehicles in a columnar {@link VehicleFleet}
+ * of its own, with its own brand registry and lock, so shards never contend
+ * with each other.
+ *
+ * <p>Queries run on a {@link FleetScanner} that is built on the first query
+ * after a write and reused until the next write, so a burst of queries pays
+ * for one column snapshot. Writers take an exclusive lock; queries share a
+ * read lock and run concurrently.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class LocalFleetShard implements FleetShard {
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final VehicleFleet fleet = new VehicleFleet();
+    private final FleetSorter sorter = new FleetSorter();
+    private volatile FleetScanner scanner;
+
+    @Override
+    public void addAll(List<? extends Vehicle> vehicles) {
+        if (vehicles == null) {
+            throw new IllegalArgumentException("Vehicles cannot be null");
+        }
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            for (Vehicle vehicle : vehicles) {
+                fleet.add(vehicle);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return fleet.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public long count(ScanPredicate predicate) {
+        requirePredicate(predicate);
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return scanner().count(predicate);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Vehicle> filter(ScanPredicate predicate) {
+        requirePredicate(predicate);
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return materialize(scanner().filter(predicate));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Vehicle> topK(ScanPredicate predicate, FleetSortOrder order, int k) {
+        requirePredicate(predicate);
+        if (order == null) {
+            throw new IllegalArgumentException("Sort order cannot be null");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative");
+        }
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return materialize(sorter.topK(fleet, scanner().filter(predicate), order, k));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    // Called under the read lock, so the fleet cannot change; concurrent readers
+    // may both rebuild a stale scanner, which is wasteful but harmless.
+    private FleetScanner scanner() {
+        FleetScanner current = scanner;
+        if (current == null || current.size() != fleet.size()) {
+            current = new FleetScanner(fleet);
+            scanner = current;
+        }
+        return current;
+    }
+
+    private List<Vehicle> materialize(int[] rows) {
+        List<Vehicle> vehicles = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            vehicles.add(fleet.get(row));
+        }
+        return vehicles;
+    }
+
+    private static void requirePredicate(ScanPredicate predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null");
+        }
+    }
+}
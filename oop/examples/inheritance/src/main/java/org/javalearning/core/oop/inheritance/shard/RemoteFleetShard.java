@@ -0,0 +1,146 @@
+package org.javalearning.core.oop.inheritance.shard;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.scan.ScanPredicate;
+import org.javalearning.core.oop.inheritance.sort.FleetSortOrder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link FleetShard} served by a {@link ShardServer} on the other end of a
+ * {@link ShardTransport}, typically in another process.
+ *
+ * <p>Every call is one request and one response. Arguments are validated
+ * before anything is sent, and predicates that cannot match are answered
+ * without a round trip. Failures are reported as follows:
+ * <ul>
+ *   <li>the transport fails: {@link UncheckedIOException}</li>
+ *   <li>the shard rejects an argument: {@link IllegalArgumentException} with the shard's message</li>
+ *   <li>the shard fails otherwise: {@link IllegalStateException} with the shard's message</li>
+ * </ul>
+ *
+ * <p>This class is thread-safe if its transport is.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class RemoteFleetShard implements FleetShard {
+    private final ShardTransport transport;
+
+    /**
+     * Constructs a client for a remote shard.
+     *
+     * @param transport the connection to the shard's server
+     * @throws IllegalArgumentException if transport is null
+     */
+    public RemoteFleetShard(ShardTransport transport) {
+        if (transport == null) {
+            throw new IllegalArgumentException("Transport cannot be null");
+        }
+        this.transport = transport;
+    }
+
+    @Override
+    public void addAll(List<? extends Vehicle> vehicles) {
+        if (vehicles == null) {
+            throw new IllegalArgumentException("Vehicles cannot be null");
+        }
+        call(ShardCodec.ADD_ALL, out -> ShardCodec.writeVehicles(out, vehicles), in -> null);
+    }
+
+    @Override
+    public int size() {
+        return call(ShardCodec.SIZE, out -> { }, DataInputStream::readInt);
+    }
+
+    @Override
+    public long count(ScanPredicate predicate) {
+        requirePredicate(predicate);
+        if (predicate.isEmpty()) {
+            return 0;
+        }
+        return call(ShardCodec.COUNT, out -> ShardCodec.writePredicate(out, predicate), DataInputStream::readLong);
+    }
+
+    @Override
+    public List<Vehicle> filter(ScanPredicate predicate) {
+        requirePredicate(predicate);
+        if (predicate.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return call(ShardCodec.FILTER, out -> ShardCodec.writePredicate(out, predicate), ShardCodec::readVehicles);
+    }
+
+    @Override
+    public List<Vehicle> topK(ScanPredicate predicate, FleetSortOrder order, int k) {
+        requirePredicate(predicate);
+        if (order == null) {
+            throw new IllegalArgumentException("Sort order cannot be null");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative");
+        }
+        if (predicate.isEmpty() || k == 0) {
+            return new ArrayList<>();
+        }
+        return call(ShardCodec.TOP_K, out -> {
+            ShardCodec.writePredicate(out, predicate);
+            ShardCodec.writeOrder(out, order);
+            out.writeInt(k);
+        }, ShardCodec::readVehicles);
+    }
+
+    private <R> R call(byte operation, Arguments arguments, Result<R> result) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = ShardCodec.output(bytes);
+            out.writeByte(operation);
+            arguments.writeTo(out);
+            out.flush();
+            DataInputStream in = ShardCodec.input(transport.exchange(ByteBuffer.wrap(bytes.toByteArray())));
+            byte status = in.readByte();
+            switch (status) {
+                case ShardCodec.OK:
+                    return result.readFrom(in);
+                case ShardCodec.ILLEGAL_ARGUMENT:
+                    throw new IllegalArgumentException(in.readUTF());
+                case ShardCodec.FAILED:
+                    throw new IllegalStateException("Shard failed: " + in.readUTF());
+                default:
+                    throw new IOException("Unknown response status " + status);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void requirePredicate(ScanPredicate predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null");
+        }
+    }
+
+    /**
+     * Writes the arguments of a request after its operation byte.
+     */
+    @FunctionalInterface
+    private interface Arguments {
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads the result that follows the status byte of a successful response.
+     */
+    @FunctionalInterface
+    private interface Result<R> {
+        R readFrom(DataInputStream in) throws IOException;
+    }
+}
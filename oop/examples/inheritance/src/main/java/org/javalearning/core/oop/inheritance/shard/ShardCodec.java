@@ -0,0 +1,171 @@
+package org.javalearning.core.oop.inheritance.shard;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.scan.ScanPredicate;
+import org.javalearning.core.oop.inheritance.sort.FleetSortOrder;
+import org.javalearning.core.oop.inheritance.sort.SortField;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary encoding of the {@link FleetShard} calls exchanged by
+ * {@link RemoteFleetShard} and {@link ShardServer} (big-endian).
+ *
+ * <p><strong>Request:</strong> byte operation, then its arguments:
+ * <pre>
+ * ADD_ALL  vehicles
+ * SIZE     -
+ * COUNT    predicate
+ * FILTER   predicate
+ * TOP_K    predicate, order, int k
+ * </pre>
+ * Empty predicates (see {@link ScanPredicate#isEmpty()}) are never sent.
+ *
+ * <p><strong>Response:</strong> byte status; {@code OK} is followed by the
+ * result (nothing, int size, long count or vehicles), the failure statuses by
+ * the exception message as modified UTF-8.
+ * <pre>
+ * vehicles   int n, then per vehicle: byte type tag, UTF brand, int year,
+ *            int doors for a car or 1/0 for a motorcycle's sidecar, 0 otherwise
+ * predicate  int minYear, int maxYear, int minDoors, int maxDoors, int type mask
+ * order      byte levels, then per level: byte {@link SortField} ordinal, boolean descending
+ * </pre>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class ShardCodec {
+    static final byte ADD_ALL = 1;
+    static final byte SIZE = 2;
+    static final byte COUNT = 3;
+    static final byte FILTER = 4;
+    static final byte TOP_K = 5;
+
+    static final byte OK = 0;
+    static final byte ILLEGAL_ARGUMENT = 1;
+    static final byte FAILED = 2;
+
+    private ShardCodec() {
+    }
+
+    static DataOutputStream output(ByteArrayOutputStream bytes) {
+        return new DataOutputStream(bytes);
+    }
+
+    static DataInputStream input(ByteBuffer buffer) {
+        return new DataInputStream(new ByteArrayInputStream(
+                buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining()));
+    }
+
+    static void writeVehicles(DataOutputStream out, List<? extends Vehicle> vehicles) throws IOException {
+        out.writeInt(vehicles.size());
+        for (Vehicle vehicle : vehicles) {
+            if (vehicle == null) {
+                throw new IllegalArgumentException("Vehicle cannot be null");
+            }
+            VehicleType type = VehicleType.of(vehicle);
+            out.writeByte(type.getTag());
+            out.writeUTF(vehicle.getBrand());
+            out.writeInt(vehicle.getYear());
+            if (vehicle instanceof Car car) {
+                out.writeInt(car.getNumDoors());
+            } else if (vehicle instanceof Motorcycle motorcycle) {
+                out.writeInt(motorcycle.getHasSideCar() ? 1 : 0);
+            } else {
+                out.writeInt(0);
+            }
+        }
+    }
+
+    static List<Vehicle> readVehicles(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Negative vehicle count " + count);
+        }
+        List<Vehicle> vehicles = new ArrayList<>(Math.min(count, 1 << 16));
+        for (int i = 0; i < count; i++) {
+            VehicleType type = VehicleType.fromTag(in.readByte());
+            String brand = in.readUTF();
+            int year = in.readInt();
+            // The sender counted these vehicles when it created them
+            vehicles.add(Vehicle.restore(type, brand, year, in.readInt()));
+        }
+        return vehicles;
+    }
+
+    static void writePredicate(DataOutputStream out, ScanPredicate predicate) throws IOException {
+        out.writeInt(predicate.getMinYear());
+        out.writeInt(predicate.getMaxYear());
+        out.writeInt(predicate.getMinDoors());
+        out.writeInt(predicate.getMaxDoors());
+        out.writeInt(predicate.getTypeMask());
+    }
+
+    static ScanPredicate readPredicate(DataInputStream in) throws IOException {
+        int minYear = in.readInt();
+        int maxYear = in.readInt();
+        int minDoors = in.readInt();
+        int maxDoors = in.readInt();
+        int typeMask = in.readInt();
+        List<VehicleType> types = new ArrayList<>();
+        for (VehicleType type : VehicleType.values()) {
+            if ((typeMask >>> type.getTag() & 1) != 0) {
+                types.add(type);
+            }
+        }
+        if (minYear > maxYear || minDoors > maxDoors || types.isEmpty()) {
+            // The client answers empty predicates itself, they have no public constructor
+            throw new IOException("Empty predicate");
+        }
+        return ScanPredicate.all()
+                .yearBetween(minYear, maxYear)
+                .doorsBetween(minDoors, maxDoors)
+                .types(types.toArray(new VehicleType[0]));
+    }
+
+    static void writeOrder(DataOutputStream out, FleetSortOrder order) throws IOException {
+        out.writeByte(order.size());
+        for (int level = 0; level < order.size(); level++) {
+            out.writeByte(order.getField(level).ordinal());
+            out.writeBoolean(order.isDescending(level));
+        }
+    }
+
+    static FleetSortOrder readOrder(DataInputStream in) throws IOException {
+        int levels = in.readUnsignedByte();
+        if (levels == 0) {
+            throw new IOException("Sort order without levels");
+        }
+        FleetSortOrder order = null;
+        for (int level = 0; level < levels; level++) {
+            int ordinal = in.readUnsignedByte();
+            if (ordinal >= SortField.values().length) {
+                throw new IOException("Unknown sort field " + ordinal);
+            }
+            SortField field = SortField.values()[ordinal];
+            boolean descending = in.readBoolean();
+            if (order == null) {
+                order = descending ? FleetSortOrder.byDescending(field) : FleetSortOrder.by(field);
+            } else {
+                order = descending ? order.thenDescending(field) : order.then(field);
+            }
+        }
+        return order;
+    }
+
+    static String messageOf(Throwable error) {
+        String message = error.getMessage();
+        return message == null ? error.getClass().getName() : message;
+    }
+}
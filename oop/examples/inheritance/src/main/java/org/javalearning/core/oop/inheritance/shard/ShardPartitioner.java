@@ -0,0 +1,136 @@
+package org.javalearning.core.oop.inheritance.shard;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.scan.ScanPredicate;
+
+import java.util.Arrays;
+
+/**
+ * Decides which shard of a {@link ShardedFleetStore} stores a vehicle.
+ *
+ * <p><strong>Strategies:</strong>
+ * <ul>
+ *   <li>{@link #byBrandHash(int)} spreads brands evenly over the shards. Every
+ *       vehicle of a brand lands in the same shard, so a fleet dominated by a
+ *       few brands is spread unevenly</li>
+ *   <li>{@link #byYearRange(int...)} gives each shard a range of manufacturing
+ *       years. Queries restricted to a year range skip the shards outside it</li>
+ * </ul>
+ *
+ * <p>Partitioners are immutable and deterministic across JVMs, so vehicles
+ * stored by one process are found by another using the same partitioner.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public abstract class ShardPartitioner {
+    private final int shardCount;
+
+    /**
+     * Constructs a partitioner over a fixed number of shards.
+     *
+     * @param shardCount the number of shards
+     * @throws IllegalArgumentException if shardCount is not positive
+     */
+    protected ShardPartitioner(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Creates a partitioner that assigns vehicles by a hash of their brand.
+     *
+     * @param shardCount the number of shards
+     * @return the partitioner
+     * @throws IllegalArgumentException if shardCount is not positive
+     */
+    public static ShardPartitioner byBrandHash(int shardCount) {
+        return new ShardPartitioner(shardCount) {
+            @Override
+            public int shardOf(Vehicle vehicle) {
+                // String.hashCode is specified, so every JVM picks the same shard
+                int hash = vehicle.getBrand().hashCode();
+                return Math.floorMod(hash ^ hash >>> 16, shardCount);
+            }
+
+            @Override
+            public String toString() {
+                return "brand hash over " + shardCount + " shards";
+            }
+        };
+    }
+
+    /**
+     * Creates a partitioner that assigns vehicles by manufacturing year. With
+     * boundaries {@code 2000, 2015}, shard 0 holds years before 2000, shard 1
+     * years 2000 to 2014 and shard 2 years from 2015 on.
+     *
+     * @param boundaries the first year of every shard but the first, ascending
+     * @return the partitioner, with one shard more than there are boundaries
+     * @throws IllegalArgumentException if boundaries is null or not strictly ascending
+     */
+    public static ShardPartitioner byYearRange(int... boundaries) {
+        if (boundaries == null) {
+            throw new IllegalArgumentException("Boundaries cannot be null");
+        }
+        int[] firstYears = boundaries.clone();
+        for (int i = 1; i < firstYears.length; i++) {
+            if (firstYears[i] <= firstYears[i - 1]) {
+                throw new IllegalArgumentException("Boundaries must be strictly ascending");
+            }
+        }
+        return new ShardPartitioner(firstYears.length + 1) {
+            @Override
+            public int shardOf(Vehicle vehicle) {
+                return shardOfYear(vehicle.getYear());
+            }
+
+            @Override
+            public boolean mayMatch(int shard, ScanPredicate predicate) {
+                return shard >= shardOfYear(predicate.getMinYear()) && shard <= shardOfYear(predicate.getMaxYear());
+            }
+
+            @Override
+            public String toString() {
+                return "year ranges split at " + Arrays.toString(firstYears);
+            }
+
+            private int shardOfYear(int year) {
+                int index = Arrays.binarySearch(firstYears, year);
+                return index >= 0 ? index + 1 : -index - 1;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the number of shards this partitioner assigns vehicles to.
+     *
+     * @return the shard count
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Determines the shard that stores a vehicle.
+     *
+     * @param vehicle the vehicle to place
+     * @return the shard index, from zero to {@link #getShardCount()} - 1
+     */
+    public abstract int shardOf(Vehicle vehicle);
+
+    /**
+     * Determines whether a shard can hold vehicles matching a predicate. Shards
+     * for which this returns false are skipped by queries.
+     *
+     * @param shard the shard index
+     * @param predicate the query conditions
+     * @return false if no vehicle in the shard can match, true otherwise
+     */
+    public boolean mayMatch(int shard, ScanPredicate predicate) {
+        return true;
+    }
+}
@@ -0,0 +1,110 @@
+package org.javalearning.core.oop.inheritance.shard;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.scan.ScanPredicate;
+import org.javalearning.core.oop.inheritance.sort.FleetSortOrder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * The serving side of a {@link RemoteFleetShard}: decodes requests, runs them
+ * on a shard and encodes the results.
+ *
+ * <p>The server never throws for a bad request. Malformed requests and
+ * exceptions thrown by the shard are encoded as failure responses, which the
+ * client rethrows, so one faulty call cannot take down the process hosting
+ * the shard.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>
+ * ShardServer server = new ShardServer(new LocalFleetShard());
+ * FleetShard shard = new RemoteFleetShard(ShardTransport.loopback(server));
+ * </pre>
+ *
+ * <p>This class is thread-safe if its shard is.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class ShardServer {
+    private final FleetShard shard;
+
+    /**
+     * Constructs a server for a shard.
+     *
+     * @param shard the shard answering the requests
+     * @throws IllegalArgumentException if shard is null
+     */
+    public ShardServer(FleetShard shard) {
+        if (shard == null) {
+            throw new IllegalArgumentException("Shard cannot be null");
+        }
+        this.shard = shard;
+    }
+
+    /**
+     * Handles one encoded request.
+     *
+     * @param request the encoded request, positioned at its first byte
+     * @return the encoded response, positioned at its first byte
+     */
+    public ByteBuffer handle(ByteBuffer request) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = ShardCodec.output(bytes);
+        try {
+            try {
+                DataInputStream in = ShardCodec.input(request);
+                byte operation = in.readByte();
+                ByteArrayOutputStream result = new ByteArrayOutputStream();
+                execute(operation, in, ShardCodec.output(result));
+                out.writeByte(ShardCodec.OK);
+                result.writeTo(out);
+            } catch (IllegalArgumentException e) {
+                bytes.reset();
+                out.writeByte(ShardCodec.ILLEGAL_ARGUMENT);
+                out.writeUTF(ShardCodec.messageOf(e));
+            } catch (IOException | RuntimeException e) {
+                bytes.reset();
+                out.writeByte(ShardCodec.FAILED);
+                out.writeUTF(ShardCodec.messageOf(e));
+            }
+            out.flush();
+        } catch (IOException e) {
+            // Writing to a ByteArrayOutputStream cannot fail
+            throw new IllegalStateException(e);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    private void execute(byte operation, DataInputStream in, DataOutputStream out) throws IOException {
+        switch (operation) {
+            case ShardCodec.ADD_ALL:
+                shard.addAll(ShardCodec.readVehicles(in));
+                break;
+            case ShardCodec.SIZE:
+                out.writeInt(shard.size());
+                break;
+            case ShardCodec.COUNT:
+                out.writeLong(shard.count(ShardCodec.readPredicate(in)));
+                break;
+            case ShardCodec.FILTER:
+                ShardCodec.writeVehicles(out, shard.filter(ShardCodec.readPredicate(in)));
+                break;
+            case ShardCodec.TOP_K:
+                ScanPredicate predicate = ShardCodec.readPredicate(in);
+                FleetSortOrder order = ShardCodec.readOrder(in);
+                List<Vehicle> top = shard.topK(predicate, order, in.readInt());
+                ShardCodec.writeVehicles(out, top);
+                break;
+            default:
+                throw new IOException("Unknown operation " + operation);
+        }
+        out.flush();
+    }
+}
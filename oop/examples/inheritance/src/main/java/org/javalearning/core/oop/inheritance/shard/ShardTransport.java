@@ -0,0 +1,54 @@
+package org.javalearning.core.oop.inheritance.shard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Carries encoded requests from a {@link RemoteFleetShard} to a
+ * {@link ShardServer} and their responses back.
+ *
+ * <p>A transport only moves bytes: a socket, a pipe or a message queue can
+ * implement it without knowing anything about vehicles. {@link #loopback(ShardServer)}
+ * stands in for a real connection within one JVM; it copies every message, so
+ * client and server share no state, exactly as they would across processes.
+ *
+ * <p>Implementations must be thread-safe: a shard is queried from several
+ * threads at once.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ShardTransport {
+
+    /**
+     * Sends a request and waits for its response.
+     *
+     * @param request the encoded request, positioned at its first byte
+     * @return the encoded response, positioned at its first byte
+     * @throws IOException if the request cannot be delivered or the response
+     *         cannot be received
+     */
+    ByteBuffer exchange(ByteBuffer request) throws IOException;
+
+    /**
+     * Creates an in-memory transport to a server in the same JVM.
+     *
+     * @param server the server handling the requests
+     * @return the transport
+     * @throws IllegalArgumentException if server is null
+     */
+    static ShardTransport loopback(ShardServer server) {
+        if (server == null) {
+            throw new IllegalArgumentException("Server cannot be null");
+        }
+        return request -> copy(server.handle(copy(request)));
+    }
+
+    private static ByteBuffer copy(ByteBuffer message) {
+        ByteBuffer copy = ByteBuffer.allocate(message.remaining());
+        copy.put(message.duplicate()).flip();
+        return copy;
+    }
+}
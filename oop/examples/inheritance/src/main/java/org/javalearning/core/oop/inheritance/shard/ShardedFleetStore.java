@@ -0,0 +1,356 @@
+package org.javalearning.core.oop.inheritance.shard;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.metrics.BulkOperationEvent;
+import org.javalearning.core.oop.inheritance.scan.ScanPredicate;
+import org.javalearning.core.oop.inheritance.sort.FleetSortOrder;
+import org.javalearning.core.oop.inheritance.sort.FleetSorter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * A fleet partitioned across independent {@link FleetShard}s, so that no single
+ * lock or array limits how far it scales.
+ *
+ * <p><strong>Writes</strong> are routed by a {@link ShardPartitioner}: each
+ * vehicle goes to exactly one shard. {@link #addAll(Collection)} groups a batch
+ * by shard and sends every group in one call.
+ *
+ * <p><strong>Queries</strong> are scattered to all shards in parallel and their
+ * results gathered:
+ * <ul>
+ *   <li>{@link #count(ScanPredicate)} sums the shard counts</li>
+ *   <li>{@link #filter(ScanPredicate)} concatenates the shard results in shard order</li>
+ *   <li>{@link #topK(ScanPredicate, FleetSortOrder, int)} asks every shard for
+ *       its own top k and sorts those candidates again, since the global top k
+ *       is contained in the union of the per-shard top k</li>
+ * </ul>
+ * Shards that the partitioner rules out for a predicate are not asked at all.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>
+ * try (ShardedFleetStore store = new ShardedFleetStore(ShardPartitioner.byBrandHash(8))) {
+ *     store.addAll(vehicles);
+ *     long recent = store.count(ScanPredicate.all().yearAtLeast(2020));
+ *     List&lt;Vehicle&gt; newest = store.topK(ScanPredicate.all(), FleetSortOrder.byDescending(SortField.YEAR), 10);
+ * }
+ * </pre>
+ *
+ * <p>Closing the store shuts down the executor it created itself; shards and
+ * an executor passed in by the caller stay open.
+ *
+ * <p>This class is thread-safe if its shards are. A query running concurrently
+ * with writes sees each shard at some point during the query, not one global instant.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class ShardedFleetStore implements AutoCloseable {
+    private final ShardPartitioner partitioner;
+    private final FleetShard[] shards;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final FleetSorter sorter = new FleetSorter();
+    private volatile boolean closed;
+
+    /**
+     * Constructs a store with one {@link LocalFleetShard} per partition that
+     * queries its shards on virtual threads. The store owns that executor and
+     * shuts it down on {@link #close()}.
+     *
+     * @param partitioner the strategy assigning vehicles to shards
+     * @throws IllegalArgumentException if partitioner is null
+     */
+    public ShardedFleetStore(ShardPartitioner partitioner) {
+        this(partitioner, localShards(partitioner), Executors.newVirtualThreadPerTaskExecutor(), true);
+    }
+
+    /**
+     * Constructs a store over existing shards, local or remote.
+     *
+     * @param partitioner the strategy assigning vehicles to shards
+     * @param shards one shard per partition, in partition order
+     * @param executor the executor running the per-shard calls of a query; the
+     *        caller keeps ownership and shuts it down
+     * @throws IllegalArgumentException if any argument or shard is null, or the
+     *         number of shards does not match the partitioner
+     */
+    public ShardedFleetStore(ShardPartitioner partitioner, List<? extends FleetShard> shards, Executor executor) {
+        this(partitioner, shards, executor, false);
+    }
+
+    private ShardedFleetStore(ShardPartitioner partitioner, List<? extends FleetShard> shards, Executor executor,
+                              boolean ownsExecutor) {
+        if (partitioner == null) {
+            throw new IllegalArgumentException("Partitioner cannot be null");
+        }
+        if (shards == null) {
+            throw new IllegalArgumentException("Shards cannot be null");
+        }
+        for (FleetShard shard : shards) {
+            if (shard == null) {
+                throw new IllegalArgumentException("Shard cannot be null");
+            }
+        }
+        if (shards.size() != partitioner.getShardCount()) {
+            throw new IllegalArgumentException("Partitioner expects " + partitioner.getShardCount()
+                    + " shards, got " + shards.size());
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.partitioner = partitioner;
+        this.shards = shards.toArray(new FleetShard[0]);
+        this.executor = executor;
+        this.ownedExecutor = ownsExecutor ? (ExecutorService) executor : null;
+    }
+
+    /**
+     * Stores a vehicle in its shard.
+     *
+     * @param vehicle the vehicle to store
+     * @throws IllegalArgumentException if vehicle is null or cannot be stored
+     * @throws IllegalStateException if the store is closed
+     */
+    public void add(Vehicle vehicle) {
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null");
+        }
+        requireOpen();
+        shards[partitioner.shardOf(vehicle)].addAll(List.of(vehicle));
+    }
+
+    /**
+     * Stores vehicles in their shards, writing to all shards in parallel.
+     *
+     * @param vehicles the vehicles to store
+     * @throws IllegalArgumentException if vehicles or any vehicle is null, or a
+     *         vehicle cannot be stored; the other shards' groups may be stored
+     * @throws IllegalStateException if the store is closed
+     */
+    public void addAll(Collection<? extends Vehicle> vehicles) {
+        if (vehicles == null) {
+            throw new IllegalArgumentException("Vehicles cannot be null");
+        }
+        List<List<Vehicle>> groups = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            groups.add(new ArrayList<>());
+        }
+        for (Vehicle vehicle : vehicles) {
+            if (vehicle == null) {
+                throw new IllegalArgumentException("Vehicle cannot be null");
+            }
+            groups.get(partitioner.shardOf(vehicle)).add(vehicle);
+        }
+        BulkOperationEvent event = BulkOperationEvent.start("shard-add");
+        gather(scatter(null, shard -> {
+            List<Vehicle> group = groups.get(shard);
+            if (!group.isEmpty()) {
+                shards[shard].addAll(group);
+            }
+            return null;
+        }));
+        event.complete(vehicles.size(), 0);
+    }
+
+    /**
+     * Retrieves the total number of stored vehicles.
+     *
+     * @return the sum of the shard sizes
+     * @throws IllegalStateException if the store is closed
+     */
+    public long size() {
+        long size = 0;
+        for (Integer shardSize : gather(scatter(null, shard -> shards[shard].size()))) {
+            size += shardSize;
+        }
+        return size;
+    }
+
+    /**
+     * Counts the vehicles matching a predicate across all shards.
+     *
+     * @param predicate the conditions to evaluate
+     * @return the number of matching vehicles
+     * @throws IllegalArgumentException if predicate is null
+     * @throws IllegalStateException if the store is closed
+     */
+    public long count(ScanPredicate predicate) {
+        requirePredicate(predicate);
+        BulkOperationEvent event = BulkOperationEvent.start("shard-count");
+        long count = 0;
+        for (Long shardCount : gather(scatter(predicate, shard -> shards[shard].count(predicate)))) {
+            count += shardCount;
+        }
+        event.complete(count, 0);
+        return count;
+    }
+
+    /**
+     * Collects the vehicles matching a predicate across all shards.
+     *
+     * @param predicate the conditions to evaluate
+     * @return the matching vehicles, grouped by shard in shard order
+     * @throws IllegalArgumentException if predicate is null
+     * @throws IllegalStateException if the store is closed
+     */
+    public List<Vehicle> filter(ScanPredicate predicate) {
+        requirePredicate(predicate);
+        BulkOperationEvent event = BulkOperationEvent.start("shard-filter");
+        List<List<Vehicle>> parts = gather(scatter(predicate, shard -> shards[shard].filter(predicate)));
+        int total = 0;
+        for (List<Vehicle> part : parts) {
+            total += part.size();
+        }
+        List<Vehicle> matches = new ArrayList<>(total);
+        for (List<Vehicle> part : parts) {
+            matches.addAll(part);
+        }
+        event.complete(total, 0);
+        return matches;
+    }
+
+    /**
+     * Selects the first k vehicles matching a predicate in sort order across
+     * all shards.
+     *
+     * @param predicate the conditions to evaluate
+     * @param order the sort order
+     * @param k the maximum number of vehicles to return
+     * @return up to k matching vehicles in sorted order; ties are broken by shard order
+     * @throws IllegalArgumentException if predicate or order is null, or k is negative
+     * @throws IllegalStateException if the store is closed
+     */
+    public List<Vehicle> topK(ScanPredicate predicate, FleetSortOrder order, int k) {
+        requirePredicate(predicate);
+        if (order == null) {
+            throw new IllegalArgumentException("Sort order cannot be null");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative");
+        }
+        BulkOperationEvent event = BulkOperationEvent.start("shard-top-k");
+        List<Vehicle> candidates = new ArrayList<>();
+        for (List<Vehicle> part : gather(scatter(predicate, shard -> shards[shard].topK(predicate, order, k)))) {
+            candidates.addAll(part);
+        }
+        Vehicle[] merged = candidates.toArray(new Vehicle[0]);
+        sorter.sort(merged, order);
+        List<Vehicle> top = Arrays.asList(merged).subList(0, Math.min(k, merged.length));
+        event.complete(candidates.size(), 0);
+        return new ArrayList<>(top);
+    }
+
+    /**
+     * Retrieves the number of shards.
+     *
+     * @return the shard count
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Retrieves the strategy assigning vehicles to shards.
+     *
+     * @return the partitioner
+     */
+    public ShardPartitioner getPartitioner() {
+        return partitioner;
+    }
+
+    /**
+     * Closes the store. If it created its own executor, waits for running shard
+     * calls to finish and shuts the executor down. Closing again has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (ownedExecutor != null) {
+            ownedExecutor.close();
+        }
+    }
+
+    // Starts the call on every shard that may match the predicate (all shards if
+    // it is null). A single shard is called on the caller's thread.
+    private <R> List<CompletableFuture<R>> scatter(ScanPredicate predicate, Function<Integer, R> call) {
+        requireOpen();
+        List<Integer> targets = new ArrayList<>(shards.length);
+        for (int shard = 0; shard < shards.length; shard++) {
+            if (predicate == null || partitioner.mayMatch(shard, predicate)) {
+                targets.add(shard);
+            }
+        }
+        List<CompletableFuture<R>> futures = new ArrayList<>(targets.size());
+        if (targets.size() == 1) {
+            try {
+                futures.add(CompletableFuture.completedFuture(call.apply(targets.get(0))));
+            } catch (RuntimeException e) {
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+            return futures;
+        }
+        for (Integer shard : targets) {
+            futures.add(CompletableFuture.supplyAsync(() -> call.apply(shard), executor));
+        }
+        return futures;
+    }
+
+    // Waits for every call, so no shard is still working when a failure is
+    // rethrown, then rethrows the first failure in shard order.
+    private static <R> List<R> gather(List<CompletableFuture<R>> futures) {
+        List<R> results = new ArrayList<>(futures.size());
+        RuntimeException failure = null;
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause
+                            ? cause
+                            : new IllegalStateException("Shard call failed", e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    private void requireOpen() {
+        if (closed) {
+            throw new IllegalStateException("Store is closed");
+        }
+    }
+
+    private static List<FleetShard> localShards(ShardPartitioner partitioner) {
+        if (partitioner == null) {
+            throw new IllegalArgumentException("Partitioner cannot be null");
+        }
+        List<FleetShard> shards = new ArrayList<>(partitioner.getShardCount());
+        for (int i = 0; i < partitioner.getShardCount(); i++) {
+            shards.add(new LocalFleetShard());
+        }
+        return shards;
+    }
+
+    private static void requirePredicate(ScanPredicate predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null");
+        }
+    }
+}
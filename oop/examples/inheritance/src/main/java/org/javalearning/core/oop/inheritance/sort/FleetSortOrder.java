@@ -0,0 +1,139 @@
+package org.javalearning.core.oop.inheritance.sort;
+
+import java.util.Arrays;
+
+/**
+ * An immutable, multi-level sort order over {@link SortField}s, built in the
+ * same style as {@link java.util.Comparator#thenComparing}.
+ *
+ * <p><strong>Usage:</strong>
+ * <pre>
+ * FleetSortOrder byBrandThenNewest = FleetSortOrder.by(SortField.BRAND)
+ *         .thenDescending(SortField.YEAR);
+ * </pre>
+ * Records that compare equal on every field keep their original relative order.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class FleetSortOrder {
+    private final SortField[] fields;
+    private final boolean[] descending;
+
+    private FleetSortOrder(SortField[] fields, boolean[] descending) {
+        this.fields = fields;
+        this.descending = descending;
+    }
+
+    /**
+     * Creates an order that sorts by one field, ascending.
+     *
+     * @param field the primary sort field
+     * @return the new order
+     * @throws IllegalArgumentException if field is null
+     */
+    public static FleetSortOrder by(SortField field) {
+        return new FleetSortOrder(new SortField[0], new boolean[0]).append(field, false);
+    }
+
+    /**
+     * Creates an order that sorts by one field, descending.
+     *
+     * @param field the primary sort field
+     * @return the new order
+     * @throws IllegalArgumentException if field is null
+     */
+    public static FleetSortOrder byDescending(SortField field) {
+        return new FleetSortOrder(new SortField[0], new boolean[0]).append(field, true);
+    }
+
+    /**
+     * Creates an order that breaks ties of this order by another field, ascending.
+     *
+     * @param field the next sort field
+     * @return the new order; this order is unchanged
+     * @throws IllegalArgumentException if field is null or already part of this order
+     */
+    public FleetSortOrder then(SortField field) {
+        return append(field, false);
+    }
+
+    /**
+     * Creates an order that breaks ties of this order by another field, descending.
+     *
+     * @param field the next sort field
+     * @return the new order; this order is unchanged
+     * @throws IllegalArgumentException if field is null or already part of this order
+     */
+    public FleetSortOrder thenDescending(SortField field) {
+        return append(field, true);
+    }
+
+    /**
+     * Retrieves the number of fields in this order.
+     *
+     * @return the number of sort levels
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * Retrieves the field of a sort level.
+     *
+     * @param level the sort level, zero being the most significant
+     * @return the field compared at that level
+     * @throws IndexOutOfBoundsException if level is outside this order
+     */
+    public SortField getField(int level) {
+        return fields[level];
+    }
+
+    /**
+     * Determines whether a sort level is descending.
+     *
+     * @param level the sort level, zero being the most significant
+     * @return true if the level sorts from largest to smallest, false otherwise
+     * @throws IndexOutOfBoundsException if level is outside this order
+     */
+    public boolean isDescending(int level) {
+        return descending[level];
+    }
+
+    /**
+     * Returns a readable form of this order, e.g. {@code BRAND, YEAR DESC}.
+     *
+     * @return the sort levels in order of significance
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            text.append(fields[i]);
+            if (descending[i]) {
+                text.append(" DESC");
+            }
+        }
+        return text.toString();
+    }
+
+    private FleetSortOrder append(SortField field, boolean descendingField) {
+        if (field == null) {
+            throw new IllegalArgumentException("Sort field cannot be null");
+        }
+        for (SortField existing : fields) {
+            if (existing == field) {
+                throw new IllegalArgumentException("Sort field already in order: " + field);
+            }
+        }
+        SortField[] nextFields = Arrays.copyOf(fields, fields.length + 1);
+        boolean[] nextDescending = Arrays.copyOf(descending, descending.length + 1);
+        nextFields[fields.length] = field;
+        nextDescending[fields.length] = descendingField;
+        return new FleetSortOrder(nextFields, nextDescending);
+    }
+}
@@ -0,0 +1,529 @@
+package org.javalearning.core.oop.inheritance.sort;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.index.RowBitmap;
+import org.javalearning.core.oop.inheritance.metrics.BulkOperationEvent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Sorts vehicles by packed primitive keys instead of comparing objects.
+ *
+ * <p><strong>Packed Keys:</strong>
+ * Every record is reduced to one {@code long}. The fields of the
+ * {@link FleetSortOrder} occupy the high bits, most significant level first,
+ * each offset by its smallest value and only as wide as its value range
+ * requires. Descending levels are stored inverted. The record's row index
+ * fills the low bits, which makes every key unique and every sort stable.
+ * Brands are packed as their rank in alphabetical order, so a brand comparison
+ * costs no {@code String} access at all.
+ *
+ * <p><strong>Algorithms:</strong>
+ * <ul>
+ *   <li>{@link #sort(VehicleFleet, FleetSortOrder)} runs an LSD radix sort over
+ *       the key bits, eight bits per pass. Each pass counts digits per chunk in
+ *       parallel, turns the counts into per-chunk offsets and scatters the chunks
+ *       in parallel. Passes whose digit is the same for every key are skipped,
+ *       so narrow keys need only one or two passes</li>
+ *   <li>{@link #topK(VehicleFleet, FleetSortOrder, int)} keeps a bounded heap of
+ *       the k best keys per chunk and merges the heaps, in O(n log k) without
+ *       sorting the fleet</li>
+ * </ul>
+ * The result depends only on the input and the order, never on the degree of
+ * parallelism.
+ *
+ * <p>A packed key holds at most 63 bits. A fleet whose key does not fit, for
+ * example a sort by brand, year and doors over tens of thousands of brands,
+ * years spanning millions and billions of rows, is rejected.
+ *
+ * <p>The fleet or array must not be modified while a sort is running.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class FleetSorter {
+    private static final int DEFAULT_LEAF_SIZE = 1 << 16;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int MAX_KEY_BITS = 63;
+
+    private final ForkJoinPool pool;
+    private final int leafSize;
+
+    /**
+     * Constructs a sorter that runs on the common fork-join pool.
+     */
+    public FleetSorter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_LEAF_SIZE);
+    }
+
+    /**
+     * Constructs a sorter that runs on a specific pool, for example one sized
+     * to a fixed number of cores.
+     *
+     * @param pool the pool executing parallel passes
+     * @param leafSize the smallest number of records worth a parallel chunk
+     * @throws IllegalArgumentException if pool is null or leafSize is not positive
+     */
+    public FleetSorter(ForkJoinPool pool, int leafSize) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (leafSize <= 0) {
+            throw new IllegalArgumentException("Leaf size must be positive");
+        }
+        this.pool = pool;
+        this.leafSize = leafSize;
+    }
+
+    /**
+     * Sorts all records of a fleet.
+     *
+     * @param fleet the fleet to sort; it is not modified
+     * @param order the sort order
+     * @return the fleet's row indexes in sorted order
+     * @throws IllegalArgumentException if fleet or order is null
+     * @throws IllegalStateException if the packed key would need more than 63 bits
+     */
+    public int[] sort(VehicleFleet fleet, FleetSortOrder order) {
+        requireFleet(fleet, order);
+        int size = fleet.size();
+        if (size == 0) {
+            return new int[0];
+        }
+        BulkOperationEvent event = BulkOperationEvent.start("sort");
+        KeyLayout layout = layout(fleetColumns(fleet, order), order, null, size, size);
+        long[] keys = pack(layout, null, size);
+        radixSort(keys, layout);
+        int[] rows = layout.rowsOf(keys);
+        event.complete(size, 0);
+        return rows;
+    }
+
+    /**
+     * Sorts an array of vehicles in place. Like {@link Arrays#sort(Object[])},
+     * the sort is stable.
+     *
+     * @param vehicles the vehicles to reorder
+     * @param order the sort order
+     * @throws IllegalArgumentException if vehicles, any of its elements or order is null
+     * @throws IllegalStateException if the packed key would need more than 63 bits
+     */
+    public void sort(Vehicle[] vehicles, FleetSortOrder order) {
+        if (vehicles == null) {
+            throw new IllegalArgumentException("Vehicles cannot be null");
+        }
+        if (order == null) {
+            throw new IllegalArgumentException("Sort order cannot be null");
+        }
+        for (Vehicle vehicle : vehicles) {
+            if (vehicle == null) {
+                throw new IllegalArgumentException("Vehicle cannot be null");
+            }
+        }
+        int size = vehicles.length;
+        if (size < 2) {
+            return;
+        }
+        BulkOperationEvent event = BulkOperationEvent.start("sort");
+        KeyLayout layout = layout(vehicleColumns(vehicles, order), order, null, size, size);
+        long[] keys = pack(layout, null, size);
+        radixSort(keys, layout);
+        Vehicle[] original = vehicles.clone();
+        for (int i = 0; i < size; i++) {
+            vehicles[i] = original[(int) (keys[i] & layout.rowMask)];
+        }
+        event.complete(size, 0);
+    }
+
+    /**
+     * Selects the first k records of a fleet in sort order without sorting the
+     * whole fleet, e.g. the 1000 newest vehicles.
+     *
+     * @param fleet the fleet to search
+     * @param order the sort order
+     * @param k the maximum number of rows to return
+     * @return up to k row indexes in sorted order
+     * @throws IllegalArgumentException if fleet or order is null, or k is negative
+     * @throws IllegalStateException if the packed key would need more than 63 bits
+     */
+    public int[] topK(VehicleFleet fleet, FleetSortOrder order, int k) {
+        requireFleet(fleet, order);
+        return selectTop(fleet, null, order, k);
+    }
+
+    /**
+     * Selects the first k of the given rows in sort order without sorting them,
+     * e.g. the 1000 newest cars of one brand, with rows taken from a
+     * {@link org.javalearning.core.oop.inheritance.index.FleetIndex}.
+     *
+     * @param fleet the fleet holding the rows
+     * @param rows the candidate rows
+     * @param order the sort order
+     * @param k the maximum number of rows to return
+     * @return up to k row indexes in sorted order
+     * @throws IllegalArgumentException if fleet, rows or order is null, or k is negative
+     * @throws IndexOutOfBoundsException if a candidate row is outside the fleet
+     * @throws IllegalStateException if the packed key would need more than 63 bits
+     */
+    public int[] topK(VehicleFleet fleet, RowBitmap rows, FleetSortOrder order, int k) {
+        requireFleet(fleet, order);
+        if (rows == null) {
+            throw new IllegalArgumentException("Rows cannot be null");
+        }
+        return selectTop(fleet, rows.toArray(), order, k);
+    }
+
+    /**
+     * Selects the first k of the given rows in sort order without sorting them,
+     * e.g. the newest vehicles among the rows of a
+     * {@link org.javalearning.core.oop.inheritance.scan.FleetScanner#filter} scan.
+     *
+     * @param fleet the fleet holding the rows
+     * @param rows the candidate row indexes; not modified
+     * @param order the sort order
+     * @param k the maximum number of rows to return
+     * @return up to k row indexes in sorted order
+     * @throws IllegalArgumentException if fleet, rows or order is null, or k is negative
+     * @throws IndexOutOfBoundsException if a candidate row is outside the fleet
+     * @throws IllegalStateException if the packed key would need more than 63 bits
+     */
+    public int[] topK(VehicleFleet fleet, int[] rows, FleetSortOrder order, int k) {
+        requireFleet(fleet, order);
+        if (rows == null) {
+            throw new IllegalArgumentException("Rows cannot be null");
+        }
+        return selectTop(fleet, rows, order, k);
+    }
+
+    private int[] selectTop(VehicleFleet fleet, int[] candidates, FleetSortOrder order, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative");
+        }
+        int count = candidates == null ? fleet.size() : candidates.length;
+        if (k == 0 || count == 0) {
+            return new int[0];
+        }
+        BulkOperationEvent event = BulkOperationEvent.start("top-k");
+        KeyLayout layout = layout(fleetColumns(fleet, order), order, candidates, count, fleet.size());
+        int chunks = chunks(count);
+        TopKHeap[] heaps = new TopKHeap[chunks];
+        forEachChunk(chunks, chunk -> {
+            int from = chunkStart(count, chunks, chunk);
+            int to = chunkStart(count, chunks, chunk + 1);
+            TopKHeap heap = new TopKHeap(Math.min(k, to - from));
+            for (int i = from; i < to; i++) {
+                heap.offer(layout.pack(row(candidates, i)));
+            }
+            heaps[chunk] = heap;
+        });
+        TopKHeap merged = heaps[0];
+        if (chunks > 1) {
+            merged = new TopKHeap(Math.min(k, count));
+            for (TopKHeap heap : heaps) {
+                for (long key : heap.toSortedArray()) {
+                    merged.offer(key);
+                }
+            }
+        }
+        int[] rows = layout.rowsOf(merged.toSortedArray());
+        event.complete(count, 0);
+        return rows;
+    }
+
+    private KeyLayout layout(IntUnaryOperator[] columns, FleetSortOrder order, int[] candidates,
+                             int count, int rowLimit) {
+        int levels = columns.length;
+        int chunks = chunks(count);
+        int[][] minimums = new int[chunks][];
+        int[][] maximums = new int[chunks][];
+        forEachChunk(chunks, chunk -> {
+            int[] min = new int[levels];
+            int[] max = new int[levels];
+            Arrays.fill(min, Integer.MAX_VALUE);
+            Arrays.fill(max, Integer.MIN_VALUE);
+            int to = chunkStart(count, chunks, chunk + 1);
+            for (int i = chunkStart(count, chunks, chunk); i < to; i++) {
+                int row = row(candidates, i);
+                for (int level = 0; level < levels; level++) {
+                    int value = columns[level].applyAsInt(row);
+                    min[level] = Math.min(min[level], value);
+                    max[level] = Math.max(max[level], value);
+                }
+            }
+            minimums[chunk] = min;
+            maximums[chunk] = max;
+        });
+
+        KeyLayout layout = new KeyLayout(columns, 32 - Integer.numberOfLeadingZeros(rowLimit - 1));
+        int shift = layout.rowBits;
+        for (int level = levels - 1; level >= 0; level--) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                min = Math.min(min, minimums[chunk][level]);
+                max = Math.max(max, maximums[chunk][level]);
+            }
+            long span = (long) max - min;
+            layout.minimums[level] = min;
+            layout.spans[level] = span;
+            layout.shifts[level] = shift;
+            layout.descending[level] = order.isDescending(level);
+            shift += 64 - Long.numberOfLeadingZeros(span);
+        }
+        if (shift > MAX_KEY_BITS) {
+            throw new IllegalStateException("Sort key needs " + shift + " bits, at most "
+                    + MAX_KEY_BITS + " fit in a packed key");
+        }
+        layout.keyBits = shift - layout.rowBits;
+        return layout;
+    }
+
+    private long[] pack(KeyLayout layout, int[] candidates, int count) {
+        long[] keys = new long[count];
+        int chunks = chunks(count);
+        forEachChunk(chunks, chunk -> {
+            int to = chunkStart(count, chunks, chunk + 1);
+            for (int i = chunkStart(count, chunks, chunk); i < to; i++) {
+                keys[i] = layout.pack(row(candidates, i));
+            }
+        });
+        return keys;
+    }
+
+    private void radixSort(long[] keys, KeyLayout layout) {
+        int size = keys.length;
+        int chunks = chunks(size);
+        int[][] counts = new int[chunks][RADIX];
+        long[] source = keys;
+        long[] target = new long[size];
+        int end = layout.rowBits + layout.keyBits;
+        for (int shift = layout.rowBits; shift < end; shift += RADIX_BITS) {
+            long[] from = source;
+            long[] to = target;
+            int digitShift = shift;
+            forEachChunk(chunks, chunk -> {
+                int[] count = counts[chunk];
+                Arrays.fill(count, 0);
+                int last = chunkStart(size, chunks, chunk + 1);
+                for (int i = chunkStart(size, chunks, chunk); i < last; i++) {
+                    count[digit(from[i], digitShift)]++;
+                }
+            });
+            if (isSingleDigit(counts, digit(from[0], shift), size)) {
+                continue;
+            }
+            int offset = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    int count = counts[chunk][digit];
+                    counts[chunk][digit] = offset;
+                    offset += count;
+                }
+            }
+            forEachChunk(chunks, chunk -> {
+                int[] next = counts[chunk];
+                int last = chunkStart(size, chunks, chunk + 1);
+                for (int i = chunkStart(size, chunks, chunk); i < last; i++) {
+                    long key = from[i];
+                    to[next[digit(key, digitShift)]++] = key;
+                }
+            });
+            target = from;
+            source = to;
+        }
+        if (source != keys) {
+            System.arraycopy(source, 0, keys, 0, size);
+        }
+    }
+
+    private static boolean isSingleDigit(int[][] counts, int digit, int size) {
+        int total = 0;
+        for (int[] count : counts) {
+            total += count[digit];
+        }
+        return total == size;
+    }
+
+    private static int digit(long key, int shift) {
+        return (int) (key >>> shift) & (RADIX - 1);
+    }
+
+    private static int row(int[] candidates, int index) {
+        return candidates == null ? index : candidates[index];
+    }
+
+    private int chunks(int count) {
+        int leaves = (int) ((count + (long) leafSize - 1) / leafSize);
+        return Math.max(1, Math.min(pool.getParallelism(), leaves));
+    }
+
+    private static int chunkStart(int count, int chunks, int chunk) {
+        return (int) ((long) count * chunk / chunks);
+    }
+
+    private void forEachChunk(int chunks, IntConsumer body) {
+        if (chunks == 1) {
+            body.accept(0);
+        } else {
+            pool.invoke(new ChunkTask(body, 0, chunks));
+        }
+    }
+
+    private static IntUnaryOperator[] fleetColumns(VehicleFleet fleet, FleetSortOrder order) {
+        IntUnaryOperator[] columns = new IntUnaryOperator[order.size()];
+        for (int level = 0; level < columns.length; level++) {
+            switch (order.getField(level)) {
+                case BRAND:
+                    int[] ranks = brandRanks(fleet.getBrands());
+                    columns[level] = row -> ranks[fleet.getBrandId(row)];
+                    break;
+                case YEAR:
+                    columns[level] = fleet::getYear;
+                    break;
+                case TYPE:
+                    columns[level] = row -> fleet.getType(row).getTag();
+                    break;
+                default:
+                    columns[level] = fleet::getNumDoors;
+                    break;
+            }
+        }
+        return columns;
+    }
+
+    private static IntUnaryOperator[] vehicleColumns(Vehicle[] vehicles, FleetSortOrder order) {
+        IntUnaryOperator[] columns = new IntUnaryOperator[order.size()];
+        for (int level = 0; level < columns.length; level++) {
+            switch (order.getField(level)) {
+                case BRAND:
+                    Map<String, Integer> ranks = brandRanks(vehicles);
+                    columns[level] = row -> ranks.get(vehicles[row].getBrand());
+                    break;
+                case YEAR:
+                    columns[level] = row -> vehicles[row].getYear();
+                    break;
+                case TYPE:
+                    columns[level] = row -> VehicleType.of(vehicles[row]).getTag();
+                    break;
+                default:
+                    columns[level] = row -> vehicles[row] instanceof Car ? ((Car) vehicles[row]).getNumDoors() : 0;
+                    break;
+            }
+        }
+        return columns;
+    }
+
+    private static int[] brandRanks(BrandRegistry brands) {
+        Integer[] ids = new Integer[brands.size()];
+        for (int id = 0; id < ids.length; id++) {
+            ids[id] = id;
+        }
+        Arrays.sort(ids, (a, b) -> brands.nameOf(a).compareTo(brands.nameOf(b)));
+        int[] ranks = new int[ids.length];
+        for (int rank = 0; rank < ids.length; rank++) {
+            ranks[ids[rank]] = rank;
+        }
+        return ranks;
+    }
+
+    private static Map<String, Integer> brandRanks(Vehicle[] vehicles) {
+        TreeSet<String> names = new TreeSet<>();
+        for (Vehicle vehicle : vehicles) {
+            names.add(vehicle.getBrand());
+        }
+        Map<String, Integer> ranks = new HashMap<>(names.size() * 2);
+        for (String name : names) {
+            ranks.put(name, ranks.size());
+        }
+        return ranks;
+    }
+
+    private static void requireFleet(VehicleFleet fleet, FleetSortOrder order) {
+        if (fleet == null) {
+            throw new IllegalArgumentException("Fleet cannot be null");
+        }
+        if (order == null) {
+            throw new IllegalArgumentException("Sort order cannot be null");
+        }
+    }
+
+    // Bit positions of each sort level within a packed key; fields are written
+    // once by layout() before the key passes start.
+    private static final class KeyLayout {
+        final IntUnaryOperator[] columns;
+        final int[] minimums;
+        final long[] spans;
+        final int[] shifts;
+        final boolean[] descending;
+        final int rowBits;
+        final long rowMask;
+        int keyBits;
+
+        KeyLayout(IntUnaryOperator[] columns, int rowBits) {
+            this.columns = columns;
+            this.minimums = new int[columns.length];
+            this.spans = new long[columns.length];
+            this.shifts = new int[columns.length];
+            this.descending = new boolean[columns.length];
+            this.rowBits = rowBits;
+            this.rowMask = (1L << rowBits) - 1;
+        }
+
+        long pack(int row) {
+            long key = row;
+            for (int level = 0; level < columns.length; level++) {
+                long value = (long) columns[level].applyAsInt(row) - minimums[level];
+                if (descending[level]) {
+                    value = spans[level] - value;
+                }
+                key |= value << shifts[level];
+            }
+            return key;
+        }
+
+        int[] rowsOf(long[] keys) {
+            int[] rows = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                rows[i] = (int) (keys[i] & rowMask);
+            }
+            return rows;
+        }
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient IntConsumer body;
+        private final int from;
+        private final int to;
+
+        ChunkTask(IntConsumer body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(body, from, middle), new ChunkTask(body, middle, to));
+        }
+    }
+}
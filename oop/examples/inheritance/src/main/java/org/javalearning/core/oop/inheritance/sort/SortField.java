@@ -0,0 +1,25 @@
+package org.javalearning.core.oop.inheritance.sort;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+/**
+ * Vehicle attributes that {@link FleetSorter} can pack into a sort key.
+ *
+ * <p><strong>Natural Orders:</strong>
+ * <ul>
+ *   <li>{@link #BRAND} - alphabetical by brand name ({@link String#compareTo(String)})</li>
+ *   <li>{@link #YEAR} - numeric by manufacturing year</li>
+ *   <li>{@link #TYPE} - by {@link VehicleType} tag: vehicle, car, motorcycle</li>
+ *   <li>{@link #DOORS} - numeric by door count; records that are not cars count as zero doors</li>
+ * </ul>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public enum SortField {
+    BRAND,
+    YEAR,
+    TYPE,
+    DOORS
+}
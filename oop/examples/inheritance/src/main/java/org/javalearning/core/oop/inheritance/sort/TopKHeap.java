@@ -0,0 +1,68 @@
+package org.javalearning.core.oop.inheritance.sort;
+
+import java.util.Arrays;
+
+/**
+ * Bounded binary max-heap that keeps the k smallest packed keys offered to it.
+ * The largest kept key sits at the root, so a candidate is rejected with a
+ * single comparison once the heap is full.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+final class TopKHeap {
+    private final long[] heap;
+    private int size;
+
+    TopKHeap(int capacity) {
+        heap = new long[capacity];
+    }
+
+    void offer(long key) {
+        if (size < heap.length) {
+            heap[size] = key;
+            siftUp(size++);
+        } else if (key < heap[0]) {
+            heap[0] = key;
+            siftDown();
+        }
+    }
+
+    long[] toSortedArray() {
+        long[] keys = Arrays.copyOf(heap, size);
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    private void siftUp(int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] >= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private void siftDown() {
+        long key = heap[0];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (key >= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+}
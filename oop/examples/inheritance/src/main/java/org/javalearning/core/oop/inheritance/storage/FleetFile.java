@@ -0,0 +1,197 @@
+package org.javalearning.core.oop.inheritance.storage;
+
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Saves fleets to, and opens them from, a compact fixed-width binary file.
+ *
+ * <p><strong>File Layout</strong> (little-endian):
+ * <pre>
+ * offset  size  field
+ * 0       4     magic "VFLT"
+ * 4       4     format version (1)
+ * 8       8     record count
+ * 16      4     brand count
+ * 20      4     offset of the first record, a multiple of 8
+ * 24      ...   brand table: per brand an unsigned 16-bit UTF-8 length followed by the bytes
+ * ...     8*n   records
+ * </pre>
+ *
+ * <p><strong>Record Layout</strong> (8 bytes):
+ * <pre>
+ * 0  int     year
+ * 4  ushort  brand id, an index into the brand table
+ * 6  byte    type tag (see {@link VehicleType})
+ * 7  ubyte   door count for cars, 1 or 0 for a motorcycle's sidecar flag, 0 otherwise
+ * </pre>
+ *
+ * <p>Both directions go through {@link MappedByteBuffer}s of at most
+ * {@value #SEGMENT_SIZE} bytes each, so fleets larger than 2 GB are supported
+ * and the operating system's page cache does the I/O.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class FleetFile {
+    static final int MAGIC = 0x544C4656;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 24;
+    static final int RECORD_SIZE = 8;
+    static final int SEGMENT_SIZE = 1 << 30;
+    static final int RECORDS_PER_SEGMENT = SEGMENT_SIZE / RECORD_SIZE;
+    static final int MAX_BRANDS = 1 << 16;
+
+    static final int YEAR_OFFSET = 0;
+    static final int BRAND_OFFSET = 4;
+    static final int TYPE_OFFSET = 6;
+    static final int ATTRIBUTE_OFFSET = 7;
+
+    private FleetFile() {
+    }
+
+    /**
+     * Writes a fleet to a file, replacing any existing content.
+     *
+     * @param fleet the fleet to save
+     * @param path the destination file
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if the fleet uses more brands than the format supports
+     */
+    public static void save(VehicleFleet fleet, Path path) throws IOException {
+        BrandRegistry brands = fleet.getBrands();
+        int brandCount = brands.size();
+        if (brandCount > MAX_BRANDS) {
+            throw new IllegalArgumentException("Fleet file supports at most " + MAX_BRANDS + " brands");
+        }
+        byte[][] brandBytes = new byte[brandCount][];
+        int headerSize = HEADER_SIZE;
+        for (int id = 0; id < brandCount; id++) {
+            brandBytes[id] = brands.nameOf(id).getBytes(StandardCharsets.UTF_8);
+            if (brandBytes[id].length > 0xFFFF) {
+                throw new IllegalArgumentException("Brand name too long: " + brands.nameOf(id));
+            }
+            headerSize += 2 + brandBytes[id].length;
+        }
+        int recordsOffset = (headerSize + RECORD_SIZE - 1) & -RECORD_SIZE;
+        long recordCount = fleet.size();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, recordsOffset);
+            header.order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putLong(recordCount)
+                    .putInt(brandCount)
+                    .putInt(recordsOffset);
+            for (byte[] name : brandBytes) {
+                header.putShort((short) name.length).put(name);
+            }
+            header.force();
+
+            for (long first = 0; first < recordCount; first += RECORDS_PER_SEGMENT) {
+                int count = (int) Math.min(RECORDS_PER_SEGMENT, recordCount - first);
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE,
+                        recordsOffset + first * RECORD_SIZE, (long) count * RECORD_SIZE);
+                segment.order(ByteOrder.LITTLE_ENDIAN);
+                for (int i = 0; i < count; i++) {
+                    writeRecord(segment, fleet, (int) (first + i));
+                }
+                segment.force();
+            }
+        }
+    }
+
+    /**
+     * Opens a fleet file for zero-copy reading.
+     *
+     * @param path the fleet file
+     * @return a read-only view of the mapped fleet
+     * @throws IOException if the file cannot be read or is not a fleet file
+     */
+    public static MappedFleet open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("Not a fleet file: " + path);
+            }
+            ByteBuffer fixed = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (fixed.getInt() != MAGIC) {
+                throw new IOException("Not a fleet file: " + path);
+            }
+            int version = fixed.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported fleet file version " + version + ": " + path);
+            }
+            long recordCount = fixed.getLong();
+            int brandCount = fixed.getInt();
+            int recordsOffset = fixed.getInt();
+            // Divide rather than multiply, so a huge record count cannot overflow the check;
+            // every brand name takes at least its two length bytes
+            if (recordCount < 0 || recordsOffset < HEADER_SIZE || recordsOffset > fileSize
+                    || recordCount > (fileSize - recordsOffset) / RECORD_SIZE
+                    || brandCount < 0 || brandCount > MAX_BRANDS
+                    || brandCount > (recordsOffset - HEADER_SIZE) / 2) {
+                throw new IOException("Corrupt fleet file header: " + path);
+            }
+
+            ByteBuffer table = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, recordsOffset - HEADER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            String[] brandNames = new String[brandCount];
+            try {
+                for (int id = 0; id < brandCount; id++) {
+                    byte[] name = new byte[Short.toUnsignedInt(table.getShort())];
+                    table.get(name);
+                    brandNames[id] = new String(name, StandardCharsets.UTF_8);
+                }
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Corrupt fleet file brand table: " + path, e);
+            }
+
+            int segmentCount = (int) ((recordCount + RECORDS_PER_SEGMENT - 1) / RECORDS_PER_SEGMENT);
+            ByteBuffer[] segments = new ByteBuffer[segmentCount];
+            for (int s = 0; s < segmentCount; s++) {
+                long first = (long) s * RECORDS_PER_SEGMENT;
+                long count = Math.min(RECORDS_PER_SEGMENT, recordCount - first);
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        recordsOffset + first * RECORD_SIZE, count * RECORD_SIZE)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new MappedFleet(brandNames, segments, recordCount);
+        }
+    }
+
+    private static void writeRecord(ByteBuffer segment, VehicleFleet fleet, int index) {
+        VehicleType type = fleet.getType(index);
+        int attribute;
+        switch (type) {
+            case CAR:
+                attribute = fleet.getNumDoors(index);
+                break;
+            case MOTORCYCLE:
+                attribute = fleet.getHasSideCar(index) ? 1 : 0;
+                break;
+            default:
+                attribute = 0;
+                break;
+        }
+        segment.putInt(fleet.getYear(index))
+                .putShort((short) fleet.getBrandId(index))
+                .put(type.getTag())
+                .put((byte) attribute);
+    }
+}
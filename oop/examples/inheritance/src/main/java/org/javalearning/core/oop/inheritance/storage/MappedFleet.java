@@ -0,0 +1,188 @@
+package org.javalearning.core.oop.inheritance.storage;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * A read-only fleet backed by a memory-mapped {@link FleetFile}.
+ *
+ * <p>Opening a mapped fleet only decodes the header and the brand table.
+ * Records stay in the file and are read straight from the mapped pages on
+ * access, so even a multi-gigabyte fleet opens instantly and memory is
+ * managed by the operating system's page cache instead of the Java heap.
+ *
+ * <p><strong>Access Styles:</strong>
+ * <ul>
+ *   <li>Indexed getters such as {@link #getYear(long)} for random access</li>
+ *   <li>{@link VehicleView} flyweights that expose the familiar vehicle getters
+ *       for one record at a time without creating objects</li>
+ *   <li>{@link #get(long)} to materialize a regular {@link Vehicle} when needed</li>
+ * </ul>
+ *
+ * <p>A mapped fleet is immutable and safe to share between threads;
+ * {@link VehicleView} instances are not. Mappings are released when the
+ * fleet becomes unreachable.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class MappedFleet {
+    private final String[] brandNames;
+    private final ByteBuffer[] segments;
+    private final long size;
+
+    MappedFleet(String[] brandNames, ByteBuffer[] segments, long size) {
+        this.brandNames = brandNames;
+        this.segments = segments;
+        this.size = size;
+    }
+
+    /**
+     * Retrieves the number of records in the file.
+     *
+     * @return the fleet size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of entries in the file's brand table.
+     *
+     * @return the brand count
+     */
+    public int getBrandCount() {
+        return brandNames.length;
+    }
+
+    /**
+     * Resolves a brand id from the file's brand table.
+     *
+     * @param brandId the brand id
+     * @return the brand name
+     * @throws IndexOutOfBoundsException if brandId is not in the table
+     */
+    public String getBrandName(int brandId) {
+        return brandNames[brandId];
+    }
+
+    /**
+     * Retrieves the concrete type of a record.
+     *
+     * @param index the record index
+     * @return the vehicle type
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public VehicleType getType(long index) {
+        return VehicleType.fromTag(segment(index).get(position(index) + FleetFile.TYPE_OFFSET));
+    }
+
+    /**
+     * Retrieves the brand id of a record.
+     *
+     * @param index the record index
+     * @return the brand id
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public int getBrandId(long index) {
+        return Short.toUnsignedInt(segment(index).getShort(position(index) + FleetFile.BRAND_OFFSET));
+    }
+
+    /**
+     * Retrieves the brand of a record.
+     *
+     * @param index the record index
+     * @return the shared brand name instance
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public String getBrand(long index) {
+        return brandNames[getBrandId(index)];
+    }
+
+    /**
+     * Retrieves the manufacturing year of a record.
+     *
+     * @param index the record index
+     * @return the year
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public int getYear(long index) {
+        return segment(index).getInt(position(index) + FleetFile.YEAR_OFFSET);
+    }
+
+    /**
+     * Retrieves the door count of a car record.
+     *
+     * @param index the record index
+     * @return the number of doors, or zero if the record is not a car
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public int getNumDoors(long index) {
+        return getType(index) == VehicleType.CAR ? attribute(index) : 0;
+    }
+
+    /**
+     * Determines whether a motorcycle record has a sidecar.
+     *
+     * @param index the record index
+     * @return true if the record is a motorcycle with a sidecar, false otherwise
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public boolean getHasSideCar(long index) {
+        return getType(index) == VehicleType.MOTORCYCLE && attribute(index) != 0;
+    }
+
+    /**
+     * Materializes a record as a regular vehicle object of its concrete type.
+     *
+     * @param index the record index
+     * @return a new {@link Vehicle}, {@link Car} or {@link Motorcycle}
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public Vehicle get(long index) {
+        return Vehicle.restore(getType(index), getBrand(index), getYear(index), attribute(index));
+    }
+
+    /**
+     * Creates a flyweight positioned on the first record.
+     *
+     * @return a new view over this fleet
+     */
+    public VehicleView view() {
+        return new VehicleView(this);
+    }
+
+    /**
+     * Visits every record in order through one reused flyweight.
+     * The view must not be retained by the action.
+     *
+     * @param action receives the view positioned on each record in turn
+     */
+    public void forEach(Consumer<? super VehicleView> action) {
+        VehicleView view = new VehicleView(this);
+        for (long i = 0; i < size; i++) {
+            action.accept(view.moveTo(i));
+        }
+    }
+
+    int attribute(long index) {
+        return Byte.toUnsignedInt(segment(index).get(position(index) + FleetFile.ATTRIBUTE_OFFSET));
+    }
+
+    private ByteBuffer segment(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for fleet size " + size);
+        }
+        return segments[(int) (index / FleetFile.RECORDS_PER_SEGMENT)];
+    }
+
+    private static int position(long index) {
+        return (int) (index % FleetFile.RECORDS_PER_SEGMENT) * FleetFile.RECORD_SIZE;
+    }
+}
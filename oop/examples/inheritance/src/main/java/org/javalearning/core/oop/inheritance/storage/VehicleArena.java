@@ -0,0 +1,369 @@
+package org.javalearning.core.oop.inheritance.storage;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.metrics.VehicleMetrics;
+import org.javalearning.core.oop.inheritance.validation.ValidationError;
+import org.javalearning.core.oop.inheritance.validation.VehicleRules;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * An append-only fleet stored outside the Java heap, with explicit lifecycle.
+ *
+ * <p><strong>Why Off-Heap:</strong>
+ * Tens of millions of live {@link Vehicle} objects fill the old generation, and
+ * every full or mixed collection has to trace them. An arena keeps each vehicle
+ * as a fixed 8-byte struct in direct memory chunks, so the collector only sees
+ * a handful of buffer objects regardless of the fleet size.
+ *
+ * <p><strong>Struct Layout</strong> (little-endian), identical to a
+ * {@link FleetFile} record:
+ * <pre>
+ * 0  int     year
+ * 4  ushort  brand id assigned by the arena's {@link BrandRegistry}
+ * 6  byte    type tag (see {@link VehicleType})
+ * 7  ubyte   door count for cars, 1 or 0 for a motorcycle's sidecar flag, 0 otherwise
+ * </pre>
+ * Memory is reserved in chunks of {@value #CHUNK_SIZE} bytes as the arena grows.
+ * Direct memory counts against {@code -XX:MaxDirectMemorySize}, which defaults
+ * to the maximum heap size.
+ *
+ * <p><strong>Lifecycle:</strong>
+ * {@link #close()} drops the arena's references to its chunks, and any later
+ * access throws {@link IllegalStateException}. The direct memory itself is
+ * released by the garbage collector once it reclaims the chunk buffers, so a
+ * read racing with {@code close()} still sees valid memory. Like
+ * {@code VehicleFleet}, an arena is not thread-safe.
+ *
+ * <p>The accessors mirror the getters of the vehicle hierarchy, indexed by
+ * record, and {@link #get(long)} materializes a regular vehicle when needed.
+ * As in {@code VehicleFleet}, {@code add*} records count as created in
+ * {@link VehicleMetrics}; copies made by {@link #add(Vehicle)} and
+ * materialized views do not.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class VehicleArena implements AutoCloseable {
+    static final int CHUNK_SIZE = 1 << 26;
+    private static final int RECORDS_PER_CHUNK = CHUNK_SIZE / FleetFile.RECORD_SIZE;
+    private static final int MAX_ATTRIBUTE = 255;
+
+    private final BrandRegistry brands;
+    private ByteBuffer[] chunks = new ByteBuffer[4];
+    private int chunkCount;
+    private long size;
+    private boolean closed;
+
+    /**
+     * Constructs an empty arena with its own brand registry.
+     */
+    public VehicleArena() {
+        this(new BrandRegistry());
+    }
+
+    /**
+     * Constructs an empty arena that assigns brand ids from a shared registry.
+     *
+     * @param brands the brand registry
+     * @throws IllegalArgumentException if brands is null
+     */
+    public VehicleArena(BrandRegistry brands) {
+        if (brands == null) {
+            throw new IllegalArgumentException("Brand registry cannot be null");
+        }
+        this.brands = brands;
+    }
+
+    /**
+     * Appends a basic vehicle record.
+     *
+     * @param brand the manufacturer brand of the vehicle
+     * @param year the manufacturing year of the vehicle
+     * @return the index of the new record
+     * @throws IllegalArgumentException if brand is null or empty, or if year is negative
+     * @throws IllegalStateException if the arena is closed
+     */
+    public long addVehicle(String brand, int year) {
+        long index = insertVehicle(brand, year);
+        VehicleMetrics.recordCreated(VehicleType.VEHICLE);
+        return index;
+    }
+
+    /**
+     * Appends a car record.
+     *
+     * @param brand the manufacturer brand of the car
+     * @param year the manufacturing year of the car
+     * @param numDoors the number of doors the car has
+     * @return the index of the new record
+     * @throws IllegalArgumentException if numDoors is not positive or too large,
+     *         or if brand/year validation fails
+     * @throws IllegalStateException if the arena is closed
+     */
+    public long addCar(String brand, int year, int numDoors) {
+        long index = insertCar(brand, year, numDoors);
+        VehicleMetrics.recordCreated(VehicleType.CAR);
+        return index;
+    }
+
+    /**
+     * Appends a motorcycle record.
+     *
+     * @param brand the manufacturer brand of the motorcycle
+     * @param year the manufacturing year of the motorcycle
+     * @param hasSideCar whether the motorcycle has a sidecar attached
+     * @return the index of the new record
+     * @throws IllegalArgumentException if brand/year validation fails
+     * @throws IllegalStateException if the arena is closed
+     */
+    public long addMotorcycle(String brand, int year, boolean hasSideCar) {
+        long index = insertMotorcycle(brand, year, hasSideCar);
+        VehicleMetrics.recordCreated(VehicleType.MOTORCYCLE);
+        return index;
+    }
+
+    /**
+     * Appends the state of an existing vehicle object, keeping its concrete type.
+     *
+     * @param vehicle the vehicle to copy into the arena
+     * @return the index of the new record
+     * @throws IllegalArgumentException if vehicle is null or its state cannot be stored
+     * @throws IllegalStateException if the arena is closed
+     */
+    public long add(Vehicle vehicle) {
+        if (vehicle == null) {
+            throw new IllegalArgumentException("Vehicle cannot be null");
+        }
+        // The object was counted when it was constructed
+        if (vehicle instanceof Car car) {
+            return insertCar(car.getBrand(), car.getYear(), car.getNumDoors());
+        } else if (vehicle instanceof Motorcycle motorcycle) {
+            return insertMotorcycle(motorcycle.getBrand(), motorcycle.getYear(), motorcycle.getHasSideCar());
+        }
+        return insertVehicle(vehicle.getBrand(), vehicle.getYear());
+    }
+
+    /**
+     * Retrieves the number of records in this arena.
+     *
+     * @return the arena size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the concrete type of a record.
+     *
+     * @param index the record index
+     * @return the vehicle type
+     * @throws IndexOutOfBoundsException if index is outside the arena
+     * @throws IllegalStateException if the arena is closed
+     */
+    public VehicleType getType(long index) {
+        return VehicleType.fromTag(chunk(index).get(position(index) + FleetFile.TYPE_OFFSET));
+    }
+
+    /**
+     * Retrieves the brand id of a record.
+     *
+     * @param index the record index
+     * @return the brand id assigned by the arena's registry
+     * @throws IndexOutOfBoundsException if index is outside the arena
+     * @throws IllegalStateException if the arena is closed
+     */
+    public int getBrandId(long index) {
+        return Short.toUnsignedInt(chunk(index).getShort(position(index) + FleetFile.BRAND_OFFSET));
+    }
+
+    /**
+     * Retrieves the brand of a record.
+     *
+     * @param index the record index
+     * @return the shared brand instance
+     * @throws IndexOutOfBoundsException if index is outside the arena
+     * @throws IllegalStateException if the arena is closed
+     */
+    public String getBrand(long index) {
+        return brands.nameOf(getBrandId(index));
+    }
+
+    /**
+     * Retrieves the manufacturing year of a record.
+     *
+     * @param index the record index
+     * @return the year
+     * @throws IndexOutOfBoundsException if index is outside the arena
+     * @throws IllegalStateException if the arena is closed
+     */
+    public int getYear(long index) {
+        return chunk(index).getInt(position(index) + FleetFile.YEAR_OFFSET);
+    }
+
+    /**
+     * Retrieves the door count of a car record.
+     *
+     * @param index the record index
+     * @return the number of doors, or zero if the record is not a car
+     * @throws IndexOutOfBoundsException if index is outside the arena
+     * @throws IllegalStateException if the arena is closed
+     */
+    public int getNumDoors(long index) {
+        return getType(index) == VehicleType.CAR ? attribute(index) : 0;
+    }
+
+    /**
+     * Determines whether a motorcycle record has a sidecar.
+     *
+     * @param index the record index
+     * @return true if the record is a motorcycle with a sidecar, false otherwise
+     * @throws IndexOutOfBoundsException if index is outside the arena
+     * @throws IllegalStateException if the arena is closed
+     */
+    public boolean getHasSideCar(long index) {
+        return getType(index) == VehicleType.MOTORCYCLE && attribute(index) != 0;
+    }
+
+    /**
+     * Materializes a record as a regular vehicle object of its concrete type.
+     * A new instance is created on every call.
+     *
+     * @param index the record index
+     * @return a new {@link Vehicle}, {@link Car} or {@link Motorcycle}
+     * @throws IndexOutOfBoundsException if index is outside the arena
+     * @throws IllegalStateException if the arena is closed
+     */
+    public Vehicle get(long index) {
+        return Vehicle.restore(getType(index), getBrand(index), getYear(index), attribute(index));
+    }
+
+    /**
+     * Retrieves the registry that assigns this arena's brand ids.
+     *
+     * @return the brand registry
+     */
+    public BrandRegistry getBrands() {
+        return brands;
+    }
+
+    /**
+     * Retrieves the amount of direct memory reserved by this arena.
+     *
+     * @return the reserved bytes, zero once closed
+     */
+    public long getReservedBytes() {
+        return (long) chunkCount * CHUNK_SIZE;
+    }
+
+    /**
+     * Checks whether this arena is still usable.
+     *
+     * @return false once {@link #close()} has been called
+     */
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    /**
+     * Closes the arena and drops its chunks, leaving their direct memory to be
+     * released when the collector reclaims them. Calling this method more than
+     * once has no further effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        chunks = new ByteBuffer[0];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    private long insertVehicle(String brand, int year) {
+        requireValid(VehicleType.VEHICLE, VehicleRules.checkVehicle(brand, year));
+        return append(VehicleType.VEHICLE, brand, year, 0);
+    }
+
+    private long insertCar(String brand, int year, int numDoors) {
+        requireValid(VehicleType.CAR, VehicleRules.checkCar(brand, year, numDoors));
+        if (numDoors > MAX_ATTRIBUTE) {
+            throw new IllegalArgumentException("Number of doors cannot exceed " + MAX_ATTRIBUTE);
+        }
+        return append(VehicleType.CAR, brand, year, numDoors);
+    }
+
+    private long insertMotorcycle(String brand, int year, boolean hasSideCar) {
+        requireValid(VehicleType.MOTORCYCLE, VehicleRules.checkVehicle(brand, year));
+        return append(VehicleType.MOTORCYCLE, brand, year, hasSideCar ? 1 : 0);
+    }
+
+    // Counts the rejection like a failed Vehicle constructor would, as VehicleFleet does
+    private static void requireValid(VehicleType type, ValidationError error) {
+        if (error != ValidationError.NONE) {
+            VehicleMetrics.recordRejected(type, error);
+            throw new IllegalArgumentException(error.getMessage());
+        }
+    }
+
+    private long append(VehicleType type, String brand, int year, int attribute) {
+        requireOpen();
+        // A rejected vehicle must not leave its brand behind in a possibly shared registry
+        int brandId = brands.idOf(brand);
+        if (brandId < 0) {
+            if (brands.size() >= FleetFile.MAX_BRANDS) {
+                throw new IllegalArgumentException("Vehicle arena supports at most " + FleetFile.MAX_BRANDS + " brands");
+            }
+            brandId = brands.register(brand);
+        }
+        long index = size;
+        if (index == (long) chunkCount * RECORDS_PER_CHUNK) {
+            addChunk();
+        }
+        ByteBuffer chunk = chunks[(int) (index / RECORDS_PER_CHUNK)];
+        int position = position(index);
+        chunk.putInt(position + FleetFile.YEAR_OFFSET, year);
+        chunk.putShort(position + FleetFile.BRAND_OFFSET, (short) brandId);
+        chunk.put(position + FleetFile.TYPE_OFFSET, type.getTag());
+        chunk.put(position + FleetFile.ATTRIBUTE_OFFSET, (byte) attribute);
+        size = index + 1;
+        return index;
+    }
+
+    private void addChunk() {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+        }
+        chunks[chunkCount++] = ByteBuffer.allocateDirect(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private int attribute(long index) {
+        return Byte.toUnsignedInt(chunk(index).get(position(index) + FleetFile.ATTRIBUTE_OFFSET));
+    }
+
+    private ByteBuffer chunk(long index) {
+        requireOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for arena size " + size);
+        }
+        return chunks[(int) (index / RECORDS_PER_CHUNK)];
+    }
+
+    private void requireOpen() {
+        if (closed) {
+            throw new IllegalStateException("Vehicle arena is closed");
+        }
+    }
+
+    private static int position(long index) {
+        return (int) (index % RECORDS_PER_CHUNK) * FleetFile.RECORD_SIZE;
+    }
+}
@@ -0,0 +1,126 @@
+package org.javalearning.core.oop.inheritance.storage;
+
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+/**
+ * A movable flyweight over one record of a {@link MappedFleet}.
+ *
+ * <p>The view offers the same getters as the vehicle hierarchy
+ * ({@link #getBrand()}, {@link #getYear()}, {@link #getNumDoors()},
+ * {@link #getHasSideCar()}) but holds no vehicle state of its own: every call
+ * reads the current record directly from the mapped file. Moving the view
+ * with {@link #moveTo(long)} lets one object walk millions of records
+ * without allocating.
+ *
+ * <p>Views are cheap and not thread-safe; create one per thread.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class VehicleView {
+    private final MappedFleet fleet;
+    private long index;
+
+    VehicleView(MappedFleet fleet) {
+        this.fleet = fleet;
+    }
+
+    /**
+     * Positions this view on a record.
+     *
+     * @param index the record index
+     * @return this view, for call chaining
+     * @throws IndexOutOfBoundsException if index is outside the fleet
+     */
+    public VehicleView moveTo(long index) {
+        if (index < 0 || index >= fleet.size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for fleet size " + fleet.size());
+        }
+        this.index = index;
+        return this;
+    }
+
+    /**
+     * Retrieves the index of the current record.
+     *
+     * @return the record index
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Retrieves the concrete type of the current record.
+     *
+     * @return the vehicle type
+     */
+    public VehicleType getType() {
+        return fleet.getType(index);
+    }
+
+    /**
+     * Retrieves the brand id of the current record.
+     *
+     * @return the brand id
+     */
+    public int getBrandId() {
+        return fleet.getBrandId(index);
+    }
+
+    /**
+     * Retrieves the brand of the current record.
+     *
+     * @return the shared brand name instance
+     */
+    public String getBrand() {
+        return fleet.getBrand(index);
+    }
+
+    /**
+     * Retrieves the manufacturing year of the current record.
+     *
+     * @return the year
+     */
+    public int getYear() {
+        return fleet.getYear(index);
+    }
+
+    /**
+     * Retrieves the door count of the current record.
+     *
+     * @return the number of doors, or zero if the record is not a car
+     */
+    public int getNumDoors() {
+        return fleet.getNumDoors(index);
+    }
+
+    /**
+     * Determines whether the current record is a motorcycle with a sidecar.
+     *
+     * @return true if the record has a sidecar, false otherwise
+     */
+    public boolean getHasSideCar() {
+        return fleet.getHasSideCar(index);
+    }
+
+    /**
+     * Materializes the current record as a regular vehicle object.
+     *
+     * @return a new {@link Vehicle} of the record's concrete type
+     */
+    public Vehicle toVehicle() {
+        return fleet.get(index);
+    }
+
+    /**
+     * Renders the current record exactly like the matching vehicle's {@code toString()}.
+     *
+     * @return the string representation of the current record
+     */
+    @Override
+    public String toString() {
+        return toVehicle().toString();
+    }
+}
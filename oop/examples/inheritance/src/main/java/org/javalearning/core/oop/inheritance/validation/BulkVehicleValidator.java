@@ -0,0 +1,155 @@
+package org.javalearning.core.oop.inheritance.validation;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.javalearning.core.oop.inheritance.metrics.BulkOperationEvent;
+import org.javalearning.core.oop.inheritance.metrics.VehicleMetrics;
+
+import java.util.function.Consumer;
+
+/**
+ * Validates batches of raw vehicle records without allocating or throwing,
+ * and builds vehicle objects only for the records that pass.
+ *
+ * <p><strong>Why Not Just Call the Constructors?</strong>
+ * The constructors report bad input by throwing {@link IllegalArgumentException},
+ * which captures a full stack trace for every rejected record. When loading
+ * dirty data this dominates the load time. This validator applies the same
+ * {@link VehicleRules} and records the outcome as a byte code in a
+ * {@link ValidationReport} instead.
+ *
+ * <p>Rejections are counted by {@link VehicleMetrics} per violated rule, and
+ * each call is reported as a {@link BulkOperationEvent} to flight recordings.
+ *
+ * <p><strong>Typical Usage:</strong>
+ * <pre>
+ * RawVehicleBatch batch = new RawVehicleBatch(4096);
+ * ValidationReport report = new ValidationReport(4096);
+ * // fill the batch ...
+ * validator.process(batch, report, fleet::add);
+ * batch.clear();
+ * </pre>
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class BulkVehicleValidator {
+    private final BrandRegistry brands;
+
+    /**
+     * Constructs a validator that builds vehicles with the brand strings as supplied.
+     */
+    public BulkVehicleValidator() {
+        this.brands = null;
+    }
+
+    /**
+     * Constructs a validator that builds vehicles with canonical brands from a registry.
+     *
+     * @param brands the registry providing canonical brand instances
+     * @throws IllegalArgumentException if brands is null
+     */
+    public BulkVehicleValidator(BrandRegistry brands) {
+        if (brands == null) {
+            throw new IllegalArgumentException("Brand registry cannot be null");
+        }
+        this.brands = brands;
+    }
+
+    /**
+     * Validates every record of a batch into a reusable report.
+     * Neither allocates (unless the report must grow) nor throws for invalid records.
+     *
+     * @param batch the records to validate
+     * @param report the report receiving one outcome per record
+     */
+    public void validate(RawVehicleBatch batch, ValidationReport report) {
+        BulkOperationEvent event = BulkOperationEvent.start("validate");
+        int size = batch.size();
+        report.reset(size);
+        for (int i = 0; i < size; i++) {
+            report.record(i, check(batch, i));
+        }
+        VehicleMetrics.recordRejected(report);
+        event.complete(size, report.getInvalidCount());
+    }
+
+    /**
+     * Validates every record of a batch into a new report.
+     *
+     * @param batch the records to validate
+     * @return the validation report
+     */
+    public ValidationReport validate(RawVehicleBatch batch) {
+        ValidationReport report = new ValidationReport(batch.size());
+        validate(batch, report);
+        return report;
+    }
+
+    /**
+     * Builds a {@link Vehicle}, {@link Car} or {@link Motorcycle} for every record
+     * that the report marks as valid, in batch order.
+     *
+     * @param batch the validated records
+     * @param report the report produced by {@link #validate(RawVehicleBatch, ValidationReport)} for this batch
+     * @param sink receives each vehicle that is built
+     * @return the number of vehicles built
+     * @throws IllegalArgumentException if the report does not cover the batch
+     */
+    public int materialize(RawVehicleBatch batch, ValidationReport report, Consumer<? super Vehicle> sink) {
+        if (report.size() != batch.size()) {
+            throw new IllegalArgumentException("Report does not match batch size");
+        }
+        BulkOperationEvent event = BulkOperationEvent.start("materialize");
+        int built = 0;
+        for (int i = 0, n = batch.size(); i < n; i++) {
+            if (report.isValid(i)) {
+                sink.accept(build(batch, i));
+                built++;
+            }
+        }
+        event.complete(built, 0);
+        return built;
+    }
+
+    /**
+     * Validates a batch and builds vehicles for the records that pass.
+     *
+     * @param batch the records to process
+     * @param report the report receiving one outcome per record
+     * @param sink receives each vehicle that is built
+     * @return the number of vehicles built
+     */
+    public int process(RawVehicleBatch batch, ValidationReport report, Consumer<? super Vehicle> sink) {
+        validate(batch, report);
+        return materialize(batch, report, sink);
+    }
+
+    private static ValidationError check(RawVehicleBatch batch, int index) {
+        if (batch.getType(index) == VehicleType.CAR) {
+            return VehicleRules.checkCar(batch.getBrand(index), batch.getYear(index), batch.getNumDoors(index));
+        }
+        return VehicleRules.checkVehicle(batch.getBrand(index), batch.getYear(index));
+    }
+
+    private Vehicle build(RawVehicleBatch batch, int index) {
+        String brand = batch.getBrand(index);
+        int year = batch.getYear(index);
+        switch (batch.getType(index)) {
+            case CAR:
+                return brands == null
+                        ? new Car(brand, year, batch.getNumDoors(index))
+                        : new Car(brand, year, batch.getNumDoors(index), brands);
+            case MOTORCYCLE:
+                return brands == null
+                        ? new Motorcycle(brand, year, batch.getHasSideCar(index))
+                        : new Motorcycle(brand, year, batch.getHasSideCar(index), brands);
+            default:
+                return brands == null ? new Vehicle(brand, year) : new Vehicle(brand, year, brands);
+        }
+    }
+}
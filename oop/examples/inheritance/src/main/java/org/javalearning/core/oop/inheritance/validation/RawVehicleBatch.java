@@ -0,0 +1,190 @@
+package org.javalearning.core.oop.inheritance.validation;
+
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+
+import java.util.Arrays;
+
+/**
+ * Holds unvalidated vehicle records in reusable primitive columns, ready for
+ * bulk validation by {@link BulkVehicleValidator}.
+ *
+ * <p>Adding a record never validates or throws for bad field values; dirty
+ * input is stored as-is so that every problem can be reported at once.
+ * A batch has a fixed capacity and is meant to be {@linkplain #clear() cleared}
+ * and refilled, so loading a large feed does not allocate per batch.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class RawVehicleBatch {
+    private final byte[] types;
+    private final String[] brands;
+    private final int[] years;
+    private final int[] doors;
+    private final boolean[] sideCars;
+    private int size;
+
+    /**
+     * Constructs an empty batch with a fixed capacity.
+     *
+     * @param capacity the maximum number of records the batch can hold
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public RawVehicleBatch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        types = new byte[capacity];
+        brands = new String[capacity];
+        years = new int[capacity];
+        doors = new int[capacity];
+        sideCars = new boolean[capacity];
+    }
+
+    /**
+     * Appends an unvalidated basic vehicle record.
+     *
+     * @param brand the manufacturer brand, possibly invalid
+     * @param year the manufacturing year, possibly invalid
+     * @return the index of the new record
+     * @throws IllegalStateException if the batch is full
+     */
+    public int addVehicle(String brand, int year) {
+        return append(VehicleType.VEHICLE, brand, year, 0, false);
+    }
+
+    /**
+     * Appends an unvalidated car record.
+     *
+     * @param brand the manufacturer brand, possibly invalid
+     * @param year the manufacturing year, possibly invalid
+     * @param numDoors the number of doors, possibly invalid
+     * @return the index of the new record
+     * @throws IllegalStateException if the batch is full
+     */
+    public int addCar(String brand, int year, int numDoors) {
+        return append(VehicleType.CAR, brand, year, numDoors, false);
+    }
+
+    /**
+     * Appends an unvalidated motorcycle record.
+     *
+     * @param brand the manufacturer brand, possibly invalid
+     * @param year the manufacturing year, possibly invalid
+     * @param hasSideCar whether the motorcycle has a sidecar attached
+     * @return the index of the new record
+     * @throws IllegalStateException if the batch is full
+     */
+    public int addMotorcycle(String brand, int year, boolean hasSideCar) {
+        return append(VehicleType.MOTORCYCLE, brand, year, 0, hasSideCar);
+    }
+
+    /**
+     * Removes all records so the batch can be refilled. Brand references are
+     * released so the previous batch can be garbage collected.
+     */
+    public void clear() {
+        Arrays.fill(brands, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Retrieves the number of records in this batch.
+     *
+     * @return the batch size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the maximum number of records this batch can hold.
+     *
+     * @return the batch capacity
+     */
+    public int capacity() {
+        return types.length;
+    }
+
+    /**
+     * Determines whether the batch has reached its capacity.
+     *
+     * @return true if no more records can be added
+     */
+    public boolean isFull() {
+        return size == types.length;
+    }
+
+    /**
+     * Retrieves the type of a record.
+     *
+     * @param index the record index
+     * @return the vehicle type of the record
+     */
+    public VehicleType getType(int index) {
+        return VehicleType.fromTag(types[checkIndex(index)]);
+    }
+
+    /**
+     * Retrieves the raw brand of a record.
+     *
+     * @param index the record index
+     * @return the brand as supplied, possibly null or blank
+     */
+    public String getBrand(int index) {
+        return brands[checkIndex(index)];
+    }
+
+    /**
+     * Retrieves the raw year of a record.
+     *
+     * @param index the record index
+     * @return the year as supplied
+     */
+    public int getYear(int index) {
+        return years[checkIndex(index)];
+    }
+
+    /**
+     * Retrieves the raw door count of a car record.
+     *
+     * @param index the record index
+     * @return the door count as supplied, or zero for other types
+     */
+    public int getNumDoors(int index) {
+        return doors[checkIndex(index)];
+    }
+
+    /**
+     * Retrieves the sidecar flag of a motorcycle record.
+     *
+     * @param index the record index
+     * @return the sidecar flag, or false for other types
+     */
+    public boolean getHasSideCar(int index) {
+        return sideCars[checkIndex(index)];
+    }
+
+    private int append(VehicleType type, String brand, int year, int numDoors, boolean hasSideCar) {
+        if (size == types.length) {
+            throw new IllegalStateException("Batch is full");
+        }
+        int index = size++;
+        types[index] = type.getTag();
+        brands[index] = brand;
+        years[index] = year;
+        doors[index] = numDoors;
+        sideCars[index] = hasSideCar;
+        return index;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for batch size " + size);
+        }
+        return index;
+    }
+}
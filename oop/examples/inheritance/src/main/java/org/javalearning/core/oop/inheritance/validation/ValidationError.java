@@ -0,0 +1,61 @@
+package org.javalearning.core.oop.inheritance.validation;
+
+/**
+ * Enumerates the rule violations that the vehicle constructors reject.
+ * Each constant carries the exact message used by the corresponding
+ * {@link IllegalArgumentException}, so bulk validation and constructor
+ * validation always describe failures the same way.
+ *
+ * <p>{@link #NONE} marks a valid record. It lets reports store one compact
+ * byte code per record without a separate validity flag.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public enum ValidationError {
+    NONE("Valid"),
+    INVALID_BRAND("Brand cannot be null or empty"),
+    NEGATIVE_YEAR("Year cannot be negative"),
+    NON_POSITIVE_DOORS("Number of doors must be positive");
+
+    private static final ValidationError[] BY_CODE = values();
+
+    private final String message;
+
+    ValidationError(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Retrieves the message the vehicle constructors use for this violation.
+     *
+     * @return the human-readable description of the violation
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Retrieves the compact code stored in validation reports.
+     *
+     * @return the one-byte error code
+     */
+    public byte getCode() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * Resolves an error from its compact code.
+     *
+     * @param code the one-byte error code
+     * @return the matching validation error
+     * @throws IllegalArgumentException if the code is unknown
+     */
+    public static ValidationError fromCode(byte code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown validation error code: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,110 @@
+package org.javalearning.core.oop.inheritance.validation;
+
+import java.util.Arrays;
+
+/**
+ * Records the outcome of validating a {@link RawVehicleBatch}: one byte
+ * {@link ValidationError} code per record plus a count per error.
+ *
+ * <p>A report can be reused across batches. It only reallocates its code
+ * column when a batch larger than any previous one is validated.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public class ValidationReport {
+    private byte[] codes;
+    private final int[] counts = new int[ValidationError.values().length];
+    private int size;
+
+    /**
+     * Constructs an empty report sized for batches of the given capacity.
+     *
+     * @param capacity the expected number of records per batch
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public ValidationReport(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        codes = new byte[capacity];
+    }
+
+    void reset(int newSize) {
+        if (codes.length < newSize) {
+            codes = new byte[newSize];
+        }
+        Arrays.fill(counts, 0);
+        size = newSize;
+    }
+
+    void record(int index, ValidationError error) {
+        codes[index] = error.getCode();
+        counts[error.ordinal()]++;
+    }
+
+    /**
+     * Retrieves the number of records covered by this report.
+     *
+     * @return the number of validated records
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the validation outcome of a record.
+     *
+     * @param index the record index
+     * @return the first violated rule, or {@link ValidationError#NONE}
+     */
+    public ValidationError getError(int index) {
+        return ValidationError.fromCode(codes[checkIndex(index)]);
+    }
+
+    /**
+     * Determines whether a record passed validation.
+     *
+     * @param index the record index
+     * @return true if the record is valid
+     */
+    public boolean isValid(int index) {
+        return codes[checkIndex(index)] == ValidationError.NONE.getCode();
+    }
+
+    /**
+     * Retrieves the number of records that passed validation.
+     *
+     * @return the valid record count
+     */
+    public int getValidCount() {
+        return counts[ValidationError.NONE.ordinal()];
+    }
+
+    /**
+     * Retrieves the number of records that failed validation.
+     *
+     * @return the invalid record count
+     */
+    public int getInvalidCount() {
+        return size - getValidCount();
+    }
+
+    /**
+     * Retrieves the number of records with a given outcome.
+     *
+     * @param error the outcome to count
+     * @return the number of records with that outcome
+     */
+    public int getErrorCount(ValidationError error) {
+        return counts[error.ordinal()];
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for report size " + size);
+        }
+        return index;
+    }
+}
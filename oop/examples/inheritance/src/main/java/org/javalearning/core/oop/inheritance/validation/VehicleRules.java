@@ -0,0 +1,79 @@
+package org.javalearning.core.oop.inheritance.validation;
+
+/**
+ * Holds the validation rules of the vehicle hierarchy as allocation-free,
+ * non-throwing checks.
+ *
+ * <p><strong>Rules:</strong>
+ * <ul>
+ *   <li>Brand must be non-null and contain at least one character above
+ *       {@code U+0020}, matching {@code brand.trim().isEmpty()} without creating a
+ *       trimmed copy</li>
+ *   <li>Year must not be negative</li>
+ *   <li>Cars must have a positive number of doors</li>
+ * </ul>
+ *
+ * <p>Checks return {@link ValidationError#NONE} for valid input, so callers
+ * decide whether to throw, record the error code or skip the record.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+public final class VehicleRules {
+
+    private VehicleRules() {
+    }
+
+    /**
+     * Determines whether a brand would be rejected by the vehicle constructors.
+     * Uses the same whitespace definition as {@link String#trim()}.
+     *
+     * @param brand the brand to check
+     * @return true if brand is null or consists only of characters up to {@code U+0020}
+     */
+    public static boolean isBlank(CharSequence brand) {
+        if (brand == null) {
+            return true;
+        }
+        for (int i = 0, n = brand.length(); i < n; i++) {
+            if (brand.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks the rules shared by every vehicle type.
+     *
+     * @param brand the manufacturer brand
+     * @param year the manufacturing year
+     * @return the first violated rule, or {@link ValidationError#NONE}
+     */
+    public static ValidationError checkVehicle(CharSequence brand, int year) {
+        if (isBlank(brand)) {
+            return ValidationError.INVALID_BRAND;
+        }
+        if (year < 0) {
+            return ValidationError.NEGATIVE_YEAR;
+        }
+        return ValidationError.NONE;
+    }
+
+    /**
+     * Checks the rules for a car, in the order the {@code Car} constructor applies them.
+     *
+     * @param brand the manufacturer brand
+     * @param year the manufacturing year
+     * @param numDoors the number of doors
+     * @return the first violated rule, or {@link ValidationError#NONE}
+     */
+    public static ValidationError checkCar(CharSequence brand, int year, int numDoors) {
+        ValidationError error = checkVehicle(brand, year);
+        if (error != ValidationError.NONE) {
+            return error;
+        }
+        return numDoors <= 0 ? ValidationError.NON_POSITIVE_DOORS : ValidationError.NONE;
+    }
+}
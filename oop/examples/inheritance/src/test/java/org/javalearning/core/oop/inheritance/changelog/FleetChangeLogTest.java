@@ -0,0 +1,120 @@
+package org.javalearning.core.oop.inheritance.changelog;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Recovery tests for {@link FleetChangeLog}: every test writes through one log,
+ * closes it and checks what a freshly opened log recovers from the directory.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+class FleetChangeLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reopenAfterCloseRecoversInsertsAndDeletes() throws IOException {
+        try (FleetChangeLog log = FleetChangeLog.open(directory, SyncPolicy.ALWAYS)) {
+            log.insert(1, new Car("Toyota", 2020, 4));
+            log.insert(2, new Motorcycle("Ducati", 2019, false));
+            log.insert(3, new Vehicle("Volvo", 2001));
+            log.insert(1, new Car("Toyota", 2021, 2));
+            log.delete(3);
+        }
+
+        try (FleetChangeLog log = FleetChangeLog.open(directory, SyncPolicy.ALWAYS)) {
+            assertThat(log.size()).isEqualTo(2);
+            assertThat(log.getLastSequence()).isEqualTo(5);
+            assertThat(log.get(1)).isEqualTo(new Car("Toyota", 2021, 2));
+            assertThat(log.get(2)).isEqualTo(new Motorcycle("Ducati", 2019, false));
+            assertThat(log.containsId(3)).isFalse();
+        }
+    }
+
+    @Test
+    void reopenTruncatesTornTailOfLastSegment() throws IOException {
+        try (FleetChangeLog log = FleetChangeLog.open(directory, SyncPolicy.ALWAYS)) {
+            log.insert(1, new Car("Kia", 2018, 5));
+            log.insert(2, new Car("Audi", 2022, 3));
+        }
+        List<Path> segments = ChangeLogFiles.segments(directory);
+        assertThat(segments).hasSize(1);
+        Path segment = segments.get(0);
+        long intactSize = Files.size(segment);
+        // A frame header promising more payload than was written, as a crash mid-write leaves it
+        Files.write(segment, new byte[] {0, 0, 0, 64, 1, 2, 3, 4, 5, 6}, StandardOpenOption.APPEND);
+
+        try (FleetChangeLog log = FleetChangeLog.open(directory, SyncPolicy.ALWAYS)) {
+            assertThat(Files.size(segment)).isEqualTo(intactSize);
+            assertThat(log.size()).isEqualTo(2);
+            assertThat(log.getLastSequence()).isEqualTo(2);
+            log.insert(3, new Vehicle("Honda", 2015));
+        }
+
+        try (FleetChangeLog log = FleetChangeLog.open(directory, SyncPolicy.ALWAYS)) {
+            assertThat(log.size()).isEqualTo(3);
+            assertThat(log.get(2)).isEqualTo(new Car("Audi", 2022, 3));
+            assertThat(log.get(3)).isEqualTo(new Vehicle("Honda", 2015));
+        }
+    }
+
+    @Test
+    void reopenAfterCompactionRecoversSnapshotAndLaterChanges() throws Exception {
+        try (FleetChangeLog log = FleetChangeLog.open(directory, SyncPolicy.PERIODIC)) {
+            for (long id = 0; id < 100; id++) {
+                log.insert(id, new Car("Tesla", 2000 + (int) (id % 25), 4));
+            }
+            for (long id = 0; id < 100; id += 10) {
+                log.delete(id);
+            }
+            Path snapshot = log.compact().get();
+            assertThat(snapshot).exists();
+            log.insert(100, new Motorcycle("Harley Davidson", 2024, true));
+            log.delete(1);
+        }
+        assertThat(ChangeLogFiles.snapshots(directory)).hasSize(1);
+
+        try (FleetChangeLog log = FleetChangeLog.open(directory, SyncPolicy.ALWAYS)) {
+            assertThat(log.size()).isEqualTo(90);
+            assertThat(log.getLastSequence()).isEqualTo(112);
+            assertThat(log.containsId(0)).isFalse();
+            assertThat(log.containsId(1)).isFalse();
+            assertThat(log.get(42)).isEqualTo(new Car("Tesla", 2017, 4));
+            assertThat(log.get(100)).isEqualTo(new Motorcycle("Harley Davidson", 2024, true));
+        }
+    }
+
+    @Test
+    void reopenWithMissingSegmentFails() throws IOException {
+        try (FleetChangeLog log = FleetChangeLog.open(directory, SyncPolicy.ALWAYS)) {
+            log.insert(1, new Car("BMW", 2010, 4));
+            log.insert(2, new Car("BMW", 2011, 4));
+        }
+        try (FleetChangeLog log = FleetChangeLog.open(directory, SyncPolicy.ALWAYS)) {
+            log.insert(3, new Car("Ford", 2012, 2));
+        }
+        List<Path> segments = ChangeLogFiles.segments(directory);
+        assertThat(segments).hasSize(2);
+        Files.delete(segments.get(0));
+
+        assertThatThrownBy(() -> FleetChangeLog.open(directory, SyncPolicy.ALWAYS))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("missing");
+    }
+}
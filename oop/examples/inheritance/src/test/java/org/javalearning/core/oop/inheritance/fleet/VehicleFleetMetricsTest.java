@@ -0,0 +1,65 @@
+package org.javalearning.core.oop.inheritance.fleet;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.metrics.MetricsSnapshot;
+import org.javalearning.core.oop.inheritance.metrics.VehicleMetrics;
+import org.javalearning.core.oop.inheritance.validation.ValidationError;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests that {@link VehicleFleet} counts rows in {@link VehicleMetrics} like
+ * the constructors count objects: once when added, never when read back.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+class VehicleFleetMetricsTest {
+
+    @Test
+    void addedRowsAreCountedOnceAndViewsNotAtAll() {
+        VehicleFleet fleet = new VehicleFleet();
+        MetricsSnapshot before = VehicleMetrics.snapshot();
+
+        fleet.addCar("Toyota", 2020, 4);
+        fleet.addMotorcycle("Ducati", 2019, true);
+        fleet.addVehicle("Volvo", 2001);
+        for (int i = 0; i < fleet.size(); i++) {
+            fleet.get(i);
+        }
+
+        MetricsSnapshot counted = VehicleMetrics.snapshot().since(before);
+        assertThat(counted.getCreatedCount(VehicleType.CAR)).isEqualTo(1);
+        assertThat(counted.getCreatedCount(VehicleType.MOTORCYCLE)).isEqualTo(1);
+        assertThat(counted.getCreatedCount(VehicleType.VEHICLE)).isEqualTo(1);
+    }
+
+    @Test
+    void copiedObjectIsNotCountedAgain() {
+        VehicleFleet fleet = new VehicleFleet();
+        Car car = new Car("BMW", 2021, 2);
+        MetricsSnapshot before = VehicleMetrics.snapshot();
+
+        fleet.add(car);
+
+        assertThat(VehicleMetrics.snapshot().since(before).getTotalCreatedCount()).isZero();
+        assertThat(fleet.get(0)).isEqualTo(car);
+    }
+
+    @Test
+    void rejectedRowsAreCountedPerRule() {
+        VehicleFleet fleet = new VehicleFleet();
+        MetricsSnapshot before = VehicleMetrics.snapshot();
+
+        assertThatThrownBy(() -> fleet.addCar("Kia", 2020, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> fleet.addVehicle("", 2020)).isInstanceOf(IllegalArgumentException.class);
+
+        MetricsSnapshot counted = VehicleMetrics.snapshot().since(before);
+        assertThat(counted.getRejectedCount(ValidationError.NON_POSITIVE_DOORS)).isEqualTo(1);
+        assertThat(counted.getRejectedCount(ValidationError.INVALID_BRAND)).isEqualTo(1);
+        assertThat(counted.getTotalCreatedCount()).isZero();
+    }
+}
@@ -0,0 +1,151 @@
+package org.javalearning.core.oop.inheritance.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Compares {@link RowBitmap} against {@link BitSet} on chunks around the
+ * array/word container boundary, so that building and every boolean operation
+ * cross it in both directions.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+class RowBitmapTest {
+    private static final int CHUNK = 1 << 16;
+    // Rows per chunk: empty, sparse, at and just past the array limit, dense and full
+    private static final int[] FILLS = {
+        0, 1, 100, RowBitmap.ARRAY_LIMIT, RowBitmap.ARRAY_LIMIT + 1, 20_000, CHUNK
+    };
+
+    @Test
+    void builtBitmapHoldsExactlyTheAddedRows() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int fill : FILLS) {
+            BitSet expected = randomRows(random, fill, fill / 2);
+            assertMatches(build(expected), expected);
+        }
+    }
+
+    @Test
+    void booleanOperationsMatchBitSet() {
+        SplittableRandom random = new SplittableRandom(2);
+        for (int fillA : FILLS) {
+            for (int fillB : FILLS) {
+                BitSet a = randomRows(random, fillA, fillB);
+                BitSet b = randomRows(random, fillB, fillA);
+                RowBitmap left = build(a);
+                RowBitmap right = build(b);
+
+                BitSet and = (BitSet) a.clone();
+                and.and(b);
+                BitSet or = (BitSet) a.clone();
+                or.or(b);
+                BitSet andNot = (BitSet) a.clone();
+                andNot.andNot(b);
+
+                assertMatches(left.and(right), and);
+                assertMatches(left.or(right), or);
+                assertMatches(left.andNot(right), andNot);
+            }
+        }
+    }
+
+    @Test
+    void overlappingSparseChunksMergeIntoDenseAndBack() {
+        // Two disjoint halves of one chunk: each fits an array, their union does not
+        BitSet even = new BitSet();
+        BitSet odd = new BitSet();
+        for (int row = 0; row < 2 * RowBitmap.ARRAY_LIMIT; row++) {
+            (row % 2 == 0 ? even : odd).set(row);
+        }
+        RowBitmap union = build(even).or(build(odd));
+        BitSet all = (BitSet) even.clone();
+        all.or(odd);
+        assertMatches(union, all);
+
+        // Removing one half again brings the dense chunk back under the limit
+        assertMatches(union.andNot(build(odd)), even);
+        assertMatches(union.and(build(even)), even);
+        assertThat(union.andNot(union).isEmpty()).isTrue();
+    }
+
+    @Test
+    void multiWayUnionMatchesBitSet() {
+        SplittableRandom random = new SplittableRandom(3);
+        List<RowBitmap> bitmaps = new ArrayList<>();
+        BitSet expected = new BitSet();
+        for (int fill : FILLS) {
+            BitSet rows = randomRows(random, fill, RowBitmap.ARRAY_LIMIT / 2);
+            bitmaps.add(build(rows));
+            expected.or(rows);
+        }
+        RowBitmap[] array = bitmaps.toArray(new RowBitmap[0]);
+
+        assertMatches(RowBitmap.union(array, 0, array.length), expected);
+        assertThat(RowBitmap.union(array, 2, 3)).isSameAs(array[2]);
+    }
+
+    @Test
+    void builderRejectsRowsOutOfOrder() {
+        RowBitmap.Builder builder = new RowBitmap.Builder();
+        builder.add(5);
+        assertThatThrownBy(() -> builder.add(5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.add(4)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(RowBitmap.empty().cardinality()).isZero();
+        assertThat(new RowBitmap.Builder().build()).isSameAs(RowBitmap.empty());
+    }
+
+    // Fills chunk 0 with fillA rows, chunk 1 with fillB rows and chunk 3 with a
+    // few rows, leaving chunk 2 empty to exercise missing keys
+    private static BitSet randomRows(SplittableRandom random, int fillA, int fillB) {
+        BitSet rows = new BitSet();
+        fill(random, rows, 0, fillA);
+        fill(random, rows, CHUNK, fillB);
+        fill(random, rows, 3 * CHUNK, 3);
+        return rows;
+    }
+
+    private static void fill(SplittableRandom random, BitSet rows, int chunkStart, int count) {
+        if (count == CHUNK) {
+            rows.set(chunkStart, chunkStart + CHUNK);
+            return;
+        }
+        int added = 0;
+        while (added < count) {
+            int row = chunkStart + random.nextInt(CHUNK);
+            if (!rows.get(row)) {
+                rows.set(row);
+                added++;
+            }
+        }
+    }
+
+    private static RowBitmap build(BitSet rows) {
+        RowBitmap.Builder builder = new RowBitmap.Builder();
+        rows.stream().forEach(builder::add);
+        return builder.build();
+    }
+
+    private static void assertMatches(RowBitmap actual, BitSet expected) {
+        assertThat(actual.cardinality()).isEqualTo(expected.cardinality());
+        assertThat(actual.isEmpty()).isEqualTo(expected.isEmpty());
+        int[] rows = expected.stream().toArray();
+        assertThat(actual.toArray()).isEqualTo(rows);
+        int[] visited = new int[rows.length];
+        int[] count = new int[1];
+        actual.forEach(row -> visited[count[0]++] = row);
+        assertThat(visited).isEqualTo(rows);
+        for (int probe : new int[] {0, 1, CHUNK - 1, CHUNK, 2 * CHUNK + 7, 3 * CHUNK + 1}) {
+            assertThat(actual.contains(probe)).as("row %d", probe).isEqualTo(expected.get(probe));
+        }
+    }
+}
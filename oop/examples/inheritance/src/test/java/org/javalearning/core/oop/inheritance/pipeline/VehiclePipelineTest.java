@@ -0,0 +1,93 @@
+package org.javalearning.core.oop.inheritance.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link VehiclePipeline}: the summary of a clean run and the
+ * failure of a run whose report channel breaks.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+class VehiclePipelineTest {
+    private static final int RECORDS = 20_000;
+
+    @Test
+    void completeSummarizesAcceptedAndRejectedRecords() {
+        VehiclePipeline pipeline = new VehiclePipeline(Channels.newChannel(OutputStream.nullOutputStream()));
+        for (int i = 0; i < RECORDS; i++) {
+            addRecord(pipeline, i);
+        }
+
+        PipelineSummary summary = pipeline.complete().join();
+
+        assertThat(summary.getRecordCount()).isEqualTo(RECORDS);
+        assertThat(summary.getRejectedCount()).isEqualTo(RECORDS / 100);
+        assertThat(summary.getRenderedCount()).isEqualTo(RECORDS - RECORDS / 100);
+    }
+
+    @Test
+    void completeFailsWhenRenderFailsAfterAggregateFinished() {
+        // Repeated because the order in which the sinks settle varies between runs
+        for (int run = 0; run < 20; run++) {
+            VehiclePipeline pipeline = new VehiclePipeline(new FailingChannel());
+            try {
+                for (int i = 0; i < RECORDS; i++) {
+                    addRecord(pipeline, i);
+                }
+            } catch (IllegalStateException e) {
+                // The pipeline stopped accepting records after render failed
+            }
+
+            assertThatThrownBy(() -> pipeline.complete().join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasRootCauseInstanceOf(IOException.class)
+                    .hasRootCauseMessage("Report channel broken");
+        }
+    }
+
+    private static void addRecord(VehiclePipeline pipeline, int i) {
+        // One record in a hundred has an empty brand and is rejected
+        String brand = i % 100 == 0 ? "" : "Brand" + i % 7;
+        switch (i % 3) {
+            case 0:
+                pipeline.addCar(brand, 2000 + i % 25, 2 + i % 4);
+                break;
+            case 1:
+                pipeline.addMotorcycle(brand, 2000 + i % 25, i % 2 == 0);
+                break;
+            default:
+                pipeline.addVehicle(brand, 2000 + i % 25);
+        }
+    }
+
+    /**
+     * A report channel whose every write fails.
+     */
+    private static final class FailingChannel implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            throw new IOException("Report channel broken");
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
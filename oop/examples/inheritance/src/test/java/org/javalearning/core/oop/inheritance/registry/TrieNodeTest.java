@@ -0,0 +1,158 @@
+package org.javalearning.core.oop.inheritance.registry;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link TrieNode} against a {@link HashMap}: lookups and iteration after
+ * every update, the shape invariants that keep the trie compact, and the
+ * immutability of earlier roots.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+class TrieNodeTest {
+
+    @Test
+    void randomPutsAndRemovesMatchHashMap() {
+        SplittableRandom random = new SplittableRandom(1);
+        Map<Long, Vehicle> expected = new HashMap<>();
+        TrieNode root = TrieNode.EMPTY;
+        for (int step = 0; step < 20_000; step++) {
+            long id = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                Vehicle[] removed = new Vehicle[1];
+                root = remove(root, id, removed);
+                assertThat(removed[0]).isSameAs(expected.remove(id));
+            } else {
+                Vehicle vehicle = new Car("Brand" + random.nextInt(5), 2000 + step % 25, 4);
+                Vehicle[] previous = new Vehicle[1];
+                root = TrieNode.put(root, id, TrieNode.hash(id), vehicle, 0, previous);
+                assertThat(previous[0]).isSameAs(expected.put(id, vehicle));
+            }
+            if (step % 1_000 == 0) {
+                assertMatches(root, expected);
+            }
+        }
+        assertMatches(root, expected);
+    }
+
+    @Test
+    void idsSharingHashPrefixesBuildDeepPathsThatCollapseOnRemoval() {
+        // Ids whose hashes agree in the lowest 15 bits share the first three levels
+        List<Long> ids = idsWithSameLowHashBits(15, 6);
+        Map<Long, Vehicle> expected = new HashMap<>();
+        TrieNode root = TrieNode.EMPTY;
+        for (long id : ids) {
+            Vehicle vehicle = new Vehicle("Kia", 2000 + expected.size());
+            root = TrieNode.put(root, id, TrieNode.hash(id), vehicle, 0, new Vehicle[1]);
+            expected.put(id, vehicle);
+            assertMatches(root, expected);
+        }
+        assertThat(depth(root)).isGreaterThan(3);
+
+        for (long id : ids) {
+            root = remove(root, id, new Vehicle[1]);
+            expected.remove(id);
+            assertMatches(root, expected);
+        }
+        assertThat(root).isSameAs(TrieNode.EMPTY);
+    }
+
+    @Test
+    void earlierRootsAreUnchangedByLaterUpdates() {
+        TrieNode root = TrieNode.EMPTY;
+        for (long id = 0; id < 500; id++) {
+            root = TrieNode.put(root, id, TrieNode.hash(id), new Vehicle("Audi", 2000), 0, new Vehicle[1]);
+        }
+        TrieNode snapshot = root;
+        Map<Long, Vehicle> before = contents(snapshot);
+
+        for (long id = 0; id < 500; id += 2) {
+            root = remove(root, id, new Vehicle[1]);
+        }
+        root = TrieNode.put(root, 1, TrieNode.hash(1), new Vehicle("BMW", 2020), 0, new Vehicle[1]);
+
+        assertThat(contents(snapshot)).isEqualTo(before);
+        assertThat(contents(root)).hasSize(250);
+    }
+
+    @Test
+    void putOfSameVehicleAndRemoveOfAbsentIdReturnTheSameNode() {
+        Vehicle vehicle = new Vehicle("Volvo", 1999);
+        TrieNode root = TrieNode.put(TrieNode.EMPTY, 7, TrieNode.hash(7), vehicle, 0, new Vehicle[1]);
+        root = TrieNode.put(root, 8, TrieNode.hash(8), vehicle, 0, new Vehicle[1]);
+
+        assertThat(TrieNode.put(root, 7, TrieNode.hash(7), vehicle, 0, new Vehicle[1])).isSameAs(root);
+        Vehicle[] removed = new Vehicle[1];
+        assertThat(remove(root, 9, removed)).isSameAs(root);
+        assertThat(removed[0]).isNull();
+    }
+
+    private static TrieNode remove(TrieNode root, long id, Vehicle[] removed) {
+        // At the root, remove always returns a node
+        return (TrieNode) TrieNode.remove(root, id, TrieNode.hash(id), 0, removed);
+    }
+
+    private static List<Long> idsWithSameLowHashBits(int bits, int count) {
+        long mask = (1L << bits) - 1;
+        long target = TrieNode.hash(0) & mask;
+        List<Long> ids = new ArrayList<>();
+        for (long id = 0; ids.size() < count; id++) {
+            if ((TrieNode.hash(id) & mask) == target) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static void assertMatches(TrieNode root, Map<Long, Vehicle> expected) {
+        assertThat(contents(root)).isEqualTo(expected);
+        for (Map.Entry<Long, Vehicle> entry : expected.entrySet()) {
+            assertThat(TrieNode.get(root, entry.getKey())).isSameAs(entry.getValue());
+        }
+        assertThat(TrieNode.get(root, -1)).isNull();
+        assertThat(entries(root, true)).isEqualTo(expected.size());
+    }
+
+    private static Map<Long, Vehicle> contents(TrieNode root) {
+        Map<Long, Vehicle> contents = new HashMap<>();
+        TrieNode.forEach(root, (id, vehicle) -> assertThat(contents.put(id, vehicle)).isNull());
+        return contents;
+    }
+
+    // Checks the shape of every node and returns the number of entries below it.
+    // A node below the root must hold at least two entries; a subtree with one
+    // entry is collapsed into its parent's slot.
+    private static int entries(TrieNode node, boolean root) {
+        assertThat(node.slots).hasSize(Integer.bitCount(node.bitmap));
+        int count = 0;
+        for (Object slot : node.slots) {
+            count += slot instanceof TrieNode child ? entries(child, false) : 1;
+        }
+        if (!root) {
+            assertThat(count).as("entries below a non-root node").isGreaterThanOrEqualTo(2);
+        }
+        return count;
+    }
+
+    private static int depth(TrieNode node) {
+        int depth = 0;
+        for (Object slot : node.slots) {
+            if (slot instanceof TrieNode child) {
+                depth = Math.max(depth, depth(child));
+            }
+        }
+        return depth + 1;
+    }
+}
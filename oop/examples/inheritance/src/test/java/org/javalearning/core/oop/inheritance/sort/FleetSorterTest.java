@@ -0,0 +1,177 @@
+package org.javalearning.core.oop.inheritance.sort;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.fleet.VehicleFleet;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares {@link FleetSorter} against {@link Arrays#sort(Object[], Comparator)}
+ * with an equivalent comparator, on random fleets split into several chunks.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+class FleetSorterTest {
+    private static final String[] BRANDS = {
+        "Toyota", "Ford", "BMW", "bmw", "Honda", "Ducati", "Tesla", "Kia", "Audi", "Harley Davidson", "Škoda"
+    };
+    private static final List<FleetSortOrder> ORDERS = List.of(
+            FleetSortOrder.by(SortField.YEAR),
+            FleetSortOrder.byDescending(SortField.YEAR).then(SortField.BRAND),
+            FleetSortOrder.by(SortField.BRAND).thenDescending(SortField.DOORS).then(SortField.TYPE),
+            FleetSortOrder.byDescending(SortField.TYPE).thenDescending(SortField.BRAND).then(SortField.YEAR),
+            FleetSortOrder.byDescending(SortField.DOORS));
+
+    // Four chunks of at least 128 rows, whatever the machine's core count
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final FleetSorter sorter = new FleetSorter(pool, 128);
+
+    @AfterEach
+    void shutDownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void sortMatchesComparatorAcrossChunks() {
+        for (int size : new int[] {1, 100, 5_000}) {
+            VehicleFleet fleet = randomFleet(size, size);
+            for (FleetSortOrder order : ORDERS) {
+                assertThat(sorter.sort(fleet, order))
+                        .as("%s over %d rows", order, size)
+                        .containsExactly(expectedRows(fleet, order));
+            }
+        }
+    }
+
+    @Test
+    void constantKeySortsByRowIndex() {
+        VehicleFleet fleet = new VehicleFleet();
+        for (int i = 0; i < 1_000; i++) {
+            fleet.addCar("Kia", 2020, 4);
+        }
+        int[] identity = new int[fleet.size()];
+        Arrays.setAll(identity, i -> i);
+
+        assertThat(sorter.sort(fleet, FleetSortOrder.byDescending(SortField.BRAND).then(SortField.YEAR)))
+                .containsExactly(identity);
+    }
+
+    @Test
+    void topKMatchesPrefixOfSortedOrder() {
+        VehicleFleet fleet = randomFleet(5_000, 7L);
+        for (FleetSortOrder order : ORDERS) {
+            int[] expected = expectedRows(fleet, order);
+            for (int k : new int[] {0, 1, 10, 1_000, fleet.size(), fleet.size() + 5}) {
+                assertThat(sorter.topK(fleet, order, k))
+                        .as("top %d by %s", k, order)
+                        .containsExactly(Arrays.copyOf(expected, Math.min(k, expected.length)));
+            }
+        }
+    }
+
+    @Test
+    void topKOverCandidateRowsMatchesComparator() {
+        VehicleFleet fleet = randomFleet(5_000, 11L);
+        int[] candidates = new SplittableRandom(3).ints(1_500, 0, fleet.size()).distinct().toArray();
+        Comparator<Integer> comparator = rowComparator(fleet, ORDERS.get(2));
+        Integer[] sorted = Arrays.stream(candidates).boxed().toArray(Integer[]::new);
+        Arrays.sort(sorted, comparator);
+        int[] expected = Arrays.stream(sorted).mapToInt(Integer::intValue).toArray();
+
+        for (int k : new int[] {1, 50, candidates.length + 1}) {
+            assertThat(sorter.topK(fleet, candidates, ORDERS.get(2), k))
+                    .containsExactly(Arrays.copyOf(expected, Math.min(k, expected.length)));
+        }
+    }
+
+    @Test
+    void arraySortIsStableAndMatchesComparator() {
+        VehicleFleet fleet = randomFleet(3_000, 5L);
+        Vehicle[] vehicles = new Vehicle[fleet.size()];
+        Arrays.setAll(vehicles, fleet::get);
+        for (FleetSortOrder order : ORDERS) {
+            Vehicle[] expected = vehicles.clone();
+            Arrays.sort(expected, vehicleComparator(order));
+            Vehicle[] actual = vehicles.clone();
+
+            sorter.sort(actual, order);
+
+            for (int i = 0; i < actual.length; i++) {
+                assertThat(actual[i]).as("%s at %d", order, i).isSameAs(expected[i]);
+            }
+        }
+    }
+
+    private static VehicleFleet randomFleet(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        VehicleFleet fleet = new VehicleFleet(size);
+        for (int i = 0; i < size; i++) {
+            String brand = BRANDS[random.nextInt(BRANDS.length)];
+            int year = 1900 + random.nextInt(130);
+            switch (random.nextInt(3)) {
+                case 0:
+                    fleet.addCar(brand, year, 1 + random.nextInt(6));
+                    break;
+                case 1:
+                    fleet.addMotorcycle(brand, year, random.nextBoolean());
+                    break;
+                default:
+                    fleet.addVehicle(brand, year);
+            }
+        }
+        return fleet;
+    }
+
+    private static int[] expectedRows(VehicleFleet fleet, FleetSortOrder order) {
+        Integer[] rows = new Integer[fleet.size()];
+        Arrays.setAll(rows, i -> i);
+        Arrays.sort(rows, rowComparator(fleet, order));
+        return Arrays.stream(rows).mapToInt(Integer::intValue).toArray();
+    }
+
+    // Ties are broken by row index, which the sorter packs into the low key bits
+    private static Comparator<Integer> rowComparator(VehicleFleet fleet, FleetSortOrder order) {
+        Comparator<Integer> byLevels = levels(order, fleet::get);
+        return byLevels.thenComparing(Comparator.naturalOrder());
+    }
+
+    private static Comparator<Vehicle> vehicleComparator(FleetSortOrder order) {
+        return levels(order, vehicle -> vehicle);
+    }
+
+    private static <T> Comparator<T> levels(FleetSortOrder order, Function<T, Vehicle> vehicleOf) {
+        Comparator<T> comparator = (a, b) -> 0;
+        for (int level = 0; level < order.size(); level++) {
+            Comparator<Vehicle> field = fieldComparator(order.getField(level));
+            Comparator<Vehicle> directed = order.isDescending(level) ? field.reversed() : field;
+            comparator = comparator.thenComparing(vehicleOf, directed);
+        }
+        return comparator;
+    }
+
+    private static Comparator<Vehicle> fieldComparator(SortField field) {
+        switch (field) {
+            case BRAND:
+                return Comparator.comparing(Vehicle::getBrand);
+            case YEAR:
+                return Comparator.comparingInt(Vehicle::getYear);
+            case TYPE:
+                return Comparator.comparingInt(vehicle -> VehicleType.of(vehicle).getTag());
+            default:
+                return Comparator.comparingInt(vehicle -> vehicle instanceof Car car ? car.getNumDoors() : 0);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.javalearning.core.oop.inheritance.storage;
+
+import org.javalearning.core.oop.inheritance.basic.Car;
+import org.javalearning.core.oop.inheritance.basic.Motorcycle;
+import org.javalearning.core.oop.inheritance.basic.Vehicle;
+import org.javalearning.core.oop.inheritance.brand.BrandRegistry;
+import org.javalearning.core.oop.inheritance.fleet.VehicleType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link VehicleArena}: records round-trip through the arena, rejected
+ * vehicles leave no trace, and a closed arena refuses access.
+ *
+ * @author Logic Luminary
+ * @version 1.0
+ * @since 1.0
+ */
+class VehicleArenaTest {
+
+    @Test
+    void recordsRoundTripWithTheirConcreteType() {
+        try (VehicleArena arena = new VehicleArena()) {
+            arena.add(new Car("Toyota", 2020, 4));
+            arena.add(new Motorcycle("Ducati", 2019, true));
+            arena.add(new Vehicle("Volvo", 2001));
+
+            assertThat(arena.size()).isEqualTo(3);
+            assertThat(arena.getType(0)).isEqualTo(VehicleType.CAR);
+            assertThat(arena.getNumDoors(0)).isEqualTo(4);
+            assertThat(arena.getHasSideCar(1)).isTrue();
+            assertThat(arena.getYear(2)).isEqualTo(2001);
+            assertThat(arena.get(0)).isEqualTo(new Car("Toyota", 2020, 4));
+            assertThat(arena.get(1)).isEqualTo(new Motorcycle("Ducati", 2019, true));
+            assertThat(arena.get(2)).isEqualTo(new Vehicle("Volvo", 2001));
+        }
+    }
+
+    @Test
+    void rejectedVehicleDoesNotRegisterItsBrand() {
+        BrandRegistry brands = new BrandRegistry();
+        for (int i = 0; i < FleetFile.MAX_BRANDS; i++) {
+            brands.register("Brand" + i);
+        }
+        try (VehicleArena arena = new VehicleArena(brands)) {
+            assertThatThrownBy(() -> arena.addVehicle("One Brand Too Many", 2020))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> arena.addCar("Another New Brand", 2020, 300))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            assertThat(brands.size()).isEqualTo(FleetFile.MAX_BRANDS);
+            assertThat(brands.idOf("One Brand Too Many")).isEqualTo(-1);
+            assertThat(arena.addVehicle("Brand7", 2020)).isZero();
+            assertThat(arena.getBrand(0)).isEqualTo("Brand7");
+        }
+    }
+
+    @Test
+    void closedArenaRefusesAccess() {
+        VehicleArena arena = new VehicleArena();
+        arena.addVehicle("Kia", 2015);
+        arena.close();
+        arena.close();
+
+        assertThat(arena.isOpen()).isFalse();
+        assertThat(arena.getReservedBytes()).isZero();
+        assertThatThrownBy(() -> arena.getYear(0)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> arena.addVehicle("Kia", 2016)).isInstanceOf(IllegalStateException.class);
+    }
+}